@@ -0,0 +1,20 @@
+package com.example.arkanoidgame;
+
+import android.os.Trace;
+
+import com.example.arkanoidgame.core.TraceRecorder;
+
+/**
+ * AndroidTraceSink — Reenvía las secciones de TraceRecorder a
+ * android.os.Trace, para verlas junto a las del sistema en systrace o
+ * Perfetto. Fuera de una captura, Trace.beginSection() apenas cuesta.
+ */
+final class AndroidTraceSink implements TraceRecorder.Sink {
+
+    static final AndroidTraceSink INSTANCE = new AndroidTraceSink();
+
+    private AndroidTraceSink() {}
+
+    @Override public void beginSection(String name) { Trace.beginSection(name); }
+    @Override public void endSection()               { Trace.endSection(); }
+}
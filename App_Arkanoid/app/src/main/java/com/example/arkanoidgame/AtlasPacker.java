@@ -0,0 +1,67 @@
+package com.example.arkanoidgame;
+
+/**
+ * AtlasPacker — Coloca rectángulos en estantes dentro de un ancho máximo.
+ *
+ * Cada sprite se pone a la derecha del anterior; si no cabe, se abre un
+ * estante nuevo debajo del más alto de la fila. Entre sprites se deja
+ * un hueco para que el filtrado al escalar no mezcle vecinos.
+ * No depende de Android: solo calcula posiciones.
+ */
+public class AtlasPacker {
+
+    private final int maxWidth;
+    private final int spacing;
+
+    private int[] x = new int[16], y = new int[16], w = new int[16], h = new int[16];
+    private int count = 0;
+    private int cursorX, shelfY, shelfHeight;
+    private int width, height;
+
+    public AtlasPacker(int maxWidth, int spacing) {
+        this.maxWidth = maxWidth;
+        this.spacing  = spacing;
+        cursorX = spacing;
+        shelfY  = spacing;
+    }
+
+    /** Reserva un hueco de w × h y devuelve su índice */
+    public int add(int spriteW, int spriteH) {
+        if (spriteW <= 0 || spriteH <= 0 || spriteW + 2 * spacing > maxWidth) {
+            throw new IllegalArgumentException("sprite de " + spriteW + "x" + spriteH + " no cabe");
+        }
+        if (cursorX + spriteW + spacing > maxWidth) {
+            // Estante nuevo
+            shelfY += shelfHeight + spacing;
+            cursorX = spacing;
+            shelfHeight = 0;
+        }
+        if (count == x.length) grow();
+        x[count] = cursorX;
+        y[count] = shelfY;
+        w[count] = spriteW;
+        h[count] = spriteH;
+        cursorX += spriteW + spacing;
+        shelfHeight = Math.max(shelfHeight, spriteH);
+        width  = Math.max(width, cursorX);
+        height = Math.max(height, shelfY + shelfHeight + spacing);
+        return count++;
+    }
+
+    private void grow() {
+        x = java.util.Arrays.copyOf(x, count * 2);
+        y = java.util.Arrays.copyOf(y, count * 2);
+        w = java.util.Arrays.copyOf(w, count * 2);
+        h = java.util.Arrays.copyOf(h, count * 2);
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public int size()        { return count; }
+    public int x(int i)      { return x[i]; }
+    public int y(int i)      { return y[i]; }
+    public int width(int i)  { return w[i]; }
+    public int height(int i) { return h[i]; }
+    /** Tamaño total necesario para todos los sprites */
+    public int getWidth()    { return width; }
+    public int getHeight()   { return height; }
+}
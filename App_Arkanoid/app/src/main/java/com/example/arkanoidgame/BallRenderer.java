@@ -0,0 +1,52 @@
+package com.example.arkanoidgame;
+
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import com.example.arkanoidgame.core.FrameSnapshot;
+
+/**
+ * BallRenderer — Dibuja la pelota de una instantánea del juego con su halo.
+ * Pelota y halo (ya desenfocado) son dos copias del SpriteAtlas: en cada
+ * frame no se evalúa ningún BlurMaskFilter.
+ */
+public class BallRenderer {
+
+    private final RenderResources res;
+    private final SpriteAtlas atlas;
+    private final RectF dst = new RectF();
+
+    public BallRenderer(RenderResources res, SpriteAtlas atlas) {
+        this.res   = res;
+        this.atlas = atlas;
+    }
+
+    /**
+     * Dibuja la pelota interpolando entre el paso anterior y el actual.
+     * @param alpha fracción (0..1) del siguiente paso ya transcurrida
+     */
+    public void draw(Canvas canvas, FrameSnapshot s, float alpha) {
+        float rx = s.ballXAt(alpha);
+        float ry = s.ballYAt(alpha);
+        // Glow (halo) alrededor de la pelota
+        blit(canvas, atlas.glow(), rx, ry);
+        // Pelota sólida
+        blit(canvas, atlas.ball(), rx, ry);
+    }
+
+    /** Copia un sprite del atlas centrado en (cx, cy), a su tamaño */
+    private void blit(Canvas canvas, Rect src, float cx, float cy) {
+        float hw = src.width() / 2f, hh = src.height() / 2f;
+        dst.set(cx - hw, cy - hh, cx + hw, cy + hh);
+        canvas.drawBitmap(atlas.getBitmap(), src, dst, res.spritePaint);
+    }
+
+    /** Añade a 'out' la zona que ocupa la pelota dibujada con el mismo alpha (halo incluido) */
+    public void addBounds(DirtyRegion out, FrameSnapshot s, float alpha) {
+        float rx = s.ballXAt(alpha);
+        float ry = s.ballYAt(alpha);
+        float extent = atlas.getGlowExtent() + 1; // halo + desenfoque + antialias
+        out.add(rx - extent, ry - extent, rx + extent, ry + extent);
+    }
+}
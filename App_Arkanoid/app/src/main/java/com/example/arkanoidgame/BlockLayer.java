@@ -0,0 +1,241 @@
+package com.example.arkanoidgame;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.PorterDuff;
+
+import com.example.arkanoidgame.core.BlockField;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * BlockLayer — Capa de bloques pintada una vez en un bitmap fuera de pantalla.
+ *
+ * El muro de bloques solo cambia cuando la pelota golpea uno, así que no
+ * tiene sentido repintarlo entero en cada frame. Al cargar el nivel se
+ * dibujan todos los bloques en el bitmap; después, en cada frame, solo se
+ * repintan las zonas de los bloques que BlockField marca como modificados
+ * y el frame se limita a copiar el bitmap a la pantalla.
+ *
+ *   nivel nuevo   → rebuild(): borrar bitmap + dibujar todos los vivos
+ *   bloque dañado → zona del bloque: borrar + redibujar él y sus vecinos
+ *   cada frame    → canvas.drawBitmap(capa)
+ *
+ * El bitmap solo cubre el rectángulo que ocupan los bloques, no la pantalla.
+ *
+ * Para que el cambio de nivel no pinte el muro entero en el hilo de
+ * render, prepare() pinta la capa del nivel siguiente en otro bitmap
+ * desde el hilo de precarga (con sus propios Paints); al llegar el
+ * nivel, swapPrepared() solo intercambia los bitmaps.
+ */
+public class BlockLayer {
+
+    // Margen alrededor de cada bloque: el trazo del borde de acero (4 px)
+    // sobresale 2 px del rectángulo del bloque
+    private static final int PAD = 3;
+
+    /** Un bitmap de capa con su canvas, colocado en pantalla en (originX, originY) */
+    private static final class Surface {
+        Bitmap bitmap;
+        Canvas canvas;
+        float originX, originY;
+        int levelNumber;                                 // solo en capas preparadas
+        final BlockField pristine = new BlockField();    // muro tal como se pintó (ídem)
+
+        /** Ajusta el bitmap al rectángulo de los bloques (lo crea si cambia de tamaño) */
+        void fit(BlockField blocks) {
+            // Rectángulo que ocupan los bloques (el último está abajo a la derecha)
+            int last = blocks.size() - 1;
+            float left = blocks.left(0) - PAD, top = blocks.top(0) - PAD;
+            int w = (int) Math.ceil(blocks.right(last) + PAD - left);
+            int h = (int) Math.ceil(blocks.bottom(last) + PAD - top);
+
+            if (bitmap == null || bitmap.getWidth() != w || bitmap.getHeight() != h) {
+                if (bitmap != null) bitmap.recycle();
+                bitmap = Bitmap.createBitmap(w, h, Bitmap.Config.ARGB_8888);
+                canvas = new Canvas(bitmap);
+                // Los bloques se dibujan en coordenadas de pantalla
+                canvas.translate(-left, -top);
+            } else if (left != originX || top != originY) {
+                canvas.translate(originX - left, originY - top);
+            }
+            originX = left;
+            originY = top;
+        }
+
+        /** Borra el bitmap y dibuja todos los bloques vivos */
+        void paintAll(BlockField blocks, BlockRenderer renderer) {
+            bitmap.eraseColor(Color.TRANSPARENT);
+            for (int i = blocks.nextAlive(0); i >= 0; i = blocks.nextAlive(i + 1))
+                renderer.draw(canvas, blocks, i);
+        }
+
+        void release() {
+            if (bitmap != null) bitmap.recycle();
+            bitmap = null;
+            canvas = null;
+        }
+    }
+
+    private final BlockRenderer renderer;
+    private final BlockRenderer prepareRenderer;   // Paints propios del hilo de precarga
+
+    private Surface current = new Surface();
+    private boolean invalid = true;    // hay que repintar la capa entera
+
+    // Capa del nivel siguiente: la deja el hilo de precarga, la recoge el de render
+    private final AtomicReference<Surface> prepared = new AtomicReference<>();
+    private final AtomicReference<Surface> spare    = new AtomicReference<>(); // bitmap para reutilizar
+
+    // Estadísticas para depuración
+    private long fullRebuilds = 0;
+    private long blockRedraws = 0;
+    private long preparedSwaps = 0;
+
+    public BlockLayer(BlockRenderer renderer) {
+        this(renderer, null);
+    }
+
+    /** @param prepareRenderer renderizador exclusivo de prepare() (null = sin capas preparadas) */
+    public BlockLayer(BlockRenderer renderer, BlockRenderer prepareRenderer) {
+        this.renderer        = renderer;
+        this.prepareRenderer = prepareRenderer;
+    }
+
+    /** Fuerza un repintado completo en el próximo frame (nivel nuevo, surface nueva) */
+    public void invalidate() {
+        invalid = true;
+    }
+
+    /** Pone al día la capa y la copia sobre el canvas de la pantalla */
+    public void draw(Canvas canvas, BlockField blocks) {
+        if (blocks.size() == 0) return;
+        if (invalid) {
+            rebuild(blocks);
+        } else if (blocks.hasDirty()) {
+            redrawDirty(blocks);
+        }
+        canvas.drawBitmap(current.bitmap, current.originX, current.originY, null);
+    }
+
+    /** Repinta la capa completa con todos los bloques vivos */
+    private void rebuild(BlockField blocks) {
+        current.fit(blocks);
+        current.paintAll(blocks, renderer);
+        blocks.clearDirty();
+        invalid = false;
+        fullRebuilds++;
+    }
+
+    /** Repinta solo las zonas de los bloques modificados */
+    private void redrawDirty(BlockField blocks) {
+        Canvas layerCanvas = current.canvas;
+        int cols = blocks.getCols(), rows = blocks.getRows();
+        for (int i = blocks.nextDirty(0); i >= 0; i = blocks.nextDirty(i + 1)) {
+            layerCanvas.save();
+            layerCanvas.clipRect(blocks.left(i) - PAD, blocks.top(i) - PAD,
+                                 blocks.right(i) + PAD, blocks.bottom(i) + PAD);
+            layerCanvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+
+            // El margen puede pisar el borde de los vecinos: redibujarlos
+            // también (el recorte limita el trabajo a la zona borrada)
+            int row = i / cols, col = i % cols;
+            for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++)
+                for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++)
+                    renderer.draw(layerCanvas, blocks, r * cols + c); // ignora los muertos
+
+            layerCanvas.restore();
+            blockRedraws++;
+        }
+        blocks.clearDirty();
+    }
+
+    /**
+     * Añade a 'out' las zonas que cambiarán en el próximo draw(): los
+     * bloques modificados, o la capa entera si hay que repintarla.
+     * Debe llamarse antes de draw(), que consume las marcas.
+     */
+    public void addDirtyBounds(DirtyRegion out, BlockField blocks) {
+        if (blocks.size() == 0) return;
+        if (invalid) {
+            int last = blocks.size() - 1;
+            out.add(blocks.left(0) - PAD, blocks.top(0) - PAD,
+                    blocks.right(last) + PAD, blocks.bottom(last) + PAD);
+            return;
+        }
+        for (int i = blocks.nextDirty(0); i >= 0; i = blocks.nextDirty(i + 1))
+            out.add(blocks.left(i) - PAD, blocks.top(i) - PAD,
+                    blocks.right(i) + PAD, blocks.bottom(i) + PAD);
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // CAPA PREPARADA DEL NIVEL SIGUIENTE
+    // ════════════════════════════════════════════════════════════════════
+
+    /**
+     * Pinta la capa completa de un nivel que aún no se juega (hilo de
+     * precarga, ver GameWorld.LevelPrefetchListener). Copia el muro, así
+     * que 'blocks' puede cambiar después.
+     */
+    public void prepare(int levelNumber, BlockField blocks) {
+        if (prepareRenderer == null || blocks.size() == 0) return;
+        Surface s = spare.getAndSet(null);
+        if (s == null) s = new Surface();
+        s.levelNumber = levelNumber;
+        s.pristine.copyFrom(blocks);
+        s.pristine.clearDirty();
+        s.fit(blocks);
+        s.paintAll(blocks, prepareRenderer);
+
+        Surface unused = prepared.getAndSet(s);
+        if (unused != null) spare.compareAndSet(null, unused);
+    }
+
+    /**
+     * Nivel nuevo (hilo de render): si su capa ya está pintada, la pone en
+     * uso y deja en 'shown' una copia de 'latest' con marcados solo los
+     * bloques que han cambiado desde que se pintó.
+     * @return false si no había capa para ese muro (entonces hay que llamar a invalidate())
+     */
+    public boolean swapPrepared(int levelNumber, BlockField shown, BlockField latest) {
+        Surface s = prepared.getAndSet(null);
+        if (s == null) return false;
+        if (s.levelNumber != levelNumber || !sameWall(s.pristine, latest)) {
+            spare.compareAndSet(null, s);
+            return false;
+        }
+        Surface old = current;
+        current = s;
+        if (old.bitmap != null) spare.compareAndSet(null, old);
+
+        shown.copyFrom(s.pristine);
+        shown.clearDirty();
+        shown.copyFrom(latest); // marca lo que se ha golpeado desde entonces
+        invalid = false;
+        preparedSwaps++;
+        return true;
+    }
+
+    /** Mismas dimensiones y misma colocación en pantalla */
+    private static boolean sameWall(BlockField a, BlockField b) {
+        if (a.getRows() != b.getRows() || a.getCols() != b.getCols() || a.size() == 0) return false;
+        int last = a.size() - 1;
+        return a.left(0) == b.left(0) && a.top(0) == b.top(0)
+                && a.right(last) == b.right(last) && a.bottom(last) == b.bottom(last);
+    }
+
+    /** Libera los bitmaps (al destruir la vista) */
+    public void release() {
+        current.release();
+        Surface s = prepared.getAndSet(null);
+        if (s != null) s.release();
+        s = spare.getAndSet(null);
+        if (s != null) s.release();
+        invalid = true;
+    }
+
+    public long getFullRebuilds()  { return fullRebuilds; }
+    public long getBlockRedraws()  { return blockRedraws; }
+    public long getPreparedSwaps() { return preparedSwaps; }
+}
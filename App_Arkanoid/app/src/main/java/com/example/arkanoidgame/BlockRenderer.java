@@ -0,0 +1,45 @@
+package com.example.arkanoidgame;
+
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import com.example.arkanoidgame.core.BlockField;
+
+/**
+ * BlockRenderer — Dibuja los bloques del núcleo de juego.
+ * Cada tipo de bloque, normal u oscurecido por el daño, está ya pintado
+ * en el SpriteAtlas: dibujar un bloque es copiar su trozo (escalado si
+ * el nivel tiene otro tamaño de bloque) y, en el acero, la cruz encima.
+ */
+public class BlockRenderer {
+
+    private static final int PAD = SpriteAtlas.BLOCK_PAD;
+
+    private final RenderResources res;
+    private final SpriteAtlas atlas;
+    private final RectF dst = new RectF();
+
+    public BlockRenderer(RenderResources res, SpriteAtlas atlas) {
+        this.res   = res;
+        this.atlas = atlas;
+    }
+
+    /** Dibuja el bloque de índice i del campo de bloques */
+    public void draw(Canvas canvas, BlockField blocks, int i) {
+        if (!blocks.isAlive(i)) return;
+        Rect src = atlas.block(blocks.getType(i), blocks.isDamaged(i));
+        if (src == null) return;
+        dst.set(blocks.left(i) - PAD, blocks.top(i) - PAD, blocks.right(i) + PAD, blocks.bottom(i) + PAD);
+        canvas.drawBitmap(atlas.getBitmap(), src, dst, res.spritePaint);
+
+        // Cruz metálica encima del bloque de acero
+        if (blocks.isSteel(i)) {
+            Rect cross = atlas.steelCross();
+            float cx = blocks.centerX(i), cy = blocks.centerY(i);
+            float hw = cross.width() / 2f, hh = cross.height() / 2f;
+            dst.set(cx - hw, cy - hh, cx + hw, cy + hh);
+            canvas.drawBitmap(atlas.getBitmap(), cross, dst, res.spritePaint);
+        }
+    }
+}
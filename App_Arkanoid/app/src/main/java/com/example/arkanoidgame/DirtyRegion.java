@@ -0,0 +1,68 @@
+package com.example.arkanoidgame;
+
+/**
+ * DirtyRegion — Rectángulo (en píxeles enteros) que envuelve todas las
+ * zonas de pantalla que han cambiado en un frame.
+ *
+ * lockCanvas(Rect) solo admite un rectángulo, así que las zonas sueltas
+ * (pelota, paleta, explosiones, HUD…) se acumulan en su envolvente.
+ * Las coordenadas se redondean hacia fuera para no dejar medio píxel
+ * sin repintar en los bordes con antialiasing.
+ *
+ * No depende de Android: GameView copia el resultado a un Rect.
+ */
+public class DirtyRegion {
+
+    public int left, top, right, bottom;
+    private boolean empty = true;
+
+    /** Vacía la región */
+    public void clear() {
+        empty = true;
+        left = top = right = bottom = 0;
+    }
+
+    /** Añade la caja [l, r] × [t, b] a la región */
+    public void add(float l, float t, float r, float b) {
+        if (r <= l || b <= t) return;
+        int il = (int) Math.floor(l), it = (int) Math.floor(t);
+        int ir = (int) Math.ceil(r),  ib = (int) Math.ceil(b);
+        if (empty) {
+            left = il; top = it; right = ir; bottom = ib;
+            empty = false;
+        } else {
+            left   = Math.min(left, il);
+            top    = Math.min(top, it);
+            right  = Math.max(right, ir);
+            bottom = Math.max(bottom, ib);
+        }
+    }
+
+    /** Añade otra región a esta */
+    public void add(DirtyRegion o) {
+        if (!o.empty) add(o.left, o.top, o.right, o.bottom);
+    }
+
+    /** Recorta la región a la pantalla [0, w] × [0, h] */
+    public void clipTo(int w, int h) {
+        if (empty) return;
+        left   = Math.max(left, 0);
+        top    = Math.max(top, 0);
+        right  = Math.min(right, w);
+        bottom = Math.min(bottom, h);
+        if (right <= left || bottom <= top) clear();
+    }
+
+    /** Copia otra región en esta */
+    public void set(DirtyRegion o) {
+        left = o.left; top = o.top; right = o.right; bottom = o.bottom;
+        empty = o.empty;
+    }
+
+    public boolean isEmpty() { return empty; }
+
+    /** Área en píxeles (0 si está vacía) */
+    public long area() {
+        return empty ? 0 : (long) (right - left) * (bottom - top);
+    }
+}
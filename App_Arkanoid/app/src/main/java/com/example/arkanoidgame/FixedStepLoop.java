@@ -0,0 +1,107 @@
+package com.example.arkanoidgame;
+
+/**
+ * FixedStepLoop — Bucle de simulación de paso fijo con acumulador.
+ *
+ * La física avanza siempre en pasos de duración constante (stepNanos),
+ * independientemente de cuánto tarde cada frame. El tiempo real
+ * transcurrido se acumula y se consume en tantos pasos como quepan;
+ * el resto (alpha = acumulador / paso) se usa para interpolar las
+ * posiciones al dibujar.
+ *
+ *   frame real:   |----16.6ms----|--------33ms (lento)--------|
+ *   pasos física: |  1 paso      |  2 pasos (se pone al día)  |
+ *
+ * No depende de Android: el reloj es inyectable para poder probar
+ * el bucle en la JVM con tiempos de frame arbitrarios (60/90/120 Hz).
+ */
+public class FixedStepLoop {
+
+    /** Fuente de tiempo en nanosegundos. */
+    public interface Clock {
+        long nanoTime();
+
+        Clock SYSTEM = System::nanoTime;
+    }
+
+    /** Recibe los pasos de simulación y el render de cada frame. */
+    public interface Listener {
+        /** Un paso de física de duración fija (en segundos). */
+        void step(float dt);
+
+        /** Dibuja el frame; alpha (0..1) es la fracción del siguiente paso ya transcurrida. */
+        void render(float alpha);
+    }
+
+    private final long stepNanos;         // duración de un paso de física
+    private final long frameNanos;        // duración objetivo de un frame
+    private final int maxStepsPerFrame;   // tope de pasos de recuperación por frame
+    private final float stepSeconds;
+    private final Clock clock;
+    private final Listener listener;
+
+    private long accumulator = 0;
+    private long lastTime    = -1;        // -1 = aún no se ha ejecutado ningún frame
+    private long frameStart  = 0;
+    private long droppedSteps = 0;        // pasos descartados por superar el tope
+
+    public FixedStepLoop(int stepsPerSecond, int framesPerSecond, int maxStepsPerFrame,
+                         Clock clock, Listener listener) {
+        if (stepsPerSecond <= 0 || framesPerSecond <= 0 || maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("Las frecuencias y el tope deben ser positivos");
+        }
+        this.stepNanos        = 1_000_000_000L / stepsPerSecond;
+        this.frameNanos       = 1_000_000_000L / framesPerSecond;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+        this.stepSeconds      = stepNanos / 1_000_000_000f;
+        this.clock            = clock;
+        this.listener         = listener;
+    }
+
+    /**
+     * Ejecuta un frame: consume el tiempo acumulado en pasos fijos y dibuja.
+     * @return número de pasos de física ejecutados en este frame
+     */
+    public int runFrame() {
+        long now = clock.nanoTime();
+        if (lastTime < 0) lastTime = now;
+        accumulator += now - lastTime;
+        lastTime   = now;
+        frameStart = now;
+
+        int steps = 0;
+        while (accumulator >= stepNanos && steps < maxStepsPerFrame) {
+            listener.step(stepSeconds);
+            accumulator -= stepNanos;
+            steps++;
+        }
+
+        // Si un frame se ha retrasado demasiado, descartar el tiempo sobrante
+        // en vez de intentar recuperarlo (evita la "espiral de la muerte")
+        if (accumulator >= stepNanos) {
+            droppedSteps += accumulator / stepNanos;
+            accumulator %= stepNanos;
+        }
+
+        listener.render(accumulator / (float) stepNanos);
+        return steps;
+    }
+
+    /** Nanosegundos que faltan hasta el inicio del siguiente frame (negativo si vamos tarde). */
+    public long nanosUntilNextFrame() {
+        return frameStart + frameNanos - clock.nanoTime();
+    }
+
+    /**
+     * Olvida el tiempo acumulado. Llamar al (re)arrancar el hilo para que
+     * la pausa no se interprete como un frame larguísimo.
+     */
+    public void reset() {
+        accumulator = 0;
+        lastTime    = -1;
+    }
+
+    public long getStepNanos()    { return stepNanos; }
+    public long getFrameNanos()   { return frameNanos; }
+    public long getDroppedSteps() { return droppedSteps; }
+}
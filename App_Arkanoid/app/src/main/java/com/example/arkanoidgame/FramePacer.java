@@ -0,0 +1,146 @@
+package com.example.arkanoidgame;
+
+/**
+ * FramePacer — Decide en qué vsync se dibuja, con un tope de FPS opcional.
+ *
+ * El render ya no duerme un tiempo fijo (16 ms a 60 FPS, que se desvía y
+ * no sabe de pantallas de 90 o 120 Hz): Choreographer avisa en cada vsync
+ * con su marca de tiempo y onVsync() dice si toca dibujar. El tiempo
+ * entre vsyncs se acumula como crédito y se dibuja cuando llega a un
+ * frame del tope (con medio periodo de margen), así el tope se cumple en
+ * media aunque no divida al refresco:
+ *
+ *   120 Hz, tope 60:  · D · D · D        (uno de cada dos)
+ *    90 Hz, tope 60:  D · D D · D        (dos de cada tres)
+ *    60 Hz, sin tope: D D D D D D
+ *
+ * El periodo de vsync parte del refresco que da la pantalla y se corrige
+ * con las marcas reales (media móvil). Un hueco de varios periodos cuenta
+ * como vsyncs perdidos y no deja crédito para dibujar de más después.
+ * Si los huecos no son sueltos sino que llegan RETUNE_STREAK seguidos y
+ * casi iguales, la pantalla ha bajado de refresco (120 → 60 Hz): el
+ * periodo pasa a ser el menor de esos huecos y no se cuentan como perdidos.
+ *
+ * No depende de Android: las pruebas le pasan marcas de tiempo inventadas.
+ * Solo se usa desde el hilo de render.
+ */
+public class FramePacer {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int  RETUNE_STREAK    = 4; // huecos iguales seguidos = refresco más lento
+
+    private long periodNanos;        // periodo de vsync estimado
+    private long capNanos;           // 0 = sin tope (todos los vsync)
+    private long lastVsync = -1;     // -1 = aún no ha llegado ninguno
+    private long credit = 0;         // tiempo acumulado desde el último frame dibujado
+
+    // Racha de huecos de varios periodos y parecidos entre sí
+    private int streak = 0;
+    private long streakMin, streakMax, streakMissed;
+
+    private long drawnFrames = 0, skippedVsyncs = 0, missedVsyncs = 0;
+
+    /**
+     * @param refreshHz refresco de la pantalla (la estimación inicial del periodo)
+     * @param capHz     FPS máximos; 0 = dibujar en cada vsync
+     */
+    public FramePacer(float refreshHz, int capHz) {
+        setRefreshRate(refreshHz);
+        setFrameCap(capHz);
+    }
+
+    /** Refresco que anuncia la pantalla (p. ej. al cambiar de modo) */
+    public void setRefreshRate(float refreshHz) {
+        if (!(refreshHz > 0)) throw new IllegalArgumentException("refresco debe ser positivo");
+        periodNanos = Math.round(NANOS_PER_SECOND / (double) refreshHz);
+    }
+
+    /** FPS máximos; 0 = sin tope */
+    public void setFrameCap(int capHz) {
+        if (capHz < 0) throw new IllegalArgumentException("tope negativo");
+        capNanos = (capHz == 0) ? 0 : NANOS_PER_SECOND / capHz;
+    }
+
+    /** Vuelve a empezar (al reanudar: la pausa no es un vsync perdido) */
+    public void reset() {
+        lastVsync = -1;
+        credit = 0;
+        streak = 0;
+    }
+
+    /**
+     * Un vsync nuevo.
+     * @param frameTimeNanos marca de tiempo del vsync (reloj de System.nanoTime)
+     * @return true si hay que dibujar este frame
+     */
+    public boolean onVsync(long frameTimeNanos) {
+        if (lastVsync < 0) {
+            lastVsync = frameTimeNanos;
+            credit = 0;
+            drawnFrames++;
+            return true; // el primero siempre
+        }
+        long delta = frameTimeNanos - lastVsync;
+        lastVsync = frameTimeNanos;
+        if (delta <= 0) { // marca repetida o hacia atrás: nada que dibujar
+            skippedVsyncs++;
+            return false;
+        }
+
+        long periods = (delta + periodNanos / 2) / periodNanos;
+        if (periods <= 1) {
+            periodNanos += (delta - periodNanos) / 8; // media móvil: sigue al refresco real
+            streak = 0;
+        } else {
+            missedVsyncs += periods - 1;
+            retune(delta, periods - 1);
+        }
+
+        if (capNanos <= 0) {
+            drawnFrames++;
+            return true;
+        }
+        credit += delta;
+        if (credit >= capNanos - periodNanos / 2) {
+            credit -= capNanos;
+            if (credit > 0) credit = 0; // tras un hueco no se dibuja de más para recuperar
+            drawnFrames++;
+            return true;
+        }
+        skippedVsyncs++;
+        return false;
+    }
+
+    /** Un hueco de varios periodos: ¿suelto o el refresco nuevo? */
+    private void retune(long delta, long missed) {
+        long min = (streak == 0) ? delta : Math.min(streakMin, delta);
+        long max = (streak == 0) ? delta : Math.max(streakMax, delta);
+        if (max - min > min / 4) { // distinto de los anteriores: empieza otra racha
+            streak = 0;
+            min = max = delta;
+        }
+        streak++;
+        streakMin = min;
+        streakMax = max;
+        streakMissed = (streak == 1) ? missed : streakMissed + missed;
+        if (streak >= RETUNE_STREAK) {
+            periodNanos = streakMin;
+            missedVsyncs -= streakMissed; // no eran vsyncs perdidos
+            streak = 0;
+        }
+    }
+
+    /** Intervalo entre frames para el modo sin vsync (bucle con sleep) */
+    public long getFallbackFrameNanos() {
+        return Math.max(capNanos, periodNanos);
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public long getPeriodNanos()     { return periodNanos; }
+    public float getRefreshRate()    { return NANOS_PER_SECOND / (float) periodNanos; }
+    public long getDrawnFrames()     { return drawnFrames; }
+    /** Vsyncs recibidos en los que no tocaba dibujar (por el tope) */
+    public long getSkippedVsyncs()   { return skippedVsyncs; }
+    /** Vsyncs que no llegaron a tiempo (el hilo de render iba tarde) */
+    public long getMissedVsyncs()    { return missedVsyncs; }
+}
@@ -0,0 +1,153 @@
+package com.example.arkanoidgame;
+
+import com.example.arkanoidgame.core.BlockField;
+import com.example.arkanoidgame.core.FrameSnapshot;
+import com.example.arkanoidgame.core.GameState;
+
+/**
+ * FramePlanner — Lo que decide el hilo de render antes de tocar el Canvas:
+ * qué muro se muestra y qué zona de pantalla hay que repintar.
+ *
+ *   if (snapshots.acquire()) planner.onNewSnapshot(snapshots.front(), scene);
+ *   int mode = planner.plan(s, alpha, highScore, scene);
+ *   if (mode == FRAME_PARTIAL) canvas = lockCanvas(planner.getDirty() → Rect);
+ *
+ * Guarda una copia del muro mostrado (al compararla con cada instantánea
+ * salen los bloques que han cambiado aunque se salten instantáneas), las
+ * zonas de las entidades móviles del frame anterior y los textos del HUD.
+ * Las medidas de lo que se dibuja las da la Scene (los renderizadores en
+ * GameView), así que la clase no depende de Android y se prueba en la JVM.
+ *
+ * Solo se usa desde el hilo de render, salvo requestFullRedraw() y
+ * setDirtyRectsEnabled(), que se pueden llamar desde cualquier hilo.
+ */
+public class FramePlanner {
+
+    /** Lo que se dibuja, visto desde el planificador */
+    public interface Scene {
+        /** Zona de pelota, paleta y explosiones tal como se dibujarán con este alpha */
+        void addMovingBounds(DirtyRegion out, FrameSnapshot s, float alpha);
+
+        /** Zona de los bloques cambiados (o de toda la capa si hay que repintarla) */
+        void addBlockBounds(DirtyRegion out, BlockField shown);
+
+        /** Zonas superpuestas que cambian por su cuenta (panel de métricas) */
+        void addOverlayBounds(DirtyRegion out);
+
+        /**
+         * Nivel nuevo: pone en uso su capa de bloques si ya estaba pintada.
+         * @return false si no lo estaba (se copiará el muro y se invalidará la capa)
+         */
+        boolean swapPreparedLayer(int levelNumber, BlockField shown, BlockField latest);
+
+        /** La capa de bloques hay que repintarla entera */
+        void invalidateLayer();
+    }
+
+    public static final int FRAME_SKIP    = 0;          // nada ha cambiado
+    public static final int FRAME_PARTIAL = 1;
+    public static final int FRAME_FULL    = 2;
+
+    private static final float FULL_REDRAW_RATIO = 0.6f; // más que esto → frame completo
+    static final int HUD_HEIGHT = 150;                   // franja superior con los textos
+
+    private final int screenWidth, screenHeight;
+    private final BlockField shownBlocks = new BlockField();
+    private int shownLevelSerial = -1;
+    private final HudText hud = new HudText();
+
+    private volatile boolean dirtyRectsEnabled   = true;
+    private volatile boolean fullRedrawRequested = true; // surface nueva o redimensionada
+    private final DirtyRegion frameDirty = new DirtyRegion(); // zona a repintar en este frame
+    private final DirtyRegion movingNow  = new DirtyRegion(); // entidades móviles en este frame
+    private final DirtyRegion movingPrev = new DirtyRegion(); // y en el frame anterior
+    private GameState lastState;
+    private long fullFrames = 0, partialFrames = 0, skippedFrames = 0;
+
+    public FramePlanner(int screenWidth, int screenHeight) {
+        this.screenWidth  = screenWidth;
+        this.screenHeight = screenHeight;
+    }
+
+    /**
+     * Pone al día el muro mostrado con una instantánea nueva.
+     * @return true si es un nivel nuevo (el fondo se rehace y el frame es completo)
+     */
+    public boolean onNewSnapshot(FrameSnapshot s, Scene scene) {
+        if (s.levelSerial == shownLevelSerial) {
+            shownBlocks.copyFrom(s.blocks); // marca los bloques que han cambiado
+            return false;
+        }
+        shownLevelSerial = s.levelSerial;
+        // Muro nuevo: usar la capa ya pintada en segundo plano o, si no
+        // llegó a tiempo, repintarla entera
+        if (!scene.swapPreparedLayer(s.level, shownBlocks, s.blocks)) {
+            shownBlocks.copyFrom(s.blocks);
+            scene.invalidateLayer();
+        }
+        fullRedrawRequested = true; // y la pantalla entera (estrellas nuevas)
+        return true;
+    }
+
+    /**
+     * Calcula la zona de pantalla que cambia en este frame (getDirty()).
+     * @param highScore récord que muestra el HUD
+     * @return FRAME_SKIP, FRAME_PARTIAL o FRAME_FULL
+     */
+    public int plan(FrameSnapshot s, float alpha, int highScore, Scene scene) {
+        // Entidades móviles tal como se van a dibujar con este alpha
+        movingNow.clear();
+        scene.addMovingBounds(movingNow, s, alpha);
+
+        // Zona sucia = dónde estaban + dónde están + bloques golpeados + HUD
+        frameDirty.clear();
+        frameDirty.add(movingPrev);
+        frameDirty.add(movingNow);
+        movingPrev.set(movingNow);
+        scene.addBlockBounds(frameDirty, shownBlocks);
+        if (hud.update(s.score, highScore, s.level, s.totalLevels, s.lives)) {
+            frameDirty.add(0, 0, screenWidth, HUD_HEIGHT);
+        }
+        scene.addOverlayBounds(frameDirty);
+        frameDirty.clipTo(screenWidth, screenHeight);
+
+        // Cambio de estado (mensajes), nivel nuevo o surface nueva → frame completo
+        GameState state = s.state;
+        boolean full = !dirtyRectsEnabled || fullRedrawRequested || state != lastState;
+        fullRedrawRequested = false;
+        lastState = state;
+
+        if (full || frameDirty.area() > FULL_REDRAW_RATIO * screenWidth * screenHeight) {
+            fullFrames++;
+            return FRAME_FULL;
+        }
+        if (frameDirty.isEmpty()) {
+            skippedFrames++;
+            return FRAME_SKIP;
+        }
+        partialFrames++;
+        return FRAME_PARTIAL;
+    }
+
+    /** El siguiente frame se pinta entero (surface nueva, overlay, pantalla de carga…) */
+    public void requestFullRedraw() {
+        fullRedrawRequested = true;
+    }
+
+    /** Activa o desactiva el repintado parcial (desactivado: siempre frame completo) */
+    public void setDirtyRectsEnabled(boolean enabled) {
+        dirtyRectsEnabled = enabled;
+        fullRedrawRequested = true;
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    /** Zona a repintar calculada por el último plan() */
+    public DirtyRegion getDirty()      { return frameDirty; }
+    /** Muro tal como se muestra (lo consume la capa de bloques al dibujar) */
+    public BlockField getShownBlocks() { return shownBlocks; }
+    public int getShownLevelSerial()   { return shownLevelSerial; }
+    public HudText getHud()            { return hud; }
+    public long getFullFrames()        { return fullFrames; }
+    public long getPartialFrames()     { return partialFrames; }
+    public long getSkippedFrames()     { return skippedFrames; }
+}
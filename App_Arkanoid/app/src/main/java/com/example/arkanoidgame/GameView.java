@@ -2,58 +2,232 @@ package com.example.arkanoidgame;
 
 import android.content.Context;
 import android.graphics.Canvas;
-import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Rect;
+import android.os.Looper;
+import android.view.Choreographer;
+import android.view.Display;
 import android.view.MotionEvent;
 import android.view.SurfaceHolder;
 import android.view.SurfaceView;
 import android.view.View;
+
+import com.example.arkanoidgame.core.BlockField;
+import com.example.arkanoidgame.core.ExplosionPool;
+import com.example.arkanoidgame.core.FrameMetrics;
+import com.example.arkanoidgame.core.FrameSnapshot;
+import com.example.arkanoidgame.core.GameEvents;
+import com.example.arkanoidgame.core.GameState;
+import com.example.arkanoidgame.core.GameWorld;
+import com.example.arkanoidgame.core.Input;
+import com.example.arkanoidgame.core.InputQueue;
+import com.example.arkanoidgame.core.LevelManager;
+import com.example.arkanoidgame.core.LevelPack;
+import com.example.arkanoidgame.core.Replay;
+import com.example.arkanoidgame.core.ReplayRecorder;
+import com.example.arkanoidgame.core.SaveState;
+import com.example.arkanoidgame.core.StartupPipeline;
+import com.example.arkanoidgame.core.TraceRecorder;
+import com.example.arkanoidgame.core.TripleBuffer;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * GameView — Clase principal del juego.
  *
  * Extiende SurfaceView:  Proporciona un Canvas dedicado para dibujar
  *                         en un hilo separado al UI thread.
- * Implementa Runnable:   El método run() contiene el Game Loop.
  * Implementa Callback:   Recibe eventos del ciclo de vida de la Surface.
+ *
+ * Las reglas del juego viven en GameWorld (paquete core, sin Android);
+ * esta clase solo traduce toques a Input, dibuja el estado del mundo
+ * y reproduce sonidos/explosiones a partir de sus GameEvents.
+ *
+ * Dos hilos, cada uno a su ritmo y sin esperarse nunca:
+ *
+ *   simulación: pasos fijos de GameWorld → captura FrameSnapshot → publish()
+ *                                                     │  TripleBuffer
+ *   render:     acquire() → última instantánea → dibujo interpolado
+ *
+ * Un lockCanvas() lento ya no retrasa la física, y un pico de física no
+ * retrasa el frame: el render dibuja la última instantánea disponible.
  */
 public class GameView extends SurfaceView
-        implements Runnable, SurfaceHolder.Callback, View.OnTouchListener {
+        implements SurfaceHolder.Callback, View.OnTouchListener,
+                   FixedStepLoop.Listener, GameEvents {
 
-    // ─── Hilo y control del bucle ───────────────────────────────────────
-    private Thread gameThread;
+    // ─── Hilos y control de los bucles ──────────────────────────────────
+    private Thread simThread;
+    private Thread renderThread;
     private volatile boolean isRunning = false;
     // volatile garantiza visibilidad entre hilos sin necesidad de synchronized
 
+    // Frecuencias de los bucles: la física y el renderizado se configuran por separado
+    private static final int PHYSICS_HZ          = 60;  // pasos de simulación por segundo
+    private static final int TARGET_FPS          = 60;  // refresco supuesto si la pantalla no lo dice
+    private static final int MAX_STEPS_PER_FRAME = 5;   // tope de pasos de recuperación
+    // Bucle del hilo de simulación: tras cada tanda de pasos publica una instantánea
+    private final FixedStepLoop simLoop =
+            new FixedStepLoop(PHYSICS_HZ, PHYSICS_HZ, MAX_STEPS_PER_FRAME, FixedStepLoop.Clock.SYSTEM, this);
+    private static final long RENDER_FRAME_NANOS = 1_000_000_000L / TARGET_FPS;
+
+    // ─── Ritmo del render: vsync de la pantalla (o bucle con sleep) ─────
+    // Con vsync, el hilo de render tiene su Looper y Choreographer le avisa
+    // en cada refresco (60, 90, 120 Hz…); FramePacer aplica el tope de FPS.
+    // La física sigue a paso fijo: el render interpola hasta la marca del vsync
+    private volatile boolean vsyncPacing = true;
+    private volatile int frameCap = 0;                  // FPS máximos; 0 = los de la pantalla
+    private final FramePacer pacer = new FramePacer(TARGET_FPS, 0); // hilo de render
+    private volatile Looper renderLooper;               // para pararlo desde stopGame
+    private long lastFrameStart = -1;                   // hilo de render
+
+    // ─── Intercambio simulación → render ────────────────────────────────
+    private final ExplosionPool explosions = new ExplosionPool(); // solo hilo de simulación
+    private int unpublishedSteps = 0;                               // pasos desde la última publicación
+    private final TripleBuffer<FrameSnapshot> snapshots =
+            new TripleBuffer<>(() -> new FrameSnapshot(ExplosionPool.DEFAULT_CAPACITY));
+
+    // Hilo de baja prioridad que prepara el nivel siguiente mientras se juega
+    // (muro, rejilla y capa de bloques): el cambio de nivel solo cambia referencias
+    private static final ExecutorService LEVEL_PREFETCH = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "LevelPrefetch");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+    private static final long PREFETCH_DRAIN_TIMEOUT_MS = 1_000;
+
+    // ─── Arranque en paralelo ───────────────────────────────────────────
+    // Sonido, gráficos, récord y primer nivel se cargan a la vez en hilos de
+    // fondo; el render muestra la pantalla de carga hasta que está todo.
+    // Los campos que rellena una etapa solo se leen tras ver la etapa lista
+    private static final ThreadPoolExecutor WARMUP = new ThreadPoolExecutor(
+            3, 3, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread t = new Thread(r, "Warmup");
+                t.setDaemon(true);
+                return t;
+            });
+    static {
+        WARMUP.allowCoreThreadTimeOut(true); // terminado el arranque, los hilos se van
+    }
+    private static final long SOUND_LOAD_TIMEOUT_MS = 5_000;
+    // Efectos mezclados en un AudioTrack propio (menos latencia que SoundPool)
+    private static final boolean LOW_LATENCY_AUDIO = true;
+    private static final long WARMUP_POLL_NANOS     = 2_000_000L;
+    private static final String[] MSG_LOADING = { "Cargando…" };
+    private final StartupPipeline startup;
+    private final StartupPipeline.Stage soundStage, assetsStage, scoresStage, levelStage;
+    private boolean loadingScreenDrawn;   // hilo de render
+    private boolean firstGameFrameMarked; // hilo de render
+    private boolean prefetcherInstalled;  // hilo de simulación
+
     private float[] stars;
-    private SoundManager soundManager;
-    private LevelManager levelManager = new LevelManager();
-    private int blocksDestroyed = 0; // ← contador de bloques destruidos
+    private final SoundManager soundManager;
+
+    // ─── Récord: en memoria, se guarda en segundo plano ─────────────────
+    private HighScoreRepository highScores; // etapa "scores"
 
     // ─── Dimensiones de pantalla ─────────────────────────────────────────
     private int screenWidth;
     private int screenHeight;
 
-    // ─── Entidades del juego ─────────────────────────────────────────────
-    private Ball ball;
-    private Paddle paddle;
-    private Block[][] blocks;
+    // ─── Mundo del juego (lógica pura) y sus renderizadores ─────────────
+    private GameWorld world;             // etapa "level"
+    private BallRenderer ballRenderer;
+    private PaddleRenderer paddleRenderer;
+    private BlockRenderer blockRenderer;
+    private BlockLayer blockLayer;       // bloques pre-pintados en un bitmap (etapa "assets")
     private SpriteSheet spriteSheet;
 
-    // ─── Estado del juego ────────────────────────────────────────────────
-    private enum GameState { WAITING, PLAYING, GAME_OVER, WIN }
-    private GameState state = GameState.WAITING;
-    private int score = 0;
-    private int lives = 3;
+    // ─── Recursos de dibujo compartidos y textos reutilizables ──────────
+    private final RenderResources res;
+    private static final String[] MSG_WAITING   = { "Toca para lanzar" };
+    private static final String[] MSG_GAME_OVER = { "GAME OVER", "Toca para reiniciar" };
+    private static final String[] MSG_WIN       = { "¡GANASTE!", "Toca para reiniciar" };
+
+    // ─── Repintado parcial (dirty rects) ────────────────────────────────
+    // Solo se bloquea y repinta la zona de pantalla que ha cambiado: las
+    // posiciones anterior y actual de las entidades móviles, los bloques
+    // golpeados y el HUD si cambian sus valores. Ahorra relleno de píxeles,
+    // que es el cuello de botella en dispositivos modestos. FramePlanner lleva
+    // el muro mostrado, el HUD y la zona sucia; la escena le da las medidas
+    private final FramePlanner planner;
+    private final Rect dirtyRect = new Rect();
+    private final FramePlanner.Scene scene = new FramePlanner.Scene() {
+        @Override
+        public void addMovingBounds(DirtyRegion out, FrameSnapshot s, float alpha) {
+            ballRenderer.addBounds(out, s, alpha);
+            paddleRenderer.addBounds(out, s, alpha);
+            spriteSheet.addBounds(out, s.explosions);
+        }
+
+        @Override
+        public void addBlockBounds(DirtyRegion out, BlockField shown) {
+            blockLayer.addDirtyBounds(out, shown);
+        }
 
-    // ─── Paint reutilizable ──────────────────────────────────────────────
-    private Paint textPaint;
-    private Paint hudPaint;
+        @Override
+        public void addOverlayBounds(DirtyRegion out) {
+            if (metricsOverlayVisible && metricsOverlay.update(metrics)) {
+                metricsOverlay.addBounds(out, screenWidth, screenHeight);
+            }
+        }
+
+        @Override
+        public boolean swapPreparedLayer(int levelNumber, BlockField shown, BlockField latest) {
+            return blockLayer.swapPrepared(levelNumber, shown, latest);
+        }
+
+        @Override
+        public void invalidateLayer() {
+            blockLayer.invalidate();
+        }
+    };
+
+    // ─── Métricas de tiempo por fase (baratas: activas también en release) ─
+    private final FrameMetrics metrics = new FrameMetrics(RENDER_FRAME_NANOS);
+    private final MetricsOverlay metricsOverlay = new MetricsOverlay();
+    private volatile boolean metricsOverlayVisible = false;
+
+    // ─── Trazas: línea de tiempo de cada frame (desactivadas por defecto) ─
+    // Una por hilo; se reenvían a android.os.Trace y se exportan como JSON de Chrome
+    private final TraceRecorder simTrace = new TraceRecorder(
+            "simulation", 1, TraceRecorder.DEFAULT_CAPACITY, AndroidTraceSink.INSTANCE);
+    private final TraceRecorder renderTrace = new TraceRecorder(
+            "render", 2, TraceRecorder.DEFAULT_CAPACITY, AndroidTraceSink.INSTANCE);
+    private final TraceRecorder audioTrace = new TraceRecorder(
+            "audio", 3, TraceRecorder.DEFAULT_CAPACITY, AndroidTraceSink.INSTANCE);
 
     // ─── Control táctil ──────────────────────────────────────────────────
-    private float touchX = -1;
+    // onTouch corre en el UI thread y solo encola; el hilo de simulación
+    // vacía la cola al empezar cada paso (sin locks ni estado compartido)
+    private final InputQueue inputQueue = new InputQueue();
+    private final Input input = new Input();
+
+    // ─── Repetición: entrada de cada paso grabada desde el inicio ───────
+    // Con la semilla de la partida (estrellas) basta para repetirla en la
+    // JVM con ReplayPlayer y reproducir un fallo exactamente
+    private final long seed = new Random().nextLong();
+    private ReplayRecorder replayRecorder; // etapa "level"
+
+    // ─── Partida guardada: se escribe al pausar y se restaura al crear ──
+    // Si Android mata el proceso en segundo plano, se continúa donde estaba
+    public static final String SAVE_STATE_FILE = "savegame.arks";
+    private final SaveStateStore saveStore;
 
     // ════════════════════════════════════════════════════════════════════
     // CONSTRUCTOR
@@ -62,6 +236,7 @@ public class GameView extends SurfaceView
         super(context);
         this.screenWidth  = width;
         this.screenHeight = height;
+        planner = new FramePlanner(width, height);
 
         // Registrar callbacks del ciclo de vida de la Surface
         getHolder().addCallback(this);
@@ -70,71 +245,91 @@ public class GameView extends SurfaceView
         setOnTouchListener(this);
         setFocusable(true);
 
-        // Inicializar Paint para textos HUD
-        textPaint = new Paint();
-        textPaint.setColor(Color.WHITE);
-        textPaint.setTextSize(60);
-        textPaint.setTextAlign(Paint.Align.CENTER);
-        textPaint.setAntiAlias(true);
+        // Paints, colores y shaders: se crean aquí una vez, nunca en draw()
+        res = new RenderResources(width / 30);
+        paddleRenderer = new PaddleRenderer(res);
+        soundManager   = new SoundManager(LOW_LATENCY_AUDIO); // las muestras se cargan en su etapa
+        soundManager.setTrace(audioTrace);   // los sonidos suenan en su propio hilo
+        saveStore      = SaveStateStore.create(new File(context.getFilesDir(), SAVE_STATE_FILE));
+
+        // Todo lo lento, en paralelo: el constructor vuelve enseguida y el
+        // primer frame (pantalla de carga) no espera a nada
+        startup     = new StartupPipeline(WARMUP);
+        levelStage  = startup.stage("level", () -> loadWorld(context));
+        assetsStage = startup.stage("assets", this::loadRenderAssets);
+        soundStage  = startup.stage("sound", () -> {
+            if (!soundManager.load(context, SOUND_LOAD_TIMEOUT_MS)) {
+                throw new IllegalStateException("muestras sin decodificar"); // las cargadas suenan igual
+            }
+        });
+        // Única lectura de SharedPreferences
+        scoresStage = startup.stage("scores", () -> highScores = HighScoreRepository.create(context));
+    }
 
-        hudPaint = new Paint();
-        hudPaint.setColor(Color.YELLOW);
-        hudPaint.setTextSize(40);
-        hudPaint.setAntiAlias(true);
+    /** Etapa "level": niveles, mundo, partida guardada y grabación */
+    private void loadWorld(Context context) {
+        world = new GameWorld(screenWidth, screenHeight, 1f / PHYSICS_HZ, createLevelManager(context));
+        world.setEvents(this);
+        world.setTrace(simTrace);
+        restoreSavedGame();
+        replayRecorder = new ReplayRecorder(world, seed);
+    }
 
-        soundManager = new SoundManager(context);
-        // Inicializar entidades
-        initGame();
+    /** Etapa "assets": atlas de sprites y renderizadores que lo usan */
+    private void loadRenderAssets() {
+        // Pelota, halo, bloques y explosiones pintados una vez en un bitmap compartido
+        SpriteAtlas atlas = SpriteAtlas.obtain(screenWidth, screenHeight);
+        blockRenderer  = new BlockRenderer(res, atlas);
+        // La capa del nivel siguiente se pinta en otro hilo: Paints propios
+        blockLayer     = new BlockLayer(blockRenderer, new BlockRenderer(new RenderResources(screenWidth / 30), atlas));
+        ballRenderer   = new BallRenderer(res, atlas);
+        spriteSheet    = new SpriteSheet(atlas, res);
+    }
+
+    /** ¿Puede empezar la simulación? (mundo y récord cargados) */
+    private boolean gameReady() {
+        return levelStage.isReady() && scoresStage.isReady();
     }
 
     // ════════════════════════════════════════════════════════════════════
     // INICIALIZACIÓN DEL JUEGO
     // ════════════════════════════════════════════════════════════════════
-    private void initGame() {
-        // Cargamos el sprite sheet desde res/drawable
-        spriteSheet = new SpriteSheet(getContext());
-
-        // Pelota: centrada en pantalla, tamaño proporcional
-        int ballSize = screenWidth / 30;
-        ball = new Ball(screenWidth / 2f, screenHeight * 0.65f, ballSize, screenWidth, screenHeight);
-
-        // Paleta: centrada horizontalmente en la parte inferior
-        int paddleWidth  = screenWidth / 5;
-        int paddleHeight = screenHeight / 35;
-        paddle = new Paddle(
-                screenWidth / 2f - paddleWidth / 2f,
-                screenHeight * 0.85f,
-                paddleWidth, paddleHeight,
-                screenWidth
-        );
-
-        // Bloques: cuadrícula de 8 columnas × 5 filas
-        initBlocks();
-        initStars();
-
-        levelManager.reset(); // ← resetear niveles al reiniciar
-        initLevel();
-        blocksDestroyed = 0;
-        score = 0;
-        lives = 3;
-        state = GameState.WAITING;
-    }
-
-    private void initLevel() {
-        spriteSheet     = new SpriteSheet(getContext());
-        blocksDestroyed = 0;
-        int ballSize    = screenWidth / 30;
-        ball   = new Ball(screenWidth / 2f, screenHeight * 0.65f, ballSize, screenWidth, screenHeight);
-        paddle = new Paddle(screenWidth / 2f - (screenWidth / 5) / 2f,
-                screenHeight * 0.85f,
-                screenWidth / 5, screenHeight / 35, screenWidth);
-        initBlocks();
-        initStars();
+
+    /** Paquete de niveles cargado por el usuario (en files/); si no hay, los de serie */
+    public static final String LEVEL_PACK_FILE = "levels.arkp";
+
+    private static LevelManager createLevelManager(Context context) {
+        File pack = new File(context.getFilesDir(), LEVEL_PACK_FILE);
+        if (pack.isFile()) {
+            try {
+                // Proyectado en memoria: solo se leen los niveles que se juegan
+                return new LevelManager(LevelPack.map(pack));
+            } catch (IOException | IllegalArgumentException e) {
+                // Paquete dañado (se validan todos sus niveles al abrirlo) o vacío:
+                // se juega con los niveles de serie
+            }
+        }
+        return new LevelManager();
     }
 
+    /** Continúa la partida guardada al pausar, si la hay y sigue siendo válida */
+    private void restoreSavedGame() {
+        byte[] saved = saveStore.load();
+        if (saved == null) return;
+        try {
+            // Una partida en juego vuelve parada: que el jugador se sitúe antes de seguir
+            SaveState.decode(saved).applyTo(world, true);
+        } catch (IOException | IllegalArgumentException e) {
+            // Guardado dañado o de otro paquete de niveles: partida nueva
+            world.newGame();
+            saveStore.clear();
+        }
+    }
+
+    /** Fondo de estrellas de cada nivel (hilo de render), fijado por la semilla de la partida */
     private void initStars() {
-        stars = new float[200]; // 100 estrellas (x,y por cada una)
-        Random rnd = new Random();
+        if (stars == null) stars = new float[200]; // 100 estrellas (x,y por cada una)
+        Random rnd = new Random(seed + planner.getShownLevelSerial());
         for (int i = 0; i < stars.length; i++) {
             stars[i] = (i % 2 == 0)
                     ? rnd.nextInt(screenWidth)
@@ -143,248 +338,424 @@ public class GameView extends SurfaceView
     }
 
 
-    private void initBlocks() {
-        int cols      = 8;
-        int rows      = 5;
-        int margin    = screenWidth / 40;
-        int topOffset = screenHeight / 8;
-        int blockW    = (screenWidth - margin * 2) / cols - margin / cols;
-        int blockH    = screenHeight / 20;
-        int gapX      = (screenWidth - margin * 2 - blockW * cols) / (cols - 1);
-        int gapY      = blockH / 3;
-
-        // Leer la configuración del nivel actual
-        int[][] layout = levelManager.getCurrentLayout();
-
-        blocks = new Block[rows][cols];
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                float x   = margin + c * (blockW + gapX);
-                float y   = topOffset + r * (blockH + gapY);
-                int   tipo = layout[r][c];
-
-                if (tipo == 0) {
-                    blocks[r][c] = new Block(x, y, blockW, blockH,
-                            android.graphics.Color.TRANSPARENT, 0, false);
-                    blocks[r][c].setInvisible(); // ver paso 3
-                } else {
-                    blocks[r][c] = new Block(x, y, blockW, blockH,
-                            getColorForType(tipo),
-                            getPointsForType(tipo),
-                            tipo == 9
-                    );
-                }
+    // ════════════════════════════════════════════════════════════════════
+    // HILO DE SIMULACIÓN
+    // ════════════════════════════════════════════════════════════════════
+    private void runSimulation() {
+        // Pasos fijos de física; tras cada tanda, FixedStepLoop llama a
+        // render(alpha), que aquí solo publica una instantánea. Si el hilo
+        // se retrasa, los pasos pendientes se recuperan (hasta MAX_STEPS_PER_FRAME).
+        // Primero, esperar al mundo y al récord (solo la primera vez tarda)
+        while (isRunning && !gameReady()) {
+            checkStage(levelStage);
+            checkStage(scoresStage);
+            sleepNanos(WARMUP_POLL_NANOS);
+        }
+        if (!isRunning) return;
+        inputQueue.clear();  // los toques en la pantalla de carga no cuentan
+        simLoop.reset();     // no contar el tiempo en pausa como tiempo de juego
+        while (isRunning) {
+            if (!prefetcherInstalled && assetsStage.isReady()) {
+                // La capa del nivel siguiente necesita los gráficos; hasta
+                // entonces el cambio de nivel repinta la capa entera
+                world.setLevelPrefetcher(LEVEL_PREFETCH, blockLayer::prepare);
+                prefetcherInstalled = true;
             }
+            simLoop.runFrame();
+            sleepNanos(simLoop.nanosUntilNextFrame());
         }
     }
 
-    private int getColorForType(int tipo) {
-        switch (tipo) {
-            case 1: return android.graphics.Color.parseColor("#4488FF"); // azul
-            case 2: return android.graphics.Color.parseColor("#44CC44"); // verde
-            case 3: return android.graphics.Color.parseColor("#FFDD00"); // amarillo
-            case 4: return android.graphics.Color.parseColor("#FF8800"); // naranja
-            case 5: return android.graphics.Color.parseColor("#FF4444"); // rojo
-            case 9: return android.graphics.Color.parseColor("#888888"); // acero
-            default: return android.graphics.Color.TRANSPARENT;
-        }
+    /** Un paso de física de duración fija (llamado por FixedStepLoop) */
+    @Override
+    public void step(float dt) {
+        long start = System.nanoTime();
+        simTrace.begin("update");
+        // Volcar los toques pendientes en la entrada de este paso
+        // (la paleta conserva su destino entre pasos sin eventos nuevos)
+        input.clear();
+        inputQueue.drain(input, System.nanoTime());
+
+        replayRecorder.record(input);
+        world.step(input);
+        replayRecorder.stepped();
+        soundManager.endStep(); // los sonidos del paso, en un solo lote al hilo de audio
+        simTrace.begin("sprites.update");
+        explosions.update(dt);
+        simTrace.end();
+        unpublishedSteps++;
+        simTrace.end();
+        metrics.record(FrameMetrics.PHASE_UPDATE, System.nanoTime() - start);
     }
 
-    private int getPointsForType(int tipo) {
-        switch (tipo) {
-            case 1: case 2: return 1;
-            case 3: case 4: return 2;
-            case 5:         return 3;
-            default:        return 0;
-        }
+    /**
+     * Fin de una tanda de pasos (llamado por FixedStepLoop): copia el mundo
+     * en la instantánea libre y la publica para el hilo de render.
+     * @param alpha fracción del siguiente paso ya transcurrida
+     */
+    @Override
+    public void render(float alpha) {
+        if (unpublishedSteps == 0) return; // nada nuevo: el render sigue con la anterior
+        unpublishedSteps = 0;
+        long lastStepNanos = System.nanoTime() - (long) (alpha * simLoop.getStepNanos());
+        simTrace.begin("snapshot");
+        snapshots.back().capture(world, explosions, lastStepNanos);
+        snapshots.publish();
+        simTrace.end();
     }
 
     // ════════════════════════════════════════════════════════════════════
-    // GAME LOOP — run() se ejecuta en el gameThread
+    // HILO DE RENDER
     // ════════════════════════════════════════════════════════════════════
-    @Override
-    public void run() {
-        // BUCLE PRINCIPAL DEL JUEGO (Game Loop)
-        // Corre en un hilo separado al UI Thread para no bloquearlo.
-        // Patrón: update (lógica/física) → draw (renderizado) → sleep (control FPS)
-        // FPS objetivo: 60 fotogramas por segundo
-        final long TARGET_FPS  = 60;
-        final long TARGET_TIME = 1_000_000_000L / TARGET_FPS; // en nanosegundos
-
-        while (isRunning) {
-            long startTime = System.nanoTime();
-
-            // ── 1. Actualizar lógica ──────────────────────────────────
-            update();
-
-            // ── 2. Renderizar ─────────────────────────────────────────
-            draw();
-
-            // ── 3. Control de FPS (limitar velocidad del bucle) ───────
-            long elapsed   = System.nanoTime() - startTime;
-            long sleepTime = (TARGET_TIME - elapsed) / 1_000_000L; // a ms
+    private void runRender() {
+        // Refresco real de la pantalla; si no se sabe, el de siempre
+        Display display = getDisplay();
+        float refresh = (display != null) ? display.getRefreshRate() : 0f;
+        pacer.setRefreshRate(refresh > 0 ? refresh : TARGET_FPS);
+        pacer.setFrameCap(frameCap);
+        pacer.reset();
+        lastFrameStart = -1;
+        if (vsyncPacing) runRenderVsync();
+        else runRenderSleep();
+    }
 
-            if (sleepTime > 0) {
-                try {
-                    Thread.sleep(sleepTime);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+    /** Un frame por vsync (los que deje pasar el tope) */
+    private void runRenderVsync() {
+        Looper.prepare();
+        renderLooper = Looper.myLooper();
+        if (!isRunning) { // stopGame llegó antes de que hubiera Looper que parar
+            renderLooper = null;
+            return;
+        }
+        final Choreographer choreographer = Choreographer.getInstance(); // el de este hilo
+        choreographer.postFrameCallback(new Choreographer.FrameCallback() {
+            private int appliedCap = frameCap;
+
+            @Override
+            public void doFrame(long frameTimeNanos) {
+                if (!isRunning) {
+                    Looper.myLooper().quit();
+                    return;
+                }
+                int cap = frameCap;
+                if (cap != appliedCap) {
+                    pacer.setFrameCap(cap);
+                    appliedCap = cap;
                 }
+                if (pacer.onVsync(frameTimeNanos)) renderFrame(frameTimeNanos);
+                choreographer.postFrameCallback(this);
+            }
+        });
+        Looper.loop();
+        renderLooper = null;
+    }
+
+    /** Sin vsync: dormir hasta el siguiente frame (con precisión de nanosegundos) */
+    private void runRenderSleep() {
+        long nextFrame = System.nanoTime();
+        while (isRunning) {
+            renderFrame(System.nanoTime());
+
+            pacer.setFrameCap(frameCap);
+            long frameNanos = pacer.getFallbackFrameNanos();
+            nextFrame += frameNanos;
+            long sleep = nextFrame - System.nanoTime();
+            if (sleep > 0) {
+                long sleepStart = System.nanoTime();
+                sleepNanos(sleep);
+                metrics.record(FrameMetrics.PHASE_SLEEP, System.nanoTime() - sleepStart);
+            } else if (sleep < -frameNanos) {
+                nextFrame = System.nanoTime(); // muy retrasado: no encadenar frames para recuperar
             }
         }
     }
 
-    // ════════════════════════════════════════════════════════════════════
-    // ACTUALIZACIÓN DE LÓGICA
-    // ════════════════════════════════════════════════════════════════════
-    private void update() {
-        if (state != GameState.PLAYING) return;
+    /** @param frameTimeNanos instante hasta el que se interpola (marca del vsync) */
+    private void renderFrame(long frameTimeNanos) {
+        long frameStart = System.nanoTime();
+        if (lastFrameStart >= 0) metrics.record(FrameMetrics.PHASE_FRAME, frameStart - lastFrameStart);
+        lastFrameStart = frameStart;
 
-        ball.update();
+        renderTrace.begin("frame");
+        drawLatest(frameTimeNanos);
+        renderTrace.end();
+    }
 
-        // Colisión con paleta
-        if (Rect.intersects(ball.getBounds(), paddle.getBounds())) {
-            ball.bounceY();
-            ball.setAngle((ball.getCenterX() - paddle.getX()) / paddle.getWidth());
-            soundManager.playBouncePaddle(); // ← SONIDO paleta
+    /** Dibuja la instantánea más reciente interpolando hasta frameTimeNanos */
+    private void drawLatest(long frameTimeNanos) {
+        if (!assetsStage.isReady()) {
+            checkStage(assetsStage);
+            drawLoadingScreen();
+            return;
         }
-
-        // Colisión con paredes (detectada en Ball.update, pero sonido aquí)
-        if (ball.justBouncedWall()) {
-            soundManager.playBounceWall(); // ← SONIDO pared
+        if (snapshots.acquire() && planner.onNewSnapshot(snapshots.front(), scene)) {
+            initStars(); // nivel nuevo: estrellas nuevas (el frame ya es completo)
+        }
+        FrameSnapshot s = snapshots.front();
+        if (!s.valid) { // la simulación aún no ha publicado nada
+            drawLoadingScreen();
+            return;
+        }
+        if (!firstGameFrameMarked) {
+            startup.mark("firstGameFrame");
+            firstGameFrameMarked = true;
         }
 
-        // Colisión con bloques
-        boolean allDestroyed = true;
-        for (int r = 0; r < blocks.length; r++) {
-            for (int c = 0; c < blocks[r].length; c++) {
-                Block block = blocks[r][c];
-                if (block.isAlive()) {
-                    if (!block.isSteel()) allDestroyed = false;
-                    if (Rect.intersects(ball.getBounds(), block.getBounds())) {
-                        boolean wasAlive = block.isAlive();
-                        block.hit();
-                        ball.bounceY();
-
-                        if (block.isSteel()) {
-                            soundManager.playSteelHit(); // ← SONIDO acero
-                        } else if (!block.isAlive() && wasAlive) {
-                            // Bloque destruido
-                            blocksDestroyed++;
-                            score += block.getPoints();
-                            soundManager.playBlockBreak(); // ← SONIDO destrucción
-                            spriteSheet.startExplosion(block.getCenterX(), block.getCenterY());
-
-                            // ── VELOCIDAD PROGRESIVA ──────────────────────
-                            // Cada 10 bloques destruidos, aumenta la velocidad
-                            if (blocksDestroyed % 10 == 0) {
-                                ball.increaseSpeed(1.5f); // +1.5 px por frame
-                            }
-                        } else {
-                            soundManager.playBlockHit(); // ← SONIDO golpe sin destruir
-                        }
-                    }
-                }
-            }
+        float alpha = (frameTimeNanos - s.stepTimeNanos) / (float) simLoop.getStepNanos();
+        draw(s, Math.max(0f, Math.min(1f, alpha)));
+    }
+
+    /** Pantalla de carga: se pinta una vez y se deja hasta el primer frame de juego */
+    private void drawLoadingScreen() {
+        if (loadingScreenDrawn || !getHolder().getSurface().isValid()) return;
+        Canvas canvas = getHolder().lockCanvas();
+        if (canvas == null) return;
+        try {
+            drawBackground(canvas);
+            drawMessage(canvas, MSG_LOADING);
+        } finally {
+            getHolder().unlockCanvasAndPost(canvas);
         }
+        loadingScreenDrawn = true;
+        startup.mark("firstFrame");
+        planner.requestFullRedraw(); // el primer frame de juego tapa la pantalla de carga entera
+    }
 
-        // Pelota perdida
-        if (ball.getY() > screenHeight + 50) {
-            lives--;
-            if (lives <= 0) {
-                saveHighScore(score);
-                state = GameState.GAME_OVER;
-            } else {
-                ball.reset(screenWidth / 2f, screenHeight * 0.65f);
-                state = GameState.WAITING;
-            }
+    /** Sin el mundo o los gráficos no hay juego: el fallo de su etapa es fatal */
+    private static void checkStage(StartupPipeline.Stage stage) {
+        if (stage.isFailed()) {
+            throw new IllegalStateException("falló la carga de '" + stage.getName() + "'", stage.getError());
         }
+    }
 
-        if (allDestroyed) {
-            saveHighScore(score);
-            if (levelManager.isLastLevel()) {
-                state = GameState.WIN; // completó todos los niveles
-            } else {
-                levelManager.nextLevel();
-                initLevel();           // cargar siguiente nivel sin resetear puntos ni vidas
-                state = GameState.WAITING;
-            }
+    private static void sleepNanos(long nanos) {
+        if (nanos <= 0) return;
+        try {
+            Thread.sleep(nanos / 1_000_000L, (int) (nanos % 1_000_000L));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+    }
 
-        spriteSheet.update();
+    // ════════════════════════════════════════════════════════════════════
+    // EVENTOS DEL MUNDO (se ejecutan en el hilo de simulación dentro de world.step)
+    // ════════════════════════════════════════════════════════════════════
+    @Override public void onPaddleBounce() { soundManager.playBouncePaddle(); } // ← SONIDO paleta
+    @Override public void onWallBounce()   { soundManager.playBounceWall(); }   // ← SONIDO pared
+    @Override public void onSteelHit(int block) { soundManager.playSteelHit(); } // ← SONIDO acero
+    @Override public void onBlockHit(int block) { soundManager.playBlockHit(); } // ← SONIDO golpe sin destruir
+
+    @Override
+    public void onBlockDestroyed(int block) {
+        soundManager.playBlockBreak(); // ← SONIDO destrucción
+        BlockField blocks = world.getBlocks();
+        explosions.start(blocks.centerX(block), blocks.centerY(block));
+    }
+
+    @Override public void onGameOver(int score)       { highScores.submit(score); }
+    @Override public void onLevelCompleted(int score) { highScores.submit(score); }
+
+    @Override
+    public void onLevelLoaded(int levelNumber) {
+        // Estrellas y capa de bloques se rehacen en el render al ver el nivel nuevo
+        explosions.clear(); // la paleta nueva empieza centrada hasta que el dedo se mueva
     }
 
     // ════════════════════════════════════════════════════════════════════
     // RENDERIZADO
     // ════════════════════════════════════════════════════════════════════
-    private void draw() {
+    private void draw(FrameSnapshot s, float alpha) {
         if (getHolder().getSurface().isValid()) {
+            renderTrace.begin("dirtyRegion");
+            int mode = planner.plan(s, alpha, highScores.get(), scene);
+            renderTrace.end();
+            if (mode == FramePlanner.FRAME_SKIP) return; // la pantalla ya muestra este frame
+            if (mode == FramePlanner.FRAME_PARTIAL) {
+                DirtyRegion dirty = planner.getDirty();
+                dirtyRect.set(dirty.left, dirty.top, dirty.right, dirty.bottom);
+            }
+
             Canvas canvas = null;
+            long drawStart = 0;
             try {
-                canvas = getHolder().lockCanvas();
+                // En modo parcial el canvas llega recortado a dirtyRect (o a una
+                // zona mayor que elija el sistema): se dibuja la escena completa
+                // y el recorte descarta todo lo que cae fuera
+                long lockStart = System.nanoTime();
+                renderTrace.begin("lock");
+                canvas = (mode == FramePlanner.FRAME_PARTIAL)
+                        ? getHolder().lockCanvas(dirtyRect)
+                        : getHolder().lockCanvas();
+                renderTrace.end();
+                drawStart = System.nanoTime();
+                metrics.record(FrameMetrics.PHASE_LOCK, drawStart - lockStart);
                 if (canvas == null) return;
 
                 // 1. Fondo con estrellas (siempre lo primero)
+                renderTrace.begin("background");
                 drawBackground(canvas);
+                renderTrace.end();
 
-                // 2. Bloques
-                for (Block[] row : blocks)
-                    for (Block b : row)
-                        if (b.isAlive()) b.draw(canvas);
+                // 2. Bloques: una sola copia del bitmap de la capa
+                //    (solo se repintan los bloques golpeados desde el último frame)
+                renderTrace.begin("blocks");
+                blockLayer.draw(canvas, planner.getShownBlocks());
+                renderTrace.end();
 
                 // 3. Paleta
-                paddle.draw(canvas);
+                renderTrace.begin("paddle");
+                paddleRenderer.draw(canvas, s, alpha);
+                renderTrace.end();
 
                 // 4. Pelota
-                ball.draw(canvas);
+                renderTrace.begin("ball");
+                ballRenderer.draw(canvas, s, alpha);
+                renderTrace.end();
 
                 // 5. Explosiones del sprite sheet
-                spriteSheet.draw(canvas);
+                renderTrace.begin("sprites.draw");
+                spriteSheet.draw(canvas, s.explosions);
+                renderTrace.end();
 
                 // 6. HUD (puntuación y vidas, siempre encima de todo)
+                renderTrace.begin("hud");
                 drawHUD(canvas);
+                renderTrace.end();
 
                 // 7. Pantallas de estado
-                if (state == GameState.WAITING)   drawMessage(canvas, "Toca para lanzar");
-                if (state == GameState.GAME_OVER) drawMessage(canvas, "GAME OVER\nToca para reiniciar");
-                if (state == GameState.WIN)       drawMessage(canvas, "¡GANASTE!\nToca para reiniciar");
+                renderTrace.begin("messages");
+                GameState state = s.state;
+                if (state == GameState.WAITING)   drawMessage(canvas, MSG_WAITING);
+                if (state == GameState.GAME_OVER) drawMessage(canvas, MSG_GAME_OVER);
+                if (state == GameState.WIN)       drawMessage(canvas, MSG_WIN);
+                renderTrace.end();
+
+                // 8. Panel de métricas (opcional)
+                if (metricsOverlayVisible) metricsOverlay.draw(canvas, res.metricsPaint, screenHeight);
 
             } finally {
                 if (canvas != null) {
+                    long postStart = System.nanoTime();
+                    metrics.record(FrameMetrics.PHASE_DRAW, postStart - drawStart);
+                    renderTrace.begin("post");
                     getHolder().unlockCanvasAndPost(canvas);
+                    renderTrace.end();
+                    metrics.record(FrameMetrics.PHASE_POST, System.nanoTime() - postStart);
                 }
             }
         }
     }
+
+    /** Activa o desactiva el repintado parcial (desactivado: siempre frame completo) */
+    public void setDirtyRectsEnabled(boolean enabled) {
+        planner.setDirtyRectsEnabled(enabled);
+    }
+
+    /** Muestra u oculta el panel de métricas de frame */
+    public void setMetricsOverlayVisible(boolean visible) {
+        metricsOverlayVisible = visible;
+        planner.requestFullRedraw(); // aparecer o desaparecer cambia la pantalla entera
+    }
+
+    public FrameMetrics getMetrics() { return metrics; }
+
+    /** Vuelca el informe de métricas en files/frame_metrics.txt */
+    public File dumpMetrics() throws IOException {
+        return dumpMetrics(new File(getContext().getFilesDir(), "frame_metrics.txt"));
+    }
+
+    /** Vuelca el informe de métricas en el fichero dado (valores aproximados si el juego corre) */
+    public File dumpMetrics(File file) throws IOException {
+        try (Writer out = new FileWriter(file)) {
+            metrics.writeReport(out);
+            out.write('\n');
+            startup.writeReport(out);
+        }
+        return file;
+    }
+
+    /** Activa o desactiva la grabación de trazas de los hilos del juego */
+    public void setTracingEnabled(boolean enabled) {
+        simTrace.setEnabled(enabled);
+        renderTrace.setEnabled(enabled);
+        audioTrace.setEnabled(enabled);
+    }
+
+    /** Exporta las trazas a files/trace.json (ábrelo en ui.perfetto.dev o chrome://tracing) */
+    public File exportTrace() throws IOException {
+        return exportTrace(new File(getContext().getFilesDir(), "trace.json"));
+    }
+
+    /** Exporta las trazas en formato Chrome trace-event JSON (mejor con el juego en pausa) */
+    public File exportTrace(File file) throws IOException {
+        try (Writer out = new FileWriter(file)) {
+            TraceRecorder.writeChromeJson(out, simTrace, renderTrace, audioTrace);
+        }
+        return file;
+    }
+
+    /** Guarda la partida grabada hasta ahora en files/replay.arkr */
+    public File exportReplay() throws IOException {
+        return exportReplay(new File(getContext().getFilesDir(), "replay.arkr"));
+    }
+
+    /** Guarda la partida grabada hasta ahora (se puede llamar con el juego en marcha) */
+    public File exportReplay(File file) throws IOException {
+        if (!levelStage.isReady()) throw new IOException("la partida aún se está cargando");
+        Replay replay = replayRecorder.finish();
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            replay.write(out);
+        }
+        return file;
+    }
+
+    /**
+     * Ritmo del render: true = vsync de la pantalla (Choreographer),
+     * false = bucle con sleep. Se aplica al volver a arrancar los hilos.
+     */
+    public void setVsyncPacing(boolean enabled) { vsyncPacing = enabled; }
+
+    /** FPS máximos del render; 0 = uno por vsync */
+    public void setFrameCap(int fps) {
+        if (fps < 0) throw new IllegalArgumentException("tope negativo");
+        frameCap = fps;
+    }
+
+    /** Frames dibujados, vsyncs saltados por el tope y perdidos (aproximados con el juego en marcha) */
+    public FramePacer getFramePacer() { return pacer; }
+
+    /** Etapas del arranque y sus tiempos */
+    public StartupPipeline getStartup() { return startup; }
+
+    public long getFullFrames()    { return planner.getFullFrames(); }
+    public long getPartialFrames() { return planner.getPartialFrames(); }
+    public long getSkippedFrames() { return planner.getSkippedFrames(); }
+
     private void drawBackground(Canvas canvas) {
-        canvas.drawColor(Color.parseColor("#0A0A1A"));
+        canvas.drawColor(RenderResources.COLOR_BACKGROUND);
         if (stars == null) return;
-        Paint starPaint = new Paint();
-        starPaint.setColor(Color.parseColor("#AAFFFFFF"));
-        starPaint.setStrokeWidth(2);
-        for (int i = 0; i < stars.length - 1; i += 2) {
-            canvas.drawPoint(stars[i], stars[i+1], starPaint);
-        }
+        canvas.drawPoints(stars, res.starPaint); // todas las estrellas en una llamada
     }
 
     private void drawHUD(Canvas canvas) {
-        canvas.drawText("Puntos: " + score, 20, 90, hudPaint);
-        canvas.drawText("Récord: " + loadHighScore(), 20, 135, hudPaint);
-        canvas.drawText("Nivel: " + levelManager.getCurrentLevelNumber()
-                        + "/" + levelManager.getTotalLevels(),
-                screenWidth / 2f, 90, hudPaint); // ← centrado
-        canvas.drawText("Vidas: " + lives, screenWidth - 200f, 90, hudPaint);
+        Paint hudPaint = res.hudPaint;
+        HudText hud = planner.getHud();
+        drawText(canvas, hud.score, 20, 90, hudPaint);
+        drawText(canvas, hud.highScore, 20, 135, hudPaint);
+        drawText(canvas, hud.level, screenWidth / 2f, 90, hudPaint); // ← centrado
+        drawText(canvas, hud.lives, screenWidth - 200f, 90, hudPaint);
     }
 
-    private void drawMessage(Canvas canvas, String message) {
-        Paint overlay = new Paint();
-        overlay.setColor(Color.parseColor("#AA000000"));
-        canvas.drawRect(0, screenHeight * 0.35f, screenWidth, screenHeight * 0.65f, overlay);
+    private static void drawText(Canvas canvas, TextBuffer text, float x, float y, Paint paint) {
+        canvas.drawText(text.chars(), 0, text.length(), x, y, paint);
+    }
+
+    private void drawMessage(Canvas canvas, String[] lines) {
+        canvas.drawRect(0, screenHeight * 0.35f, screenWidth, screenHeight * 0.65f, res.overlayPaint);
 
-        String[] lines = message.split("\n");
         float y = screenHeight / 2f - (lines.length - 1) * 35f;
         for (String line : lines) {
-            canvas.drawText(line, screenWidth / 2f, y, textPaint);
+            canvas.drawText(line, screenWidth / 2f, y, res.textPaint);
             y += 75;
         }
     }
@@ -394,39 +765,39 @@ public class GameView extends SurfaceView
     // ════════════════════════════════════════════════════════════════════
     @Override
     public boolean onTouch(View v, MotionEvent event) {
-        touchX = event.getX();
-
+        // getEventTime() está en el reloj uptimeMillis (CLOCK_MONOTONIC), el
+        // mismo que System.nanoTime() en Android: sirve para medir la latencia
+        long timeNanos = event.getEventTime() * 1_000_000L;
         switch (event.getAction()) {
             case MotionEvent.ACTION_DOWN:
-                if (state == GameState.WAITING) {
-                    state = GameState.PLAYING;
-                } else if (state == GameState.GAME_OVER || state == GameState.WIN) {
-                    initGame();
-                }
+                // Lanzar la pelota o reiniciar: lo decide el mundo en el siguiente paso
+                inputQueue.offer(InputQueue.TYPE_TAP, event.getX(), timeNanos);
                 break;
             case MotionEvent.ACTION_MOVE:
                 // Mover paleta siguiendo el dedo
-                paddle.moveTo(touchX - paddle.getWidth() / 2f);
+                inputQueue.offer(InputQueue.TYPE_MOVE, event.getX(), timeNanos);
                 break;
         }
         return true;
     }
 
+    /** Cola de entrada (latencia entrada → simulación, eventos descartados) */
+    public InputQueue getInputQueue() {
+        return inputQueue;
+    }
+
     // ════════════════════════════════════════════════════════════════════
     // CICLO DE VIDA DE LA SURFACE
     // ════════════════════════════════════════════════════════════════════
 
     /**
      * surfaceCreated — La Surface está lista para dibujar.
-     * Aquí iniciamos el hilo del juego.
+     * Aquí iniciamos los hilos de simulación y de render.
      */
     @Override
     public void surfaceCreated(SurfaceHolder holder) {
-        // OPCIÓN B: Creación del hilo de juego separado del UI Thread.
-        // Se instancia pasando 'this' porque GameView implementa Runnable.
-        isRunning = true;
-        gameThread = new Thread(this);
-        gameThread.start();
+        planner.requestFullRedraw(); // el contenido de la surface nueva no es fiable
+        startThreads();
     }
 
     /**
@@ -436,7 +807,9 @@ public class GameView extends SurfaceView
      */
     @Override
     public void surfaceChanged(SurfaceHolder holder, int format, int width, int height) {
-        // No necesario para este proyecto (orientación fija)
+        // No necesario para este proyecto (orientación fija), pero el
+        // contenido anterior ya no vale: el siguiente frame se pinta entero
+        planner.requestFullRedraw();
     }
 
     /**
@@ -449,53 +822,88 @@ public class GameView extends SurfaceView
         stopGame();
     }
 
+    /** Arranca la simulación y el render, cada uno en su hilo */
+    private void startThreads() {
+        isRunning = true;
+        soundManager.setPaused(false);
+        loadingScreenDrawn = false; // surface nueva: hasta el primer frame, pantalla de carga
+        simThread    = new Thread(this::runSimulation, "Simulation");
+        renderThread = new Thread(this::runRender, "Render");
+        simThread.start();
+        renderThread.start();
+    }
+
     /**
-     * Detiene el hilo de juego de forma segura.
+     * Detiene los hilos del juego de forma segura.
      * Llamado tanto desde surfaceDestroyed como desde onPause de la Activity.
      */
     public void stopGame() {
         isRunning = false;
-        // join() es CRÍTICO: espera a que el hilo termine completamente
+        Looper looper = renderLooper;
+        if (looper != null) looper.quit(); // sin esperar al siguiente vsync (con la pantalla apagada no llega)
+        // join() es CRÍTICO: espera a que los hilos terminen completamente
         // antes de que Android destruya la Surface. Sin esto → posible crash
-        if (gameThread != null) {
-            boolean retry = true;
-            while (retry) {
-                try {
-                    gameThread.join(); // Esperar a que el hilo termine completamente
-                    retry = false;
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }
-            gameThread = null;
-        }
+        joinThread(renderThread);
+        boolean wasSimulating = simThread != null;
+        joinThread(simThread);
+        renderThread = null;
+        simThread    = null;
+        soundManager.setPaused(true);
+        // Con la simulación parada el mundo es consistente: codificarlo son
+        // unos microsegundos; la escritura del fichero va en su propio hilo
+        // (si el mundo no llegó a cargarse, el guardado anterior sigue valiendo)
+        if (wasSimulating && levelStage.isReady()) saveStore.save(SaveState.encode(world));
     }
 
     /**
-     * Reanuda el juego (llamado desde onResume de la Activity).
+     * Detiene el juego y libera lo que vive más que una partida: el hilo
+     * de audio, el AudioTrack de baja latencia, el SoundPool y los bitmaps
+     * de la capa de bloques.
+     * Llamado desde onDestroy de la Activity; después la vista no se reutiliza.
      */
-    public void resumeGame() {
-        if (!isRunning && getHolder().getSurface().isValid()) {
-            isRunning = true;
-            gameThread = new Thread(this);
-            gameThread.start();
+    public void release() {
+        stopGame(); // con el render parado nadie dibuja ya la capa
+        soundManager.release();
+        if (!assetsStage.isReady()) return; // sin capa de bloques todavía
+        // La precarga pinta la capa del nivel siguiente en su hilo: se
+        // desengancha y se espera a la tarea en curso antes de liberar
+        if (levelStage.isReady()) world.setLevelPrefetcher(null, null);
+        if (drainLevelPrefetch()) blockLayer.release();
+    }
+
+    /** Espera a que termine lo encargado a la precarga; false si no da tiempo */
+    private static boolean drainLevelPrefetch() {
+        try {
+            LEVEL_PREFETCH.submit(() -> { }).get(PREFETCH_DRAIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            return false; // los bitmaps se quedan para el recolector
         }
     }
 
-    private int loadHighScore() {
-        return getContext()
-                .getSharedPreferences("arkanoid_prefs", Context.MODE_PRIVATE)
-                .getInt("high_score", 0);
+    private static void joinThread(Thread thread) {
+        if (thread == null) return;
+        boolean retry = true;
+        while (retry) {
+            try {
+                thread.join(); // Esperar a que el hilo termine completamente
+                retry = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
-    private void saveHighScore(int newScore) {
-        int current = loadHighScore();
-        if (newScore > current) {
-            getContext()
-                    .getSharedPreferences("arkanoid_prefs", Context.MODE_PRIVATE)
-                    .edit()
-                    .putInt("high_score", newScore)
-                    .apply();
+    /**
+     * Reanuda el juego (llamado desde onResume de la Activity).
+     */
+    public void resumeGame() {
+        if (!isRunning && getHolder().getSurface().isValid()) {
+            planner.requestFullRedraw();
+            startThreads();
         }
     }
 }
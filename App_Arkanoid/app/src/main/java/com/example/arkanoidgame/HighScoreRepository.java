@@ -0,0 +1,122 @@
+package com.example.arkanoidgame;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * HighScoreRepository — Récord en memoria con escritura diferida.
+ *
+ * El récord se lee del almacenamiento una sola vez, al crear el
+ * repositorio; a partir de ahí get() devuelve el valor en memoria sin
+ * tocar SharedPreferences. Los récords nuevos se guardan en un ejecutor
+ * en segundo plano y las escrituras se agrupan: si llegan varios récords
+ * antes de que se ejecute la escritura pendiente, solo se escribe el último.
+ *
+ *   submit(120) → valor = 120, escritura programada
+ *   submit(150) → valor = 150, ya había escritura pendiente
+ *   [ejecutor]  → store.write(150)   ← una sola escritura
+ *
+ * El listener se avisa en el hilo que llama a submit() y solo cuando el
+ * récord cambia, para que el HUD rehaga su texto únicamente entonces.
+ */
+public class HighScoreRepository {
+
+    /** Almacenamiento persistente del récord */
+    public interface Store {
+        int read();
+        void write(int highScore);
+    }
+
+    /** Aviso de récord nuevo */
+    public interface Listener {
+        void onHighScoreChanged(int highScore);
+    }
+
+    private static final String PREFS_NAME = "arkanoid_prefs";
+    private static final String KEY_HIGH_SCORE = "high_score";
+
+    private final Store store;
+    private final Executor executor;
+    private volatile int highScore;
+    private volatile Listener listener;
+
+    // true mientras hay una escritura programada que aún no ha leído el valor
+    private final AtomicBoolean writePending = new AtomicBoolean(false);
+    private final Runnable writeTask = new Runnable() {
+        @Override
+        public void run() {
+            writePending.set(false); // lo que llegue a partir de aquí programa otra escritura
+            store.write(highScore);
+        }
+    };
+
+    public HighScoreRepository(Store store, Executor executor) {
+        this.store    = store;
+        this.executor = executor;
+        this.highScore = store.read();
+    }
+
+    /** Repositorio respaldado por SharedPreferences con un hilo de escritura propio */
+    public static HighScoreRepository create(Context context) {
+        final SharedPreferences prefs =
+                context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        Store store = new Store() {
+            @Override public int read() { return prefs.getInt(KEY_HIGH_SCORE, 0); }
+            // commit() es síncrono, pero ya estamos fuera del hilo del juego
+            @Override public void write(int value) { prefs.edit().putInt(KEY_HIGH_SCORE, value).commit(); }
+        };
+        ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "HighScoreWriter");
+            t.setDaemon(true);
+            return t;
+        });
+        return new HighScoreRepository(store, writer);
+    }
+
+    /** Récord actual (en memoria, sin E/S) */
+    public int get() {
+        return highScore;
+    }
+
+    /**
+     * Propone una puntuación; si supera el récord, lo actualiza, avisa al
+     * listener y programa su escritura.
+     * @return true si era un récord nuevo
+     */
+    public boolean submit(int score) {
+        if (score <= highScore) return false;
+        highScore = score;
+        if (writePending.compareAndSet(false, true)) {
+            executor.execute(writeTask);
+        }
+        Listener l = listener;
+        if (l != null) l.onHighScoreChanged(score);
+        return true;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Espera a que terminen las escrituras pendientes (p. ej. al cerrar la app).
+     * Solo tiene efecto si el ejecutor es un ExecutorService.
+     */
+    public void shutdown(long timeoutMillis) {
+        if (executor instanceof ExecutorService) {
+            ExecutorService service = (ExecutorService) executor;
+            service.shutdown();
+            try {
+                service.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
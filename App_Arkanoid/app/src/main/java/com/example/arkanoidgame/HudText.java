@@ -0,0 +1,53 @@
+package com.example.arkanoidgame;
+
+/**
+ * HudText — Textos del HUD, rehechos solo cuando cambia algún valor.
+ *
+ * Guarda los últimos valores mostrados; update() compara y solo
+ * reescribe los TextBuffer afectados, así que un frame en el que no
+ * cambia nada no toca el texto (ni reserva memoria en ningún caso).
+ */
+public class HudText {
+
+    public final TextBuffer score     = new TextBuffer(24);
+    public final TextBuffer highScore = new TextBuffer(24);
+    public final TextBuffer level     = new TextBuffer(24);
+    public final TextBuffer lives     = new TextBuffer(24);
+
+    private int lastScore = -1, lastHighScore = -1, lastLevel = -1, lastTotal = -1, lastLives = -1;
+
+    /**
+     * Actualiza los textos con los valores actuales.
+     * @return true si alguno ha cambiado (hay que repintar el HUD)
+     */
+    public boolean update(int score, int highScore, int level, int totalLevels, int lives) {
+        boolean changed = false;
+        if (score != lastScore) {
+            this.score.clear().append("Puntos: ").append(score);
+            lastScore = score;
+            changed = true;
+        }
+        if (highScore != lastHighScore) {
+            this.highScore.clear().append("Récord: ").append(highScore);
+            lastHighScore = highScore;
+            changed = true;
+        }
+        if (level != lastLevel || totalLevels != lastTotal) {
+            this.level.clear().append("Nivel: ").append(level).append('/').append(totalLevels);
+            lastLevel = level;
+            lastTotal = totalLevels;
+            changed = true;
+        }
+        if (lives != lastLives) {
+            this.lives.clear().append("Vidas: ").append(lives);
+            lastLives = lives;
+            changed = true;
+        }
+        return changed;
+    }
+
+    /** Fuerza a reescribir todos los textos en el próximo update() */
+    public void invalidate() {
+        lastScore = lastHighScore = lastLevel = lastTotal = lastLives = -1;
+    }
+}
@@ -56,9 +56,10 @@ public class MainActivity extends AppCompatActivity {
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        // Garantizar limpieza final
+        // Garantizar limpieza final (hilos del juego y del audio)
         if (gameView != null) {
-            gameView.stopGame();
+            gameView.release();
+            gameView = null;
         }
     }
 }
\ No newline at end of file
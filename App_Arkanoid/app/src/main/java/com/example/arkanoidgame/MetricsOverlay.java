@@ -0,0 +1,70 @@
+package com.example.arkanoidgame;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.example.arkanoidgame.core.FrameMetrics;
+import com.example.arkanoidgame.core.LatencyHistogram;
+
+/**
+ * MetricsOverlay — Panel en pantalla con los tiempos por fase de FrameMetrics.
+ *
+ * Una línea por fase (p50 / p95 / p99 / máx. en ms) y otra con el jank.
+ * Los textos se rehacen cada REFRESH_FRAMES frames en TextBuffer
+ * reutilizables, así que mostrar el panel no reserva memoria.
+ */
+public class MetricsOverlay {
+
+    private static final int REFRESH_FRAMES = 30;  // ~2 veces por segundo a 60 fps
+    private static final float LINE_HEIGHT  = 34;
+    private static final float MARGIN       = 20;
+
+    private final TextBuffer[] lines = new TextBuffer[FrameMetrics.PHASE_COUNT + 1];
+    private int framesSinceRefresh = REFRESH_FRAMES;
+
+    public MetricsOverlay() {
+        for (int i = 0; i < lines.length; i++) lines[i] = new TextBuffer(64);
+    }
+
+    /** Rehace los textos si toca; true si han cambiado */
+    public boolean update(FrameMetrics metrics) {
+        if (++framesSinceRefresh < REFRESH_FRAMES) return false;
+        framesSinceRefresh = 0;
+        for (int phase = 0; phase < FrameMetrics.PHASE_COUNT; phase++) {
+            LatencyHistogram h = metrics.get(phase);
+            TextBuffer t = lines[phase].clear().append(FrameMetrics.phaseName(phase));
+            appendMillis(t.append("  p50 "), h.percentile(0.50));
+            appendMillis(t.append("  p95 "), h.percentile(0.95));
+            appendMillis(t.append("  p99 "), h.percentile(0.99));
+            appendMillis(t.append("  max "), h.getMax());
+        }
+        lines[FrameMetrics.PHASE_COUNT].clear()
+                .append("jank ").append((int) metrics.getJankFrames())
+                .append("  grave ").append((int) metrics.getSevereJankFrames())
+                .append("  frames ").append((int) metrics.get(FrameMetrics.PHASE_FRAME).getCount());
+        return true;
+    }
+
+    /** Milisegundos con un decimal, sin pasar por String */
+    private static void appendMillis(TextBuffer t, long nanos) {
+        long tenths = (nanos + 50_000) / 100_000;
+        t.append((int) (tenths / 10)).append('.').append((int) (tenths % 10));
+    }
+
+    public void draw(Canvas canvas, Paint paint, int screenHeight) {
+        float y = top(screenHeight) + LINE_HEIGHT;
+        for (TextBuffer line : lines) {
+            canvas.drawText(line.chars(), 0, line.length(), MARGIN, y, paint);
+            y += LINE_HEIGHT;
+        }
+    }
+
+    /** Añade a 'out' la zona del panel (en toda la anchura de la pantalla) */
+    public void addBounds(DirtyRegion out, int screenWidth, int screenHeight) {
+        out.add(0, top(screenHeight), screenWidth, screenHeight);
+    }
+
+    private float top(int screenHeight) {
+        return screenHeight - (lines.length + 1) * LINE_HEIGHT;
+    }
+}
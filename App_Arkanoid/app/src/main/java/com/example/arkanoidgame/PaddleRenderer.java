@@ -0,0 +1,41 @@
+package com.example.arkanoidgame;
+
+import android.graphics.Canvas;
+import android.graphics.RectF;
+
+import com.example.arkanoidgame.core.FrameSnapshot;
+
+/**
+ * PaddleRenderer — Dibuja la paleta de una instantánea del juego con su degradado.
+ * El degradado es un shader compartido que se traslada con la paleta
+ * (ver RenderResources.paddlePaintAt), no uno nuevo por movimiento.
+ */
+public class PaddleRenderer {
+
+    private final RenderResources res;
+    private final RectF bounds = new RectF();
+
+    public PaddleRenderer(RenderResources res) {
+        this.res = res;
+    }
+
+    /**
+     * Dibuja la paleta interpolando entre el paso anterior y el actual.
+     * @param alpha fracción (0..1) del siguiente paso ya transcurrida
+     */
+    public void draw(Canvas canvas, FrameSnapshot s, float alpha) {
+        float y = s.paddleY;
+        int width  = s.paddleWidth;
+        int height = s.paddleHeight;
+        float rx = s.paddleXAt(alpha);
+        bounds.set(rx, y, rx + width, y + height);
+        canvas.drawRoundRect(bounds, height / 2f, height / 2f, res.paddlePaintAt(rx, y, width));
+    }
+
+    /** Añade a 'out' la zona que ocupa la paleta dibujada con el mismo alpha */
+    public void addBounds(DirtyRegion out, FrameSnapshot s, float alpha) {
+        float rx = s.paddleXAt(alpha);
+        float y  = s.paddleY;
+        out.add(rx - 1, y - 1, rx + s.paddleWidth + 1, y + s.paddleHeight + 1);
+    }
+}
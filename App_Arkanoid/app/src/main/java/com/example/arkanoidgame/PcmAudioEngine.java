@@ -0,0 +1,251 @@
+package com.example.arkanoidgame;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.media.AudioAttributes;
+import android.media.AudioFormat;
+import android.media.AudioManager;
+import android.media.AudioTrack;
+import android.media.MediaCodec;
+import android.media.MediaExtractor;
+import android.media.MediaFormat;
+import android.os.Build;
+
+import com.example.arkanoidgame.core.PcmMixer;
+import com.example.arkanoidgame.core.SoundBank;
+import com.example.arkanoidgame.core.SoundQueue;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * PcmAudioEngine — Salida de efectos de baja latencia: un AudioTrack en
+ * modo streaming alimentado por PcmMixer.
+ *
+ * SoundPool añade en muchos dispositivos una latencia apreciable entre el
+ * golpe y el sonido. Aquí los efectos se decodifican una vez a PCM (y se
+ * guardan en files/ como SoundBank, para no decodificar en cada arranque)
+ * y el hilo de audio mezcla bloques cortos y los escribe en un AudioTrack
+ * con un buffer mínimo: lo que se despacha suena en el bloque siguiente.
+ *
+ * create() corre en la etapa de arranque "sound"; a partir de ahí el
+ * motor solo se usa desde el hilo de audio de SoundManager.
+ */
+final class PcmAudioEngine implements SoundQueue.Player {
+
+    static final String BANK_FILE = "sounds.arka";
+    private static final int FRAMES_PER_BLOCK = 256;  // ~5 ms a 48 kHz
+    private static final int SILENCE_THRESHOLD = 64;  // cola de la muestra que se recorta
+    private static final long CODEC_TIMEOUT_US = 10_000;
+
+    private final AudioTrack track;
+    private final PcmMixer mixer;
+    private final short[] block = new short[FRAMES_PER_BLOCK];
+
+    private PcmAudioEngine(AudioTrack track, PcmMixer mixer) {
+        this.track = track;
+        this.mixer = mixer;
+    }
+
+    /**
+     * Carga los efectos (del banco en disco o decodificándolos) y abre el
+     * AudioTrack. Lento la primera vez: para un hilo de arranque.
+     * @return null si el dispositivo no permite el AudioTrack (usar SoundPool)
+     */
+    static PcmAudioEngine create(Context context, int[] rawIds, int voices) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.M) return null; // AudioTrack.Builder
+        int rate = AudioTrack.getNativeOutputSampleRate(AudioManager.STREAM_MUSIC); // sin remuestreo del sistema
+        SoundBank bank = loadBank(context, rawIds, rate);
+
+        int minBytes = AudioTrack.getMinBufferSize(rate, AudioFormat.CHANNEL_OUT_MONO, AudioFormat.ENCODING_PCM_16BIT);
+        AudioTrack.Builder builder = new AudioTrack.Builder()
+                .setAudioAttributes(new AudioAttributes.Builder()
+                        .setUsage(AudioAttributes.USAGE_GAME)
+                        .setContentType(AudioAttributes.CONTENT_TYPE_SONIFICATION)
+                        .build())
+                .setAudioFormat(new AudioFormat.Builder()
+                        .setEncoding(AudioFormat.ENCODING_PCM_16BIT)
+                        .setSampleRate(rate)
+                        .setChannelMask(AudioFormat.CHANNEL_OUT_MONO)
+                        .build())
+                .setBufferSizeInBytes(Math.max(minBytes, 2 * 2 * FRAMES_PER_BLOCK))
+                .setTransferMode(AudioTrack.MODE_STREAM);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            builder.setPerformanceMode(AudioTrack.PERFORMANCE_MODE_LOW_LATENCY);
+        }
+        AudioTrack track;
+        try {
+            track = builder.build();
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            return null;
+        }
+        if (track == null) return null;
+        track.play();
+        return new PcmAudioEngine(track, new PcmMixer(bank, voices, FRAMES_PER_BLOCK));
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // HILO DE AUDIO
+    // ════════════════════════════════════════════════════════════════════
+
+    @Override
+    public int play(int sample, float volume, int priority) {
+        return mixer.start(sample, volume); // suena desde el bloque siguiente
+    }
+
+    @Override
+    public void stop(int voice) {
+        mixer.stop(voice);
+    }
+
+    /**
+     * Mezcla un bloque y lo escribe. La escritura bloquea mientras el
+     * buffer del AudioTrack está lleno: marca el ritmo del hilo de audio.
+     */
+    void renderBlock() {
+        mixer.mix(block, 0, FRAMES_PER_BLOCK);
+        track.write(block, 0, FRAMES_PER_BLOCK);
+    }
+
+    PcmMixer getMixer() {
+        return mixer;
+    }
+
+    void pause() {
+        track.pause();
+        mixer.stopAll(); // al volver no se retoman efectos de hace minutos
+    }
+
+    void resume() {
+        track.play();
+    }
+
+    void release() {
+        track.pause();
+        track.flush();
+        track.release();
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // BANCO DE SONIDOS
+    // ════════════════════════════════════════════════════════════════════
+
+    /** Banco de files/ si sigue valiendo; si no, decodifica y lo guarda */
+    private static SoundBank loadBank(Context context, int[] rawIds, int rate) {
+        long key = sourceKey(context, rawIds);
+        File file = new File(context.getFilesDir(), BANK_FILE);
+        if (file.isFile()) {
+            try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+                return SoundBank.read(in, rate, key);
+            } catch (IOException e) {
+                // Dañado o anticuado: se vuelve a decodificar
+            }
+        }
+
+        short[][] samples = new short[rawIds.length][];
+        for (int i = 0; i < rawIds.length; i++) {
+            try {
+                samples[i] = decode(context, rawIds[i], rate);
+            } catch (IOException | RuntimeException e) {
+                samples[i] = new short[0]; // ese efecto no sonará
+            }
+        }
+        SoundBank bank = new SoundBank(rate, key, samples);
+        File tmp = new File(file.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            bank.write(out);
+            out.getFD().sync();
+            if (!tmp.renameTo(file)) tmp.delete();
+        } catch (IOException e) {
+            tmp.delete(); // sin caché: la próxima vez se decodifica otra vez
+        }
+        return bank;
+    }
+
+    /**
+     * Clave de los ficheros de origen: sus ids y longitudes. Una versión
+     * nueva de la app con otros .ogg cambia la clave y el banco se rehace.
+     */
+    private static long sourceKey(Context context, int[] rawIds) {
+        long key = 0xcbf29ce484222325L; // FNV-1a de 64 bits
+        for (int id : rawIds) {
+            long length = -1;
+            try (AssetFileDescriptor fd = context.getResources().openRawResourceFd(id)) {
+                if (fd != null) length = fd.getLength();
+            } catch (IOException e) {
+                // sin longitud: la clave solo lleva el id
+            }
+            key = (key ^ id) * 0x100000001b3L;
+            key = (key ^ length) * 0x100000001b3L;
+        }
+        return key;
+    }
+
+    /** Decodifica un recurso de res/raw/ a PCM mono de 16 bits a 'rate' Hz */
+    private static short[] decode(Context context, int rawId, int rate) throws IOException {
+        MediaExtractor extractor = new MediaExtractor();
+        MediaCodec codec = null;
+        try (AssetFileDescriptor fd = context.getResources().openRawResourceFd(rawId)) {
+            extractor.setDataSource(fd.getFileDescriptor(), fd.getStartOffset(), fd.getLength());
+            MediaFormat format = extractor.getTrackFormat(0);
+            extractor.selectTrack(0);
+            int sourceRate = format.getInteger(MediaFormat.KEY_SAMPLE_RATE);
+            int channels   = format.getInteger(MediaFormat.KEY_CHANNEL_COUNT);
+
+            codec = MediaCodec.createDecoderByType(format.getString(MediaFormat.KEY_MIME));
+            codec.configure(format, null, null, 0);
+            codec.start();
+
+            short[] pcm = new short[sourceRate * channels / 2]; // medio segundo; crece si hace falta
+            int length = 0;
+            MediaCodec.BufferInfo info = new MediaCodec.BufferInfo();
+            boolean inputDone = false, outputDone = false;
+            while (!outputDone) {
+                if (!inputDone) {
+                    int in = codec.dequeueInputBuffer(CODEC_TIMEOUT_US);
+                    if (in >= 0) {
+                        int size = extractor.readSampleData(codec.getInputBuffer(in), 0);
+                        if (size < 0) {
+                            codec.queueInputBuffer(in, 0, 0, 0, MediaCodec.BUFFER_FLAG_END_OF_STREAM);
+                            inputDone = true;
+                        } else {
+                            codec.queueInputBuffer(in, 0, size, extractor.getSampleTime(), 0);
+                            extractor.advance();
+                        }
+                    }
+                }
+                int out = codec.dequeueOutputBuffer(info, CODEC_TIMEOUT_US);
+                if (out == MediaCodec.INFO_OUTPUT_FORMAT_CHANGED) {
+                    MediaFormat actual = codec.getOutputFormat();
+                    sourceRate = actual.getInteger(MediaFormat.KEY_SAMPLE_RATE);
+                    channels   = actual.getInteger(MediaFormat.KEY_CHANNEL_COUNT);
+                } else if (out >= 0) {
+                    ByteBuffer buf = codec.getOutputBuffer(out);
+                    int count = info.size / 2;
+                    if (length + count > pcm.length) {
+                        pcm = java.util.Arrays.copyOf(pcm, Math.max(2 * pcm.length, length + count));
+                    }
+                    buf.position(info.offset);
+                    buf.order(ByteOrder.nativeOrder()).asShortBuffer().get(pcm, length, count);
+                    length += count;
+                    codec.releaseOutputBuffer(out, false);
+                    outputDone = (info.flags & MediaCodec.BUFFER_FLAG_END_OF_STREAM) != 0;
+                }
+            }
+            short[] mono = SoundBank.toMono(pcm, length, channels);
+            return SoundBank.trimSilence(SoundBank.resample(mono, sourceRate, rate), SILENCE_THRESHOLD);
+        } finally {
+            if (codec != null) {
+                codec.stop();
+                codec.release();
+            }
+            extractor.release();
+        }
+    }
+}
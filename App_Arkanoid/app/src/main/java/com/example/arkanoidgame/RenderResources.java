@@ -0,0 +1,164 @@
+package com.example.arkanoidgame;
+
+import android.graphics.BlurMaskFilter;
+import android.graphics.Color;
+import android.graphics.LinearGradient;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Shader;
+
+/**
+ * RenderResources — Colores, Paints y shaders compartidos por el renderizado.
+ *
+ * Todo lo que antes se creaba dentro de draw() (Paint nuevos,
+ * Color.parseColor, degradados de la paleta) se crea aquí una sola vez.
+ * Los renderizadores reciben esta caché y no reservan memoria por frame.
+ *
+ *   colores   → parseados al cargar la clase (constantes)
+ *   Paints    → uno por uso, creados en el constructor
+ *   degradado → creado una vez por ancho de paleta; para moverlo se
+ *               traslada con una Matrix en lugar de crear otro shader
+ */
+public final class RenderResources {
+
+    // ─── Colores (parseados una sola vez) ───────────────────────────────
+    public static final int COLOR_BACKGROUND   = Color.parseColor("#0A0A1A");
+    public static final int COLOR_STAR         = Color.parseColor("#AAFFFFFF");
+    public static final int COLOR_OVERLAY      = Color.parseColor("#AA000000");
+    public static final int COLOR_BLOCK_BORDER = Color.parseColor("#FFFFFF44"); // blanco semitransparente
+    public static final int COLOR_STEEL_BORDER = Color.parseColor("#AAAAAA");
+    public static final int COLOR_STEEL_CROSS  = Color.parseColor("#CCCCCC");
+    public static final int COLOR_BALL_GLOW    = Color.parseColor("#44FFFFFF");
+    private static final int[] PADDLE_GRADIENT = {
+            Color.parseColor("#1144FF"), Color.parseColor("#00CCFF"), Color.parseColor("#1144FF")
+    };
+
+    // Color de cada tipo de bloque (índice = tipo) y su versión dañada
+    private static final int[] BLOCK_COLORS         = new int[10];
+    private static final int[] DAMAGED_BLOCK_COLORS = new int[10];
+    static {
+        BLOCK_COLORS[1] = Color.parseColor("#4488FF"); // azul
+        BLOCK_COLORS[2] = Color.parseColor("#44CC44"); // verde
+        BLOCK_COLORS[3] = Color.parseColor("#FFDD00"); // amarillo
+        BLOCK_COLORS[4] = Color.parseColor("#FF8800"); // naranja
+        BLOCK_COLORS[5] = Color.parseColor("#FF4444"); // rojo
+        BLOCK_COLORS[9] = Color.parseColor("#888888"); // acero
+        for (int t = 0; t < BLOCK_COLORS.length; t++) {
+            int color = BLOCK_COLORS[t];
+            // Oscurecer el color al recibir daño (bloque dañado)
+            DAMAGED_BLOCK_COLORS[t] = (color == Color.TRANSPARENT) ? color : Color.rgb(
+                    (Color.red(color)   * 6) / 10,
+                    (Color.green(color) * 6) / 10,
+                    (Color.blue(color)  * 6) / 10);
+        }
+    }
+
+    /** Color de un tipo de bloque (transparente si el tipo no existe) */
+    public static int blockColor(int tipo) {
+        return (tipo >= 0 && tipo < BLOCK_COLORS.length) ? BLOCK_COLORS[tipo] : Color.TRANSPARENT;
+    }
+
+    /** Color de un bloque dañado de ese tipo */
+    public static int damagedBlockColor(int tipo) {
+        return (tipo >= 0 && tipo < DAMAGED_BLOCK_COLORS.length) ? DAMAGED_BLOCK_COLORS[tipo] : Color.TRANSPARENT;
+    }
+
+    // ─── Paints compartidos ─────────────────────────────────────────────
+    public final Paint starPaint;
+    public final Paint overlayPaint;
+    public final Paint textPaint;      // mensajes centrales
+    public final Paint hudPaint;       // puntuación, vidas, nivel
+    public final Paint metricsPaint;   // panel de métricas de frame
+    public final Paint blockFill;      // su color cambia por bloque
+    public final Paint blockBorder;
+    public final Paint steelBorder;
+    public final Paint steelCross;
+    public final Paint ballPaint;
+    public final Paint ballGlowPaint;
+    public final Paint spritePaint;    // copias del atlas (con filtrado al escalar)
+    private final Paint paddlePaint;
+
+    public final float ballBlur;       // radio del desenfoque del halo de la pelota
+
+    // Degradado de la paleta: se crea para un ancho y se desplaza con la matriz
+    private LinearGradient paddleShader;
+    private float paddleShaderWidth = -1;
+    private final Matrix paddleMatrix = new Matrix();
+
+    public RenderResources(int ballRadius) {
+        starPaint = new Paint();
+        starPaint.setColor(COLOR_STAR);
+        starPaint.setStrokeWidth(2);
+
+        overlayPaint = new Paint();
+        overlayPaint.setColor(COLOR_OVERLAY);
+
+        textPaint = new Paint();
+        textPaint.setColor(Color.WHITE);
+        textPaint.setTextSize(60);
+        textPaint.setTextAlign(Paint.Align.CENTER);
+        textPaint.setAntiAlias(true);
+
+        hudPaint = new Paint();
+        hudPaint.setColor(Color.YELLOW);
+        hudPaint.setTextSize(40);
+        hudPaint.setAntiAlias(true);
+
+        metricsPaint = new Paint();
+        metricsPaint.setColor(Color.WHITE);
+        metricsPaint.setTextSize(26);
+        metricsPaint.setAntiAlias(true);
+
+        blockFill = new Paint();
+        blockFill.setAntiAlias(true);
+
+        blockBorder = new Paint();
+        blockBorder.setColor(COLOR_BLOCK_BORDER);
+        blockBorder.setStyle(Paint.Style.STROKE);
+        blockBorder.setStrokeWidth(2);
+        blockBorder.setAntiAlias(true);
+
+        // Borde plateado brillante para el acero
+        steelBorder = new Paint();
+        steelBorder.setColor(COLOR_STEEL_BORDER);
+        steelBorder.setStyle(Paint.Style.STROKE);
+        steelBorder.setStrokeWidth(4);
+        steelBorder.setAntiAlias(true);
+
+        steelCross = new Paint();
+        steelCross.setColor(COLOR_STEEL_CROSS);
+        steelCross.setStrokeWidth(3);
+        steelCross.setAntiAlias(true);
+
+        ballPaint = new Paint();
+        ballPaint.setColor(Color.WHITE);
+        ballPaint.setAntiAlias(true);
+
+        ballBlur = ballRadius * 2;
+        ballGlowPaint = new Paint();
+        ballGlowPaint.setColor(COLOR_BALL_GLOW);
+        ballGlowPaint.setAntiAlias(true);
+        ballGlowPaint.setMaskFilter(new BlurMaskFilter(ballBlur, BlurMaskFilter.Blur.NORMAL));
+
+        spritePaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+        paddlePaint = new Paint();
+        paddlePaint.setAntiAlias(true);
+    }
+
+    /**
+     * Paint de la paleta con el degradado horizontal azul → cian → azul
+     * colocado en (x, y). El shader solo se crea si cambia el ancho.
+     */
+    public Paint paddlePaintAt(float x, float y, float width) {
+        if (width != paddleShaderWidth) {
+            paddleShader = new LinearGradient(0, 0, width, 0,
+                    PADDLE_GRADIENT, null, Shader.TileMode.CLAMP);
+            paddlePaint.setShader(paddleShader);
+            paddleShaderWidth = width;
+        }
+        paddleMatrix.setTranslate(x, y);
+        paddleShader.setLocalMatrix(paddleMatrix);
+        return paddlePaint;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.arkanoidgame;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * SaveStateStore — Fichero de la partida guardada, escrito en segundo plano.
+ *
+ * save() solo deja los bytes preparados y programa la escritura; si llegan
+ * varios antes de que se ejecute, se escribe el último (como en
+ * HighScoreRepository). Se escribe en un temporal y se renombra, así un
+ * proceso matado a media escritura deja el fichero anterior intacto.
+ */
+public class SaveStateStore {
+
+    private final File file;
+    private final Executor executor;
+    private final AtomicReference<byte[]> pending = new AtomicReference<>();
+    private final Runnable writeTask = this::writePending;
+
+    public SaveStateStore(File file, Executor executor) {
+        this.file     = file;
+        this.executor = executor;
+    }
+
+    /** Guardado en 'file' con un hilo de escritura propio */
+    public static SaveStateStore create(File file) {
+        ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "SaveStateWriter");
+            t.setDaemon(true);
+            return t;
+        });
+        return new SaveStateStore(file, writer);
+    }
+
+    /** Programa la escritura de un estado ya codificado (no lo modifiques después) */
+    public void save(byte[] state) {
+        if (pending.getAndSet(state) == null) executor.execute(writeTask);
+    }
+
+    private void writePending() {
+        byte[] state = pending.getAndSet(null);
+        if (state == null) return;
+        File tmp = new File(file.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            out.write(state);
+            out.getFD().sync(); // que el renombrado no llegue al disco antes que los datos
+        } catch (IOException e) {
+            tmp.delete();
+            return;            // se conserva el guardado anterior
+        }
+        if (!tmp.renameTo(file)) tmp.delete();
+    }
+
+    /** Lee el estado guardado (síncrono: son unas decenas de bytes), o null si no hay */
+    public byte[] load() {
+        if (!file.isFile() || file.length() > 64 * 1024) return null;
+        byte[] data = new byte[(int) file.length()];
+        try (InputStream in = new FileInputStream(file)) {
+            int n = 0;
+            while (n < data.length) {
+                int r = in.read(data, n, data.length - n);
+                if (r < 0) return null;
+                n += r;
+            }
+            return data;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /** Borra el guardado (p. ej. si ya no se puede restaurar) */
+    public void clear() {
+        pending.set(null);
+        executor.execute(file::delete);
+    }
+}
@@ -2,63 +2,249 @@ package com.example.arkanoidgame;
 
 import android.content.Context;
 import android.media.AudioAttributes;
-import android.media.AudioFormat;
-import android.media.AudioRecord;
-import android.media.AudioTrack;
 import android.media.SoundPool;
-import android.media.MediaPlayer;
 
-public class SoundManager {
+import com.example.arkanoidgame.core.SoundQueue;
+import com.example.arkanoidgame.core.TraceRecorder;
 
-    private SoundPool soundPool;
-    private int idBouncePaddle;
-    private int idBounceWall;
-    private int idBlockHit;
-    private int idBlockBreak;
-    private int idSteel;
-    private boolean loaded = false;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
-    public SoundManager(Context context) {
+/**
+ * SoundManager — Efectos de sonido con SoundPool.
+ *
+ * Crear el SoundPool es rápido; decodificar las muestras no. Por eso el
+ * constructor no carga nada y load() (en un hilo de arranque) pide las
+ * cinco muestras y espera a que estén decodificadas. Cada muestra suena
+ * en cuanto está lista; isLoaded() solo es true cuando lo están todas.
+ *
+ * play*() no llama a SoundPool (cada llamada es un viaje al servidor de
+ * audio): anota el sonido en una SoundQueue, y endStep() publica lo del
+ * paso. Un hilo de audio propio despacha los lotes por prioridad, con un
+ * límite de repetición por sonido y sin pasar de MAX_STREAMS voces, de
+ * modo que SoundPool nunca corta un sonido importante al azar.
+ *
+ * Con lowLatency, los efectos no pasan por SoundPool: PcmAudioEngine los
+ * tiene decodificados en memoria y el hilo de audio los mezcla en un
+ * AudioTrack de baja latencia, despachando la cola entre bloque y bloque.
+ * Si el dispositivo no lo permite, se vuelve a SoundPool.
+ */
+public class SoundManager implements SoundQueue.Player {
+
+    private static final int SAMPLE_COUNT = 5;
+    private static final int PADDLE = 0, WALL = 1, BLOCK_HIT = 2, BLOCK_BREAK = 3, STEEL = 4;
+    private static final int MAX_STREAMS = 6;
+    // El reproductor tiene una de margen: la voz nueva empieza antes de cortar la robada
+    private static final int PLAYER_STREAMS = MAX_STREAMS + 1;
+    private static final long MS = 1_000_000L;
+    private static final long AUDIO_IDLE_NANOS = 50 * MS; // sin lotes, el hilo de audio duerme
+    private static final int[] SAMPLE_RES = {
+            R.raw.bounce_paddle, R.raw.bounce_wall, R.raw.block_hit, R.raw.block_break, R.raw.steel_hit
+    };
+
+    private volatile SoundPool soundPool;
+    private final boolean lowLatency;
+    private volatile PcmAudioEngine engine;   // con lowLatency, cuando ya está cargado
+    private volatile boolean paused = false;
+    private final int[] sampleIds = new int[SAMPLE_COUNT];   // id de SoundPool de cada muestra
+    // Bit i: la muestra i está decodificada. Antes bastaba con que lo
+    // estuviera una para dar todo por cargado
+    private final AtomicInteger loadedMask = new AtomicInteger();
+    private final CountDownLatch finished = new CountDownLatch(SAMPLE_COUNT); // cargadas o fallidas
+    private TraceRecorder trace = TraceRecorder.disabled(); // hilo de audio
+
+    // ─── Cola de sonidos: la llena la simulación, la vacía el hilo de audio ─
+    private final SoundQueue queue = new SoundQueue(SAMPLE_COUNT, MAX_STREAMS, SoundQueue.DEFAULT_CAPACITY);
+    private final Thread audioThread = new Thread(this::runAudio, "Audio");
+    private volatile boolean running = true;
+
+    public SoundManager() {
+        this(false);
+    }
+
+    /** @param lowLatency mezclar en un AudioTrack propio en lugar de usar SoundPool */
+    public SoundManager(boolean lowLatency) {
+        this.lowLatency = lowLatency;
+        if (!lowLatency) soundPool = createSoundPool();
+
+        // Prioridad, volumen, intervalo mínimo y duración aproximada de cada
+        // muestra: la paleta y el acero mandan; los golpes a bloques, que
+        // pueden llegar en ráfaga, se espacian y ceden la voz
+        queue.configure(PADDLE,      4, 1.0f, 40 * MS, 250 * MS);
+        queue.configure(STEEL,       3, 1.0f, 50 * MS, 300 * MS);
+        queue.configure(BLOCK_BREAK, 2, 1.0f, 30 * MS, 400 * MS);
+        queue.configure(BLOCK_HIT,   1, 0.9f, 30 * MS, 200 * MS);
+        queue.configure(WALL,        0, 0.8f, 40 * MS, 150 * MS);
+
+        audioThread.setDaemon(true);
+        audioThread.start();
+    }
+
+    private SoundPool createSoundPool() {
         AudioAttributes attrs = new AudioAttributes.Builder()
                 .setUsage(AudioAttributes.USAGE_GAME)
                 .setContentType(AudioAttributes.CONTENT_TYPE_SONIFICATION)
                 .build();
 
-        soundPool = new SoundPool.Builder()
-                .setMaxStreams(6)
+        SoundPool pool = new SoundPool.Builder()
+                .setMaxStreams(PLAYER_STREAMS)
                 .setAudioAttributes(attrs)
                 .build();
 
-        // Cuando todos los sonidos estén cargados, marcar como listo
-        soundPool.setOnLoadCompleteListener((sp, sampleId, status) -> {
-            if (status == 0) loaded = true;
+        // Cada muestra se marca al terminar de decodificarse
+        pool.setOnLoadCompleteListener((sp, sampleId, status) -> {
+            synchronized (sampleIds) { // load() ya ha guardado todos los ids
+                for (int i = 0; i < SAMPLE_COUNT; i++) {
+                    if (sampleIds[i] == sampleId) {
+                        if (status == 0) loadedMask.set(loadedMask.get() | (1 << i)); // único escritor
+                        finished.countDown();
+                    }
+                }
+            }
         });
+        return pool;
+    }
 
-        // Cargar sonidos desde res/raw/
-        idBouncePaddle = soundPool.load(context, R.raw.bounce_paddle, 1);
-        idBounceWall   = soundPool.load(context, R.raw.bounce_wall,   1);
-        idBlockHit     = soundPool.load(context, R.raw.block_hit,     1);
-        idBlockBreak   = soundPool.load(context, R.raw.block_break,   1);
-        idSteel        = soundPool.load(context, R.raw.steel_hit,     1);
+    /**
+     * Carga las muestras desde res/raw/ y espera a que se decodifiquen
+     * (o a que pase el tiempo máximo). Para un hilo de arranque.
+     * @return true si se cargaron todas
+     */
+    public boolean load(Context context, long timeoutMillis) {
+        if (lowLatency) {
+            PcmAudioEngine pcm = PcmAudioEngine.create(context, SAMPLE_RES, PLAYER_STREAMS);
+            if (pcm != null) {
+                int mask = 0;
+                for (int i = 0; i < SAMPLE_COUNT; i++) {
+                    if (pcm.getMixer().getBank().getSample(i).length > 0) mask |= 1 << i;
+                }
+                engine = pcm;          // a partir de aquí el hilo de audio mezcla
+                loadedMask.set(mask);
+                LockSupport.unpark(audioThread);
+                return isLoaded();
+            }
+            soundPool = createSoundPool(); // sin AudioTrack de baja latencia: SoundPool de siempre
+        }
+        synchronized (sampleIds) {
+            for (int i = 0; i < SAMPLE_COUNT; i++) {
+                sampleIds[i] = soundPool.load(context, SAMPLE_RES[i], 1);
+            }
+        }
+        try {
+            finished.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return isLoaded();
+    }
+
+    /** ¿Están decodificadas todas las muestras? */
+    public boolean isLoaded() {
+        return loadedMask.get() == (1 << SAMPLE_COUNT) - 1;
+    }
+
+    // ─── Desde el hilo de simulación: solo anotan ───────────────────────
+    public void playBouncePaddle() { queue.post(PADDLE); }
+    public void playBounceWall()   { queue.post(WALL); }
+    public void playBlockHit()     { queue.post(BLOCK_HIT); }
+    public void playBlockBreak()   { queue.post(BLOCK_BREAK); }
+    public void playSteelHit()     { queue.post(STEEL); }
+
+    /** Fin del paso de simulación: publica sus sonidos y despierta al hilo de audio */
+    public void endStep() {
+        if (queue.endStep()) LockSupport.unpark(audioThread);
+    }
+
+    // ─── Hilo de audio ──────────────────────────────────────────────────
+    private void runAudio() {
+        boolean enginePaused = false;
+        while (running) {
+            PcmAudioEngine pcm = engine;
+            if (pcm != null) {
+                // Despachar entre bloque y bloque: lo anotado suena en el siguiente
+                boolean p = paused;
+                if (p != enginePaused) {
+                    if (p) pcm.pause(); else pcm.resume();
+                    enginePaused = p;
+                }
+                if (p) {
+                    LockSupport.parkNanos(this, AUDIO_IDLE_NANOS);
+                    continue;
+                }
+                if (queue.hasPending()) {
+                    trace.begin("sound");
+                    queue.dispatch(System.nanoTime(), pcm);
+                    trace.end();
+                }
+                pcm.renderBlock(); // espera a que quepa en el AudioTrack: marca el ritmo
+                continue;
+            }
+            if (queue.hasPending()) {
+                trace.begin("sound");
+                queue.dispatch(System.nanoTime(), this);
+                trace.end();
+            }
+            LockSupport.parkNanos(this, AUDIO_IDLE_NANOS);
+        }
     }
 
     // leftVolume y rightVolume: 0.0 a 1.0
-    // priority: 1 (normal)
     // loop: 0 (sin bucle)
     // rate: 1.0 (velocidad normal)
-    public void playBouncePaddle() { play(idBouncePaddle, 1.0f); }
-    public void playBounceWall()   { play(idBounceWall,   0.8f); }
-    public void playBlockHit()     { play(idBlockHit,     0.9f); }
-    public void playBlockBreak()   { play(idBlockBreak,   1.0f); }
-    public void playSteelHit()     { play(idSteel,        1.0f); }
-
-    private void play(int soundId, float volume) {
-        if (loaded && soundId != 0) {
-            soundPool.play(soundId, volume, volume, 1, 0, 1.0f);
-        }
+    @Override
+    public int play(int sample, float volume, int priority) {
+        // La lectura de la máscara hace visible el id guardado en load()
+        if ((loadedMask.get() & (1 << sample)) == 0) return 0; // aún no decodificada
+        SoundPool pool = soundPool;
+        return (pool != null) ? pool.play(sampleIds[sample], volume, volume, priority, 0, 1.0f) : 0;
+    }
+
+    @Override
+    public void stop(int streamId) {
+        SoundPool pool = soundPool;
+        if (pool != null) pool.stop(streamId);
+    }
+
+    /** Con el juego en pausa, el AudioTrack de baja latencia se para (no escribe silencio) */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        LockSupport.unpark(audioThread);
+    }
+
+    /** ¿Suenan los efectos por el AudioTrack de baja latencia? */
+    public boolean isLowLatency() {
+        return engine != null;
+    }
+
+    /** Sonidos anotados, fusionados, limitados, robados y descartados */
+    public SoundQueue getQueue() {
+        return queue;
+    }
+
+    /** Grabador de secciones del hilo de audio (null = ninguno) */
+    public void setTrace(TraceRecorder trace) {
+        this.trace = (trace != null) ? trace : TraceRecorder.disabled();
     }
 
     public void release() {
+        running = false;
+        LockSupport.unpark(audioThread);
+        boolean interrupted = false;
+        while (audioThread.isAlive()) {
+            try {
+                audioThread.join(); // que no quede un play() en curso sobre el SoundPool liberado
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        PcmAudioEngine pcm = engine;
+        if (pcm != null) {
+            engine = null;
+            pcm.release();
+        }
         if (soundPool != null) {
             soundPool.release();
             soundPool = null;
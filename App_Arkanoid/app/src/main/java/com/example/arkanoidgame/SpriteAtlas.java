@@ -0,0 +1,171 @@
+package com.example.arkanoidgame;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+/**
+ * SpriteAtlas — Un único bitmap con todos los sprites del juego ya pintados.
+ *
+ * Se pinta una vez con los Paints de RenderResources (incluido el halo
+ * de la pelota con BlurMaskFilter, carísimo en el canvas por software)
+ * y después todo se dibuja copiando trozos del atlas con drawBitmap:
+ *
+ *   ┌──────┬──────┬─────────────────────────────────────┐
+ *   │ bola │ halo │ bloques 1..5 y acero, normal/dañado │
+ *   ├──────┼──────┼──────┬──────┬───────────────────────┘
+ *   │ cruz │ expl │ expl │ expl │
+ *   └──────┴──────┴──────┴──────┘
+ *
+ * Solo depende del tamaño de pantalla: obtain() devuelve el mismo atlas
+ * entre niveles, partidas y vistas nuevas, y solo lo repinta si cambia
+ * el tamaño. Se puede leer desde varios hilos a la vez (render y precarga).
+ */
+public final class SpriteAtlas {
+
+    /** Margen alrededor de cada bloque (el borde de acero sobresale 2 px), igual que BlockLayer */
+    public static final int BLOCK_PAD = 3;
+    public static final int EXPLOSION_FRAMES = 3;
+    public static final int EXPLOSION_SIZE   = 80;   // lado de cada fotograma (el mismo que en pantalla)
+    private static final int STEEL_CROSS     = 10;   // medio brazo de la cruz de acero
+    private static final int SPACING         = 2;    // hueco entre sprites (filtrado)
+    private static final int REFERENCE_COLS  = 8;    // los bloques se pintan al tamaño de los niveles de serie
+
+    private static SpriteAtlas cached;
+
+    private final int screenWidth, screenHeight;
+    private final Bitmap bitmap;
+
+    private final Rect ball = new Rect(), glow = new Rect(), steelCross = new Rect();
+    private final Rect[] blocks        = new Rect[10];
+    private final Rect[] damagedBlocks = new Rect[10];
+    private final Rect[] explosions    = new Rect[EXPLOSION_FRAMES];
+    private final float glowExtent;     // del centro de la pelota al borde del halo
+
+    /** Atlas para este tamaño de pantalla (el de la última vez si no ha cambiado) */
+    public static synchronized SpriteAtlas obtain(int screenWidth, int screenHeight) {
+        if (cached == null || cached.screenWidth != screenWidth || cached.screenHeight != screenHeight) {
+            // El anterior no se recicla: puede seguir en uso por una vista que se está cerrando
+            cached = new SpriteAtlas(screenWidth, screenHeight);
+        }
+        return cached;
+    }
+
+    private SpriteAtlas(int screenWidth, int screenHeight) {
+        this.screenWidth  = screenWidth;
+        this.screenHeight = screenHeight;
+        int ballRadius = screenWidth / 30;             // como GameWorld
+        RenderResources res = new RenderResources(ballRadius);
+        glowExtent = ballRadius * 2.5f + res.ballBlur + 1;
+
+        // Tamaño de bloque de los niveles de serie (mismo cálculo que GameWorld)
+        int margin = screenWidth / 40;
+        int blockW = (screenWidth - margin * 2) / REFERENCE_COLS - margin / REFERENCE_COLS;
+        int blockH = screenHeight / 20;
+
+        // 1. Colocar todos los sprites
+        AtlasPacker packer = new AtlasPacker(Math.max(1024, screenWidth), SPACING);
+        int ballId = packer.add(ballRadius * 2 + 2, ballRadius * 2 + 2);
+        int glowSide = (int) Math.ceil(glowExtent * 2);
+        int glowId = packer.add(glowSide, glowSide);
+        int tileW = blockW + 2 * BLOCK_PAD, tileH = blockH + 2 * BLOCK_PAD;
+        int[] blockIds = new int[blocks.length], damagedIds = new int[blocks.length];
+        for (int t = 0; t < blocks.length; t++) {
+            if (RenderResources.blockColor(t) == Color.TRANSPARENT) continue;
+            blockIds[t]   = packer.add(tileW, tileH);
+            damagedIds[t] = packer.add(tileW, tileH);
+        }
+        int crossSide = STEEL_CROSS * 2 + 4;
+        int crossId = packer.add(crossSide, crossSide);
+        int[] explosionIds = new int[EXPLOSION_FRAMES];
+        for (int f = 0; f < EXPLOSION_FRAMES; f++) explosionIds[f] = packer.add(EXPLOSION_SIZE, EXPLOSION_SIZE);
+
+        // 2. Pintarlos
+        bitmap = Bitmap.createBitmap(packer.getWidth(), packer.getHeight(), Bitmap.Config.ARGB_8888);
+        Canvas c = new Canvas(bitmap);
+
+        region(packer, ballId, ball);
+        c.drawCircle(ball.exactCenterX(), ball.exactCenterY(), ballRadius, res.ballPaint);
+
+        // Halo desenfocado una sola vez, en lugar de en cada frame
+        region(packer, glowId, glow);
+        c.drawCircle(glow.exactCenterX(), glow.exactCenterY(), ballRadius * 2.5f, res.ballGlowPaint);
+
+        RectF r = new RectF();
+        for (int t = 0; t < blocks.length; t++) {
+            if (RenderResources.blockColor(t) == Color.TRANSPARENT) continue;
+            blocks[t]        = paintBlock(c, res, packer, blockIds[t], r, RenderResources.blockColor(t), t);
+            damagedBlocks[t] = paintBlock(c, res, packer, damagedIds[t], r, RenderResources.damagedBlockColor(t), t);
+        }
+
+        // Cruz metálica que va encima de los bloques de acero (sin escalar)
+        region(packer, crossId, steelCross);
+        float cx = steelCross.exactCenterX(), cy = steelCross.exactCenterY();
+        c.drawLine(cx - STEEL_CROSS, cy, cx + STEEL_CROSS, cy, res.steelCross);
+        c.drawLine(cx, cy - STEEL_CROSS, cx, cy + STEEL_CROSS, res.steelCross);
+
+        for (int f = 0; f < EXPLOSION_FRAMES; f++) {
+            explosions[f] = new Rect();
+            region(packer, explosionIds[f], explosions[f]);
+            paintExplosion(c, f, explosions[f].exactCenterX(), explosions[f].exactCenterY());
+        }
+    }
+
+    private static void region(AtlasPacker packer, int id, Rect out) {
+        out.set(packer.x(id), packer.y(id),
+                packer.x(id) + packer.width(id), packer.y(id) + packer.height(id));
+    }
+
+    private static Rect paintBlock(Canvas c, RenderResources res, AtlasPacker packer, int id,
+                                   RectF r, int color, int tipo) {
+        Rect tile = new Rect();
+        region(packer, id, tile);
+        r.set(tile.left + BLOCK_PAD, tile.top + BLOCK_PAD, tile.right - BLOCK_PAD, tile.bottom - BLOCK_PAD);
+        res.blockFill.setColor(color);
+        c.drawRoundRect(r, 6, 6, res.blockFill);
+        c.drawRoundRect(r, 6, 6, tipo == 9 ? res.steelBorder : res.blockBorder);
+        return tile;
+    }
+
+    /**
+     * Fotogramas de la explosión de un bloque (antes SpriteSheet.generateSpriteSheet,
+     * que los pintaba en 64 px y los escalaba a 80: aquí ya van a su tamaño final)
+     */
+    private static void paintExplosion(Canvas c, int frame, float cx, float cy) {
+        Paint p = new Paint(Paint.ANTI_ALIAS_FLAG);
+        switch (frame) {
+            case 0: // explosión pequeña (naranja)
+                p.setColor(Color.parseColor("#FF6600"));
+                c.drawCircle(cx, cy, 30, p);
+                p.setColor(Color.YELLOW);
+                c.drawCircle(cx, cy, 17.5f, p);
+                break;
+            case 1: // explosión media
+                p.setColor(Color.parseColor("#FF4400"));
+                c.drawCircle(cx, cy, 37.5f, p);
+                p.setColor(Color.parseColor("#FF8800"));
+                c.drawCircle(cx, cy, 22.5f, p);
+                break;
+            default: // explosión grande (se desvanece), todo el fotograma
+                p.setColor(Color.parseColor("#44FF2200")); // muy transparente
+                c.drawCircle(cx, cy, EXPLOSION_SIZE / 2f, p);
+                break;
+        }
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public Bitmap getBitmap()           { return bitmap; }
+    public Rect ball()                  { return ball; }
+    public Rect glow()                  { return glow; }
+    public float getGlowExtent()        { return glowExtent; }
+    public Rect steelCross()            { return steelCross; }
+    /** Zona del atlas de un tipo de bloque, con BLOCK_PAD de margen (null si el tipo no se dibuja) */
+    public Rect block(int tipo, boolean damaged) {
+        if (tipo < 0 || tipo >= blocks.length) return null;
+        return damaged ? damagedBlocks[tipo] : blocks[tipo];
+    }
+    public Rect explosion(int frame)    { return explosions[frame]; }
+}
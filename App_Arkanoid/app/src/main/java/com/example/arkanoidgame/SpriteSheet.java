@@ -1,16 +1,10 @@
 package com.example.arkanoidgame;
 
-import android.content.Context;
-import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
 import android.graphics.Rect;
 import android.graphics.RectF;
 
-import java.util.ArrayList;
-import java.util.List;
+import com.example.arkanoidgame.core.ExplosionPool;
 
 /**
  * SpriteSheet — Gestiona animación mediante recorte de fotogramas de un bitmap.
@@ -18,126 +12,55 @@ import java.util.List;
  * Técnica clave: Rect de origen (src) define el fotograma a recortar.
  * RectF de destino (dst) define dónde y cómo de grande se dibuja.
  *
- * Layout de la sprite sheet (spritesheet.png, 4×1 fotogramas):
- * ┌───────┬───────┬───────┬───────┐
- * │  [0]  │  [1]  │  [2]  │  [3]  │
- * │       │  💥   │  💥💥 │ 💥💥💥│
- * └───────┴───────┴───────┴───────┘
- *  Frame 0: sin explosión (pelota normal)
- *  Frames 1-3: animación de explosión de bloque
+ * Los fotogramas de la explosión están en el SpriteAtlas compartido
+ * (pintados una vez al arrancar, al tamaño con que se dibujan):
+ * ┌───────┬───────┬───────┐
+ * │  [0]  │  [1]  │  [2]  │
+ * │  💥   │  💥💥 │ 💥💥💥│
+ * └───────┴───────┴───────┘
  */
 public class SpriteSheet {
 
-    private Bitmap sheet;           // El bitmap completo de la sprite sheet
-    private int frameWidth;         // Ancho de un fotograma en píxeles
-    private int frameHeight;        // Alto de un fotograma en píxeles
-    private static final int TOTAL_FRAMES = 4;
+    private static final float EXPLOSION_SIZE = SpriteAtlas.EXPLOSION_SIZE; // lado en pantalla
 
-    // Lista de explosiones activas
-    private List<Explosion> activeExplosions = new ArrayList<>();
+    private final SpriteAtlas atlas;
+    private final RenderResources res;
 
-    // ── Clase interna para una explosión activa ──────────────────────
-    private static class Explosion {
-        float x, y;          // posición en pantalla
-        int currentFrame;    // fotograma actual (0–2 de la animación)
-        int frameCounter;    // contador para ralentizar la animación
-        boolean finished;
+    // RectF reutilizado en draw() para no crear objetos por explosión y frame
+    private final RectF dst = new RectF();
 
-        Explosion(float x, float y) {
-            this.x = x;
-            this.y = y;
-            this.currentFrame = 0;
-            this.frameCounter = 0;
-            this.finished = false;
-        }
+    /**
+     * Las explosiones activas no viven aquí: las simula un ExplosionPool
+     * en el hilo de simulación y draw() dibuja la copia de la instantánea.
+     */
+    public SpriteSheet(SpriteAtlas atlas, RenderResources res) {
+        this.atlas = atlas;
+        this.res   = res;
     }
 
-    public SpriteSheet(Context context) {
-        // generamos directamente por código
-        sheet = generateSpriteSheet();
-
-        frameWidth  = sheet.getWidth()  / TOTAL_FRAMES;
-        frameHeight = sheet.getHeight();
-    }
-    // Método utilitario para generar la sprite sheet programáticamente
-    public static Bitmap generateSpriteSheet() {
-        int fw = 64, fh = 64;
-        Bitmap bmp = Bitmap.createBitmap(fw * 4, fh, Bitmap.Config.ARGB_8888);
-        Canvas c = new Canvas(bmp);
-        Paint p = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-        // Frame 0: pelota blanca
-        p.setColor(Color.WHITE);
-        c.drawCircle(fw * 0 + fw / 2f, fh / 2f, 20, p);
-
-        // Frame 1: explosión pequeña (naranja)
-        p.setColor(Color.parseColor("#FF6600"));
-        c.drawCircle(fw * 1 + fw / 2f, fh / 2f, 24, p);
-        p.setColor(Color.YELLOW);
-        c.drawCircle(fw * 1 + fw / 2f, fh / 2f, 14, p);
-
-        // Frame 2: explosión media
-        p.setColor(Color.parseColor("#FF4400"));
-        c.drawCircle(fw * 2 + fw / 2f, fh / 2f, 30, p);
-        p.setColor(Color.parseColor("#FF8800"));
-        c.drawCircle(fw * 2 + fw / 2f, fh / 2f, 18, p);
-
-        // Frame 3: explosión grande (se desvanece)
-        p.setColor(Color.parseColor("#44FF2200")); // muy transparente
-        c.drawCircle(fw * 3 + fw / 2f, fh / 2f, 40, p);
-
-        return bmp;
-    }
+    /** Dibuja todas las explosiones activas */
+    public void draw(Canvas canvas, ExplosionPool explosions) {
+        float half = EXPLOSION_SIZE / 2;
+        for (int i = 0; i < explosions.size(); i++) {
+            // ── Rect SRC: el fotograma correcto dentro del atlas ──
+            Rect src = atlas.explosion(explosions.getFrame(i));
 
-    /** Registra una nueva animación de explosión en las coordenadas dadas */
-    public void startExplosion(float cx, float cy) {
-        activeExplosions.add(new Explosion(cx, cy));
-    }
+            // ── RectF DST: dónde dibujar en pantalla ──────────────────
+            float x = explosions.getX(i);
+            float y = explosions.getY(i);
+            dst.set(x - half, y - half, x + half, y + half);
 
-    /** Actualiza el estado de todas las explosiones activas */
-    public void update() {
-        List<Explosion> toRemove = new ArrayList<>();
-        for (Explosion exp : activeExplosions) {
-            exp.frameCounter++;
-            // Cambiar frame cada 4 actualizaciones (~15 fps de animación)
-            if (exp.frameCounter >= 4) {
-                exp.frameCounter = 0;
-                exp.currentFrame++;
-                if (exp.currentFrame >= 3) {
-                    exp.finished = true;
-                    toRemove.add(exp);
-                }
-            }
+            canvas.drawBitmap(atlas.getBitmap(), src, dst, res.spritePaint);
         }
-        activeExplosions.removeAll(toRemove);
     }
 
-    /** Dibuja todas las explosiones activas */
-    public void draw(Canvas canvas) {
-        if (sheet == null) return;
-
-        for (Explosion exp : activeExplosions) {
-            // ── Rect SRC: recorta el fotograma correcto del sprite sheet ──
-            // frame 0 del sprite sheet = primer fotograma de explosión (índice 1)
-            int sheetFrame = exp.currentFrame + 1; // frames 1, 2, 3 son la explosión
-            Rect src = new Rect(
-                    sheetFrame * frameWidth,    // left
-                    0,                          // top
-                    (sheetFrame + 1) * frameWidth, // right
-                    frameHeight                 // bottom
-            );
-
-            // ── RectF DST: dónde dibujar en pantalla ──────────────────
-            float size = 80;
-            RectF dst = new RectF(
-                    exp.x - size / 2,
-                    exp.y - size / 2,
-                    exp.x + size / 2,
-                    exp.y + size / 2
-            );
-
-            // drawBitmap con src y dst realiza el recorte y escalado automáticamente
-            canvas.drawBitmap(sheet, src, dst, null);
+    /** Añade a 'out' la zona que ocupa cada explosión activa */
+    public void addBounds(DirtyRegion out, ExplosionPool explosions) {
+        float half = EXPLOSION_SIZE / 2;
+        for (int i = 0; i < explosions.size(); i++) {
+            float x = explosions.getX(i);
+            float y = explosions.getY(i);
+            out.add(x - half, y - half, x + half, y + half);
         }
     }
 
@@ -0,0 +1,80 @@
+package com.example.arkanoidgame;
+
+/**
+ * TextBuffer — Texto reutilizable para dibujar sin crear Strings.
+ *
+ * "Puntos: " + score crea un StringBuilder y un String en cada frame.
+ * Aquí el texto se escribe en un char[] propio y se dibuja con
+ * canvas.drawText(chars(), 0, length(), ...), que no reserva memoria.
+ * El array solo crece si un texto no cabe (fuera del régimen estable).
+ */
+public class TextBuffer {
+
+    private char[] chars;
+    private int length;
+
+    public TextBuffer(int capacity) {
+        chars = new char[Math.max(capacity, 1)];
+    }
+
+    public TextBuffer clear() {
+        length = 0;
+        return this;
+    }
+
+    public TextBuffer append(String s) {
+        int n = s.length();
+        ensureCapacity(length + n);
+        s.getChars(0, n, chars, length);
+        length += n;
+        return this;
+    }
+
+    public TextBuffer append(char c) {
+        ensureCapacity(length + 1);
+        chars[length++] = c;
+        return this;
+    }
+
+    /** Añade un entero en decimal sin pasar por String */
+    public TextBuffer append(int value) {
+        if (value == Integer.MIN_VALUE) return append("-2147483648");
+        if (value < 0) {
+            append('-');
+            value = -value;
+        }
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10) digits++;
+        ensureCapacity(length + digits);
+        int pos = length + digits;
+        do {
+            chars[--pos] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        length += digits;
+        return this;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed > chars.length) {
+            chars = java.util.Arrays.copyOf(chars, Math.max(needed, chars.length * 2));
+        }
+    }
+
+    /** Array interno (válido hasta length()); no modificar */
+    public char[] chars() { return chars; }
+    public int length()   { return length; }
+
+    /** Compara el contenido sin crear un String */
+    public boolean contentEquals(String s) {
+        if (s.length() != length) return false;
+        for (int i = 0; i < length; i++) if (chars[i] != s.charAt(i)) return false;
+        return true;
+    }
+
+    /** Crea un String (reserva memoria: solo para depuración y pruebas) */
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.arkanoidgame.core;
+
+/**
+ * Aabb — Caja delimitadora alineada con los ejes, mutable y en float.
+ *
+ * Cada entidad tiene la suya y la actualiza en sitio cuando se mueve,
+ * así que pedir los límites no crea objetos (antes cada getBounds()
+ * construía un Rect nuevo). Los tests de solape trabajan con primitivos.
+ */
+public class Aabb {
+
+    public float left, top, right, bottom;
+
+    public Aabb() {}
+
+    public Aabb(float left, float top, float right, float bottom) {
+        set(left, top, right, bottom);
+    }
+
+    public void set(float left, float top, float right, float bottom) {
+        this.left   = left;
+        this.top    = top;
+        this.right  = right;
+        this.bottom = bottom;
+    }
+
+    /** Caja centrada en (cx, cy) con semiejes (hw, hh) */
+    public void setCentered(float cx, float cy, float hw, float hh) {
+        set(cx - hw, cy - hh, cx + hw, cy + hh);
+    }
+
+    public boolean intersects(Aabb o) {
+        return overlaps(left, top, right, bottom, o.left, o.top, o.right, o.bottom);
+    }
+
+    public static boolean intersects(Aabb a, Aabb b) {
+        return a.intersects(b);
+    }
+
+    /**
+     * Solape entre dos cajas dadas por sus bordes. Misma semántica que
+     * Rect.intersects: los bordes que solo se tocan no cuentan.
+     */
+    public static boolean overlaps(float l1, float t1, float r1, float b1,
+                                   float l2, float t2, float r2, float b2) {
+        return l1 < r2 && l2 < r1 && t1 < b2 && t2 < b1;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.arkanoidgame.core;
+
+/**
+ * Autopilot — Jugador automático para simulaciones sin pantalla.
+ *
+ * Mantiene la paleta bajo la pelota y toca la pantalla cuando hay que
+ * lanzar o reiniciar. Con offset distinto de 0 golpea la pelota fuera
+ * del centro de la paleta, alternando de lado cada pocos segundos para
+ * variar los ángulos de rebote. Es determinista: misma partida, mismo resultado.
+ */
+public class Autopilot {
+
+    private final float offset; // desplazamiento respecto al centro, en fracción del ancho de paleta
+
+    public Autopilot() {
+        this(0.2f);
+    }
+
+    public Autopilot(float offset) {
+        this.offset = offset;
+    }
+
+    /** Rellena la entrada para el siguiente paso del mundo */
+    public void fill(GameWorld world, Input out) {
+        out.clear();
+        GameState state = world.getState();
+        out.tap = state != GameState.PLAYING;
+        // Cambiar de lado cada ~4 s de juego (240 pasos a 60 Hz)
+        float side = ((world.getFrame() / 240) % 2 == 0) ? 1f : -1f;
+        out.moveTo(world.getBall().getCenterX() + side * offset * world.getPaddle().getWidth());
+    }
+}
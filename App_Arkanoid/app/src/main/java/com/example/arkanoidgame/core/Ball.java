@@ -0,0 +1,135 @@
+package com.example.arkanoidgame.core;
+
+public class Ball {
+
+    private float x, y;       // posición del centro
+    private float prevX, prevY; // posición al inicio del último paso (para interpolar)
+    private float vx, vy;     // velocidad (píxeles por segundo)
+    private int radius;
+
+    private float speed = SPEED; // velocidad actual (aumenta con el tiempo)
+    private boolean bouncedWall = false; // flag para notificar rebote en pared
+    private final Aabb bounds = new Aabb(); // límites actuales, actualizados en sitio
+
+    // Velocidad inicial: 12 px por frame a 60 Hz
+    private static final float SPEED = 720f;
+    // Velocidad vertical mínima: 4 px por frame a 60 Hz
+    private static final float MIN_VY = 240f;
+
+    public Ball(float startX, float startY, int radius) {
+        this.x = startX;
+        this.y = startY;
+        this.prevX = startX;
+        this.prevY = startY;
+        this.radius = radius;
+
+        // Ángulo inicial: 45° hacia arriba-derecha
+        vx = SPEED * 0.7f;
+        vy = -SPEED;
+        updateBounds();
+    }
+
+    /**
+     * Empieza un paso de física: guarda la posición para interpolar.
+     * El movimiento lo hace GameWorld con advance(), tramo a tramo entre
+     * contactos, porque las paredes, la paleta y los bloques se resuelven
+     * con detección continua (ver Sweep).
+     */
+    public void beginStep() {
+        bouncedWall = false; // resetear cada paso
+        prevX = x;
+        prevY = y;
+    }
+
+    /** Desplaza la pelota (dx, dy) píxeles sin comprobar colisiones */
+    public void advance(float dx, float dy) {
+        x += dx;
+        y += dy;
+        updateBounds();
+    }
+
+    /** Refleja la velocidad respecto a la normal unitaria (nx, ny) de la superficie golpeada */
+    public void reflect(float nx, float ny) {
+        float dot = vx * nx + vy * ny;
+        vx -= 2 * dot * nx;
+        vy -= 2 * dot * ny;
+    }
+
+    /** Rebote contra una pared: la normal indica hacia dónde debe salir */
+    public void bounceWall(float nx, float ny) {
+        if (nx > 0) vx =  Math.abs(vx);  // pared izquierda: hacia la derecha
+        if (nx < 0) vx = -Math.abs(vx);  // pared derecha: hacia la izquierda
+        if (ny > 0) vy =  Math.abs(vy);  // techo: hacia abajo
+        // Nota: no hay rebote en el suelo — eso es una "vida perdida"
+        bouncedWall = true; // ← marcar rebote
+    }
+
+    private void updateBounds() {
+        bounds.setCentered(x, y, radius, radius);
+    }
+
+    /**
+     * Ajusta el ángulo horizontal basado en dónde golpeó la paleta.
+     * @param hitPoint valor 0.0 (borde izq) a 1.0 (borde der)
+     */
+    public void setAngle(float hitPoint) {
+        // Normalizar: -1.0 (extremo izq) a +1.0 (extremo der)
+        float normalized = hitPoint * 2 - 1;
+        // La velocidad horizontal cambia según el punto de impacto
+        vx = normalized * SPEED;
+        // Mantener vy negativo (hacia arriba) con velocidad constante
+        vy = -Math.abs(vy);
+        // Garantizar velocidad mínima vertical para evitar pelota horizontal
+        if (Math.abs(vy) < MIN_VY) vy = -MIN_VY;
+    }
+
+    /** Resetea la pelota a una posición inicial */
+    public void reset(float startX, float startY) {
+        x = startX;
+        y = startY;
+        prevX = startX; // sin interpolación desde la posición antigua
+        prevY = startY;
+        vx = SPEED * 0.7f;
+        vy = -SPEED;
+        updateBounds();
+    }
+
+    /** Restaura posición y velocidad guardadas (ver SaveState) */
+    void restore(float x, float y, float vx, float vy, float speed) {
+        this.x = x;
+        this.y = y;
+        prevX = x;
+        prevY = y;
+        this.vx = vx;
+        this.vy = vy;
+        this.speed = speed;
+        updateBounds();
+    }
+
+    // ── Getters para detección de colisiones ──────────────────────────
+
+    /** Caja delimitadora de la pelota (siempre la misma instancia, no modificar) */
+    public Aabb getBounds() {
+        return bounds;
+    }
+    public void increaseSpeed(float amount) {
+        speed += amount;
+        // Normalizar el vector de velocidad a la nueva speed
+        float currentSpeed = (float) Math.sqrt(vx * vx + vy * vy);
+        if (currentSpeed > 0) {
+            vx = (vx / currentSpeed) * speed;
+            vy = (vy / currentSpeed) * speed;
+        }
+    }
+
+    public boolean justBouncedWall() { return bouncedWall; }
+
+    public float getCenterX() { return x; }
+    public float getY()       { return y; }
+    public float getPrevX()   { return prevX; }
+    public float getPrevY()   { return prevY; }
+    public float getVx()      { return vx; }
+    public float getVy()      { return vy; }
+    public float getSpeed()   { return speed; }
+    public int   getRadius()  { return radius; }
+}
@@ -0,0 +1,249 @@
+package com.example.arkanoidgame.core;
+
+/**
+ * BlockField — Bloques del nivel en arrays paralelos de primitivos.
+ *
+ * En lugar de un objeto Block por celda, cada propiedad es un array
+ * indexado por bloque (índice = fila * cols + columna):
+ *
+ *   x[]    y[]    type[]   hp[]      live (bitset)
+ *   12.0   135.0  1        1         1
+ *   144.0  135.0  9        0         1   ← acero: hp no se usa
+ *   ...
+ *
+ * El bitset "live" marca los bloques vivos y permite recorrerlos saltando
+ * los huecos; destructibleLeft lleva la cuenta de los que faltan por
+ * romper, así que comprobar la victoria cuesta O(1). Los arrays se
+ * reutilizan entre niveles mientras quepan.
+ *
+ * Un segundo bitset, "dirty", marca los bloques cuyo aspecto ha cambiado
+ * (dañados o destruidos) desde la última vez que se consumió; así quien
+ * dibuja puede repintar solo esos bloques en lugar del campo entero.
+ */
+public class BlockField {
+
+    // Tipos de bloque (ver LevelManager)
+    public static final int TYPE_EMPTY = 0;
+    public static final int TYPE_STEEL = 9;
+
+    // Resultado de hit()
+    public static final int HIT_STEEL     = 0; // acero: rebota sin daño
+    public static final int HIT_DAMAGED   = 1; // pierde vida pero sigue vivo
+    public static final int HIT_DESTROYED = 2;
+
+    private int rows, cols, count;
+
+    // Geometría: todos los bloques de un nivel miden lo mismo
+    private float blockW, blockH;
+    private float[] x = new float[0];
+    private float[] y = new float[0];
+
+    private byte[] type = new byte[0];
+    private byte[] hp   = new byte[0];
+    private long[] live = new long[0];
+    private long[] dirty = new long[0];
+
+    private int liveCount;
+    private int destructibleLeft;
+
+    /** Prepara el campo para rows × cols bloques vacíos */
+    public void reset(int rows, int cols) {
+        this.rows  = rows;
+        this.cols  = cols;
+        this.count = rows * cols;
+        if (x.length < count) {
+            x    = new float[count];
+            y    = new float[count];
+            type = new byte[count];
+            hp   = new byte[count];
+        }
+        int words = (count + 63) >>> 6;
+        if (live.length < words) {
+            live  = new long[words];
+            dirty = new long[words];
+        }
+        java.util.Arrays.fill(type, 0, count, (byte) TYPE_EMPTY);
+        java.util.Arrays.fill(hp,   0, count, (byte) 0);
+        java.util.Arrays.fill(live, 0, words, 0L);
+        java.util.Arrays.fill(dirty, 0, words, 0L);
+        liveCount = 0;
+        destructibleLeft = 0;
+    }
+
+    /** Asigna el tipo de un bloque (desde el layout del nivel) */
+    public void setType(int i, int tipo) {
+        if (isAlive(i)) {
+            clearLive(i);
+            if (type[i] != TYPE_STEEL) destructibleLeft--;
+        }
+        type[i] = (byte) tipo;
+        hp[i]   = (byte) hpForType(tipo);
+        if (tipo != TYPE_EMPTY) {
+            live[i >>> 6] |= 1L << i;
+            liveCount++;
+            if (tipo != TYPE_STEEL) destructibleLeft++;
+        }
+    }
+
+    /**
+     * Coloca los bloques en rejilla regular.
+     * @param pitchX distancia entre bloques contiguos (ancho + hueco)
+     */
+    public void place(float originX, float originY, float blockW, float blockH, float pitchX, float pitchY) {
+        this.blockW = blockW;
+        this.blockH = blockH;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int i = r * cols + c;
+                x[i] = originX + c * pitchX;
+                y[i] = originY + r * pitchY;
+            }
+        }
+    }
+
+    /**
+     * Recibe un golpe. Reduce HP y destruye si llega a 0.
+     * @return HIT_STEEL, HIT_DAMAGED o HIT_DESTROYED
+     */
+    public int hit(int i) {
+        if (type[i] == TYPE_STEEL) return HIT_STEEL; // ← el acero no se destruye
+        hp[i]--;
+        dirty[i >>> 6] |= 1L << i;                   // cambia de aspecto en ambos casos
+        if (hp[i] > 0) return HIT_DAMAGED;
+        clearLive(i);
+        destructibleLeft--;
+        return HIT_DESTROYED;
+    }
+
+    /**
+     * Fija la vida restante de un bloque destructible (ver SaveState);
+     * con 0 queda destruido. Los bloques vacíos y de acero no cambian.
+     */
+    void restoreHp(int i, int value) {
+        if (type[i] == TYPE_EMPTY || type[i] == TYPE_STEEL) return;
+        if (value <= 0) {
+            if (isAlive(i)) {
+                clearLive(i);
+                destructibleLeft--;
+            }
+            hp[i] = 0;
+        } else {
+            hp[i] = (byte) Math.min(value, hpForType(type[i]));
+        }
+    }
+
+    private void clearLive(int i) {
+        live[i >>> 6] &= ~(1L << i);
+        liveCount--;
+    }
+
+    /**
+     * Siguiente bloque vivo a partir de 'from' (incluido), o -1.
+     * Uso: for (int i = f.nextAlive(0); i >= 0; i = f.nextAlive(i + 1))
+     */
+    public int nextAlive(int from) {
+        return nextSet(live, from);
+    }
+
+    /**
+     * Siguiente bloque marcado como modificado a partir de 'from', o -1.
+     * Las marcas se mantienen hasta llamar a clearDirty().
+     */
+    public int nextDirty(int from) {
+        return nextSet(dirty, from);
+    }
+
+    /** ¿Hay algún bloque modificado pendiente de repintar? */
+    public boolean hasDirty() {
+        return nextSet(dirty, 0) >= 0;
+    }
+
+    /** Olvida las modificaciones pendientes (tras repintarlas) */
+    public void clearDirty() {
+        java.util.Arrays.fill(dirty, 0, (count + 63) >>> 6, 0L);
+    }
+
+    private int nextSet(long[] bits, int from) {
+        if (from >= count) return -1;
+        int w = from >>> 6;
+        long word = bits[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                return (i < count) ? i : -1;
+            }
+            if (++w >= (count + 63) >>> 6) return -1;
+            word = bits[w];
+        }
+    }
+
+    /**
+     * Copia el estado de otro campo reutilizando los arrays propios.
+     * Si ambos tienen la misma forma, marca como modificados los bloques
+     * que difieren (el lector de una instantánea obtiene así los cambios
+     * aunque se haya saltado estados intermedios); las marcas anteriores
+     * se conservan. Si la forma cambia no se marca nada: es otro nivel.
+     */
+    public void copyFrom(BlockField src) {
+        boolean sameShape = src.rows == rows && src.cols == cols;
+        if (!sameShape) reset(src.rows, src.cols);
+        int words = (count + 63) >>> 6;
+        if (sameShape) {
+            for (int i = 0; i < count; i++) {
+                if (type[i] != src.type[i] || hp[i] != src.hp[i]) dirty[i >>> 6] |= 1L << i;
+            }
+            for (int w = 0; w < words; w++) dirty[w] |= live[w] ^ src.live[w];
+        }
+        blockW = src.blockW;
+        blockH = src.blockH;
+        System.arraycopy(src.x,    0, x,    0, count);
+        System.arraycopy(src.y,    0, y,    0, count);
+        System.arraycopy(src.type, 0, type, 0, count);
+        System.arraycopy(src.hp,   0, hp,   0, count);
+        System.arraycopy(src.live, 0, live, 0, words);
+        liveCount        = src.liveCount;
+        destructibleLeft = src.destructibleLeft;
+    }
+
+    // ── Puntos y vida por tipo ────────────────────────────────────────
+    public static int pointsForType(int tipo) {
+        switch (tipo) {
+            case 1: case 2: return 1;
+            case 3: case 4: return 2;
+            case 5:         return 3;
+            default:        return 0;
+        }
+    }
+
+    /** Bloques rojos: 2 golpes; el resto, 1 (el acero nunca se rompe) */
+    public static int hpForType(int tipo) {
+        if (tipo == TYPE_EMPTY) return 0;
+        return (pointsForType(tipo) == 3) ? 2 : 1;
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public boolean isAlive(int i)   { return (live[i >>> 6] & (1L << i)) != 0; }
+    public boolean isSteel(int i)   { return type[i] == TYPE_STEEL; }
+    /** true si ha recibido golpes pero sigue vivo (se dibuja oscurecido) */
+    public boolean isDamaged(int i) { return isAlive(i) && hp[i] < hpForType(type[i]); }
+    public int getType(int i)       { return type[i]; }
+    public int getHp(int i)         { return hp[i]; }
+    public int getPoints(int i)     { return pointsForType(type[i]); }
+
+    public float left(int i)    { return x[i]; }
+    public float top(int i)     { return y[i]; }
+    public float right(int i)   { return x[i] + blockW; }
+    public float bottom(int i)  { return y[i] + blockH; }
+    public float centerX(int i) { return x[i] + blockW / 2f; }
+    public float centerY(int i) { return y[i] + blockH / 2f; }
+
+    public float getBlockWidth()    { return blockW; }
+    public float getBlockHeight()   { return blockH; }
+    public int getRows()            { return rows; }
+    public int getCols()            { return cols; }
+    public int size()               { return count; }
+    public int getLiveCount()       { return liveCount; }
+    public int getDestructibleLeft() { return destructibleLeft; }
+    /** Victoria: no queda ningún bloque destructible (O(1)) */
+    public boolean allDestroyed()   { return destructibleLeft == 0; }
+}
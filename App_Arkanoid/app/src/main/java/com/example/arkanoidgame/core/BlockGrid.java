@@ -0,0 +1,129 @@
+package com.example.arkanoidgame.core;
+
+/**
+ * BlockGrid — Índice espacial de rejilla uniforme para la fase amplia
+ * de las colisiones pelota-bloque.
+ *
+ * Cada celda guarda los índices de los bloques que la solapan, en formato
+ * compacto (cellStart/cellItems, como una matriz CSR). Una consulta solo
+ * recorre las celdas que toca la caja barrida de la pelota, así que su
+ * coste no depende de cuántas filas × columnas tenga el nivel.
+ *
+ *   cellStart: [0, 1, 2, 2, 3, ...]   ← inicio de cada celda en cellItems
+ *   cellItems: [b0, b1, b3, ...]      ← índices de bloque (fila * cols + col)
+ *
+ * Las consultas no reservan memoria: escriben en un int[] del llamador.
+ */
+public class BlockGrid {
+
+    private final float originX, originY;   // esquina superior izquierda de la rejilla
+    private final float cellW, cellH;       // tamaño de celda (normalmente el paso entre bloques)
+    private final int cols, rows;
+
+    private final int[] cellStart;          // cols * rows + 1 entradas
+    private int[] cellItems = new int[0];
+
+    // Marca de la última consulta en la que se visitó cada bloque (evita duplicados)
+    private int[] visited = new int[0];
+    private int queryId = 0;
+
+    public BlockGrid(float originX, float originY, float cellW, float cellH, int cols, int rows) {
+        if (cellW <= 0 || cellH <= 0 || cols <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Rejilla vacía o celdas sin tamaño");
+        }
+        this.originX = originX;
+        this.originY = originY;
+        this.cellW   = cellW;
+        this.cellH   = cellH;
+        this.cols    = cols;
+        this.rows    = rows;
+        this.cellStart = new int[cols * rows + 1];
+    }
+
+    /**
+     * Indexa los bloques vivos. El índice de cada bloque es el de
+     * BlockField, y es el que devuelven las consultas.
+     */
+    public void build(BlockField blocks) {
+        int cellCount = cols * rows;
+        int[] counts = new int[cellCount];
+
+        // 1ª pasada: cuántos bloques caen en cada celda
+        int total = 0;
+        for (int id = blocks.nextAlive(0); id >= 0; id = blocks.nextAlive(id + 1)) {
+            int c0 = colOf(blocks.left(id)), c1 = colOf(blocks.right(id));
+            int r0 = rowOf(blocks.top(id)),  r1 = rowOf(blocks.bottom(id));
+            for (int r = r0; r <= r1; r++)
+                for (int c = c0; c <= c1; c++) {
+                    counts[r * cols + c]++;
+                    total++;
+                }
+        }
+
+        // Sumas prefijas → inicio de cada celda
+        cellStart[0] = 0;
+        for (int i = 0; i < cellCount; i++) cellStart[i + 1] = cellStart[i] + counts[i];
+
+        // 2ª pasada: rellenar (counts se reutiliza como cursor de escritura)
+        cellItems = new int[total];
+        System.arraycopy(cellStart, 0, counts, 0, cellCount);
+        for (int id = blocks.nextAlive(0); id >= 0; id = blocks.nextAlive(id + 1)) {
+            int c0 = colOf(blocks.left(id)), c1 = colOf(blocks.right(id));
+            int r0 = rowOf(blocks.top(id)),  r1 = rowOf(blocks.bottom(id));
+            for (int r = r0; r <= r1; r++)
+                for (int c = c0; c <= c1; c++)
+                    cellItems[counts[r * cols + c]++] = id;
+        }
+
+        visited = new int[blocks.size()];
+        queryId = 0;
+    }
+
+    /**
+     * Devuelve en 'out' los bloques cuyas celdas solapan la caja dada,
+     * sin repetidos y en orden de índice dentro de cada celda (filas de
+     * arriba abajo, columnas de izquierda a derecha).
+     * @return número de índices escritos en out
+     */
+    public int query(float left, float top, float right, float bottom, int[] out) {
+        // Fuera de la rejilla no hay nada que consultar
+        if (right < originX || bottom < originY
+                || left > originX + cols * cellW || top > originY + rows * cellH) {
+            return 0;
+        }
+        int c0 = colOf(left), c1 = colOf(right);
+        int r0 = rowOf(top),  r1 = rowOf(bottom);
+
+        if (++queryId == 0) {               // desbordamiento: limpiar marcas
+            java.util.Arrays.fill(visited, 0);
+            queryId = 1;
+        }
+        int n = 0;
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    int id = cellItems[i];
+                    if (visited[id] != queryId) {
+                        visited[id] = queryId;
+                        out[n++] = id;
+                    }
+                }
+            }
+        }
+        return n;
+    }
+
+    private int colOf(float x) {
+        int c = (int) ((x - originX) / cellW);
+        return Math.max(0, Math.min(cols - 1, c));
+    }
+
+    private int rowOf(float y) {
+        int r = (int) ((y - originY) / cellH);
+        return Math.max(0, Math.min(rows - 1, r));
+    }
+
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+}
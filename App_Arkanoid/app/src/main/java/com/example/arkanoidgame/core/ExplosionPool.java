@@ -0,0 +1,129 @@
+package com.example.arkanoidgame.core;
+
+/**
+ * ExplosionPool — Explosiones activas en un almacén de capacidad fija.
+ *
+ * Las explosiones se guardan en arrays paralelos (x, y, fotograma, tiempo)
+ * de tamaño fijo, así que ni crearlas ni terminarlas reserva memoria.
+ * Al terminar una explosión se rellena su hueco con la última activa
+ * (swap-remove), de modo que las activas siempre ocupan [0, count).
+ *
+ *   activas: [A][B][C][D]  ← C termina
+ *            [A][B][D]     ← D pasa al hueco de C
+ *
+ * Si el almacén está lleno, la nueva explosión recicla la más avanzada
+ * (la que menos se verá ya) y se incrementa el contador de reciclajes.
+ */
+public class ExplosionPool {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    // Fotogramas de la animación de explosión (1–3 del sprite sheet)
+    public static final int ANIMATION_FRAMES = 3;
+    // Duración de cada fotograma de explosión: 4 frames a 60 Hz (~15 fps de animación)
+    private static final float FRAME_TIME = 4f / 60f;
+    // Margen para errores de redondeo al sumar pasos de float
+    private static final float TIME_EPSILON = 1e-6f;
+
+    private final float[] x, y;         // posición en pantalla
+    private final int[]   frame;        // fotograma actual (0–2 de la animación)
+    private final float[] frameTime;    // segundos acumulados en el fotograma actual
+    private int count = 0;
+
+    private long started  = 0;          // explosiones pedidas
+    private long recycled = 0;          // explosiones sacrificadas por falta de hueco
+
+    public ExplosionPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ExplosionPool(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacidad debe ser positiva");
+        x         = new float[capacity];
+        y         = new float[capacity];
+        frame     = new int[capacity];
+        frameTime = new float[capacity];
+    }
+
+    /** Registra una nueva animación de explosión en las coordenadas dadas */
+    public void start(float cx, float cy) {
+        started++;
+        int slot;
+        if (count < x.length) {
+            slot = count++;
+        } else {
+            slot = mostAdvanced();
+            recycled++;
+        }
+        x[slot]         = cx;
+        y[slot]         = cy;
+        frame[slot]     = 0;
+        frameTime[slot] = 0;
+    }
+
+    /** Actualiza el estado de todas las explosiones activas (dt en segundos) */
+    public void update(float dt) {
+        int i = 0;
+        while (i < count) {
+            frameTime[i] += dt;
+            // Cambiar de fotograma cada FRAME_TIME segundos
+            if (frameTime[i] + TIME_EPSILON >= FRAME_TIME) {
+                frameTime[i] -= FRAME_TIME;
+                frame[i]++;
+                if (frame[i] >= ANIMATION_FRAMES) {
+                    removeAt(i);
+                    continue; // el hueco i ahora tiene otra explosión sin actualizar
+                }
+            }
+            i++;
+        }
+    }
+
+    /** Elimina todas las explosiones activas (p. ej. al cambiar de nivel) */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Copia las explosiones activas de otro almacén (p. ej. a una
+     * instantánea para el hilo de render). Las que no quepan se descartan.
+     */
+    public void copyFrom(ExplosionPool src) {
+        int n = Math.min(src.count, x.length);
+        System.arraycopy(src.x,         0, x,         0, n);
+        System.arraycopy(src.y,         0, y,         0, n);
+        System.arraycopy(src.frame,     0, frame,     0, n);
+        System.arraycopy(src.frameTime, 0, frameTime, 0, n);
+        count    = n;
+        started  = src.started;
+        recycled = src.recycled;
+    }
+
+    private void removeAt(int i) {
+        int last = --count;
+        x[i]         = x[last];
+        y[i]         = y[last];
+        frame[i]     = frame[last];
+        frameTime[i] = frameTime[last];
+    }
+
+    private int mostAdvanced() {
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (frame[i] > frame[best]
+                    || (frame[i] == frame[best] && frameTime[i] > frameTime[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    // ── Getters (índices válidos: 0 .. size() - 1) ────────────────────
+    public int size()            { return count; }
+    public int capacity()        { return x.length; }
+    public float getX(int i)     { return x[i]; }
+    public float getY(int i)     { return y[i]; }
+    public int getFrame(int i)   { return frame[i]; }
+    public long getStartedCount()  { return started; }
+    public long getRecycledCount() { return recycled; }
+}
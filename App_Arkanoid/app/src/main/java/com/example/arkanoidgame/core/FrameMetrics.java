@@ -0,0 +1,108 @@
+package com.example.arkanoidgame.core;
+
+import java.io.IOException;
+
+/**
+ * FrameMetrics — Tiempos por fase del bucle de juego en histogramas fijos.
+ *
+ * Cada fase tiene su LatencyHistogram. Registrar cuesta un par de
+ * System.nanoTime() y unas operaciones de bits, así que puede quedarse
+ * activo también en release. Cada fase la escribe siempre el mismo hilo:
+ *
+ *   simulación: UPDATE (un paso de física)
+ *   render:     LOCK (lockCanvas), DRAW (dibujo), POST (unlockCanvasAndPost),
+ *               SLEEP (espera hasta el siguiente frame), FRAME (inicio a inicio)
+ *
+ * Un frame cuenta como "jank" si tarda más que el presupuesto de un
+ * frame, y como "jank grave" si tarda más del doble.
+ */
+public final class FrameMetrics {
+
+    public static final int PHASE_UPDATE = 0;
+    public static final int PHASE_LOCK   = 1;
+    public static final int PHASE_DRAW   = 2;
+    public static final int PHASE_POST   = 3;
+    public static final int PHASE_SLEEP  = 4;
+    public static final int PHASE_FRAME  = 5;
+    public static final int PHASE_COUNT  = 6;
+
+    private static final String[] PHASE_NAMES = { "update", "lock", "draw", "post", "sleep", "frame" };
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASE_COUNT];
+    private final long frameBudgetNanos;
+    private long jankFrames;
+    private long severeJankFrames;
+    private volatile boolean enabled = true;
+
+    /** @param frameBudgetNanos duración prevista de un frame (p. ej. 1e9 / 60) */
+    public FrameMetrics(long frameBudgetNanos) {
+        this.frameBudgetNanos = frameBudgetNanos;
+        for (int i = 0; i < PHASE_COUNT; i++) histograms[i] = new LatencyHistogram();
+    }
+
+    /** Registra la duración de una fase (si las métricas están activas) */
+    public void record(int phase, long nanos) {
+        if (!enabled) return;
+        histograms[phase].record(nanos);
+        if (phase == PHASE_FRAME) {
+            if (nanos > frameBudgetNanos)     jankFrames++;
+            if (nanos > 2 * frameBudgetNanos) severeJankFrames++;
+        }
+    }
+
+    /** Vacía todos los histogramas (desde el hilo de render, con la simulación parada o aceptando una ligera carrera) */
+    public void reset() {
+        for (LatencyHistogram h : histograms) h.reset();
+        jankFrames = 0;
+        severeJankFrames = 0;
+    }
+
+    /**
+     * Escribe un informe de texto: una línea por fase con
+     * n, media, p50, p95, p99 y máximo en milisegundos, y el recuento de jank.
+     */
+    public void writeReport(Appendable out) throws IOException {
+        out.append(padRight("phase", 6)).append(pad("count", 8));
+        for (String col : new String[]{ "mean", "p50", "p95", "p99", "max" }) out.append(pad(col, 8));
+        out.append("  (ms)\n");
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            LatencyHistogram h = histograms[i];
+            out.append(padRight(PHASE_NAMES[i], 6))
+               .append(pad(Long.toString(h.getCount()), 8));
+            appendMillis(out, h.getMean());
+            appendMillis(out, h.percentile(0.50));
+            appendMillis(out, h.percentile(0.95));
+            appendMillis(out, h.percentile(0.99));
+            appendMillis(out, h.getMax());
+            out.append('\n');
+        }
+        out.append("budget ").append(Long.toString(frameBudgetNanos / 1000)).append(" us")
+           .append("  jank ").append(Long.toString(jankFrames))
+           .append("  severe ").append(Long.toString(severeJankFrames)).append('\n');
+    }
+
+    private static void appendMillis(Appendable out, long nanos) throws IOException {
+        out.append(pad(String.format(java.util.Locale.ROOT, "%.2f", nanos / 1e6), 8));
+    }
+
+    private static String padRight(String s, int width) {
+        StringBuilder sb = new StringBuilder(width).append(s);
+        while (sb.length() < width) sb.append(' ');
+        return sb.toString();
+    }
+
+    private static String pad(String s, int width) {
+        StringBuilder sb = new StringBuilder(width);
+        for (int i = s.length(); i < width; i++) sb.append(' ');
+        return sb.append(s).toString();
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public LatencyHistogram get(int phase)   { return histograms[phase]; }
+    public static String phaseName(int phase) { return PHASE_NAMES[phase]; }
+    public long getFrameBudgetNanos()        { return frameBudgetNanos; }
+    public long getJankFrames()              { return jankFrames; }
+    public long getSevereJankFrames()        { return severeJankFrames; }
+    public boolean isEnabled()               { return enabled; }
+    public void setEnabled(boolean enabled)  { this.enabled = enabled; }
+}
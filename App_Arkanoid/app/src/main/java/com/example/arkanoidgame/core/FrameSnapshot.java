@@ -0,0 +1,76 @@
+package com.example.arkanoidgame.core;
+
+/**
+ * FrameSnapshot — Copia de todo lo que hace falta para dibujar un frame.
+ *
+ * El hilo de simulación la rellena con capture() y la publica en un
+ * TripleBuffer; el hilo de render solo la lee. Una vez publicada no se
+ * modifica hasta que vuelve al escritor, así que el render nunca ve un
+ * estado a medio actualizar. Se preasigna entera: capture() copia
+ * valores y arrays sin crear objetos.
+ */
+public final class FrameSnapshot {
+
+    // ─── Pelota (paso anterior y actual, para interpolar) ────────────────
+    public float ballX, ballY, ballPrevX, ballPrevY;
+    public int   ballRadius;
+
+    // ─── Paleta ───────────────────────────────────────────────────────────
+    public float paddleX, paddlePrevX, paddleY;
+    public int   paddleWidth, paddleHeight;
+
+    // ─── Muro de bloques y explosiones ──────────────────────────────────
+    public final BlockField blocks = new BlockField();
+    public final ExplosionPool explosions;
+
+    // ─── HUD y estado ────────────────────────────────────────────────────
+    public GameState state;
+    public int score, lives, level, totalLevels;
+    public int levelSerial;     // cambia al cargar un nivel (ver GameWorld.getLevelSerial)
+
+    // ─── Tiempo ───────────────────────────────────────────────────────────
+    public long frame;          // pasos simulados
+    public long stepTimeNanos;  // instante del último paso incluido
+    public boolean valid;       // false hasta la primera captura
+
+    public FrameSnapshot(int explosionCapacity) {
+        explosions = new ExplosionPool(explosionCapacity);
+    }
+
+    /** Copia el estado actual del mundo y de las explosiones */
+    public void capture(GameWorld world, ExplosionPool liveExplosions, long stepTimeNanos) {
+        Ball ball = world.getBall();
+        ballX      = ball.getCenterX();
+        ballY      = ball.getY();
+        ballPrevX  = ball.getPrevX();
+        ballPrevY  = ball.getPrevY();
+        ballRadius = ball.getRadius();
+
+        Paddle paddle = world.getPaddle();
+        paddleX      = paddle.getX();
+        paddlePrevX  = paddle.getPrevX();
+        paddleY      = paddle.getY();
+        paddleWidth  = paddle.getWidth();
+        paddleHeight = paddle.getHeight();
+
+        blocks.copyFrom(world.getBlocks());
+        explosions.copyFrom(liveExplosions);
+
+        LevelManager levels = world.getLevelManager();
+        state       = world.getState();
+        score       = world.getScore();
+        lives       = world.getLives();
+        level       = levels.getCurrentLevelNumber();
+        totalLevels = levels.getTotalLevels();
+        levelSerial = world.getLevelSerial();
+
+        frame              = world.getFrame();
+        this.stepTimeNanos = stepTimeNanos;
+        valid              = true;
+    }
+
+    /** Posición x de la pelota interpolada (alpha en 0..1 del paso siguiente) */
+    public float ballXAt(float alpha)   { return ballPrevX + (ballX - ballPrevX) * alpha; }
+    public float ballYAt(float alpha)   { return ballPrevY + (ballY - ballPrevY) * alpha; }
+    public float paddleXAt(float alpha) { return paddlePrevX + (paddleX - paddlePrevX) * alpha; }
+}
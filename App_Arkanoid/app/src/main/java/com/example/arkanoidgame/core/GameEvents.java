@@ -0,0 +1,25 @@
+package com.example.arkanoidgame.core;
+
+/**
+ * GameEvents — Notificaciones de la simulación hacia la capa Android
+ * (sonidos, explosiones, récord). Todos los métodos son opcionales.
+ */
+public interface GameEvents {
+
+    default void onPaddleBounce() {}
+    default void onWallBounce() {}
+
+    /** Golpe a un bloque que no lo destruye (índice en GameWorld.getBlocks()) */
+    default void onBlockHit(int block) {}
+    default void onSteelHit(int block) {}
+    default void onBlockDestroyed(int block) {}
+
+    default void onBallLost(int livesLeft) {}
+    default void onLevelCompleted(int score) {}
+    default void onGameOver(int score) {}
+
+    /** Se ha cargado un nivel nuevo (al empezar partida o al pasar de nivel) */
+    default void onLevelLoaded(int levelNumber) {}
+
+    GameEvents NONE = new GameEvents() {};
+}
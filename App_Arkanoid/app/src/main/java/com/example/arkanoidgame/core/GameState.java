@@ -0,0 +1,4 @@
+package com.example.arkanoidgame.core;
+
+/** Estados de una partida */
+public enum GameState { WAITING, PLAYING, GAME_OVER, WIN }
@@ -0,0 +1,435 @@
+package com.example.arkanoidgame.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * GameWorld — Reglas del juego sin dependencias de Android.
+ *
+ * Contiene la pelota, la paleta, los bloques, la puntuación, las vidas
+ * y la progresión de niveles. Cada llamada a step() avanza un paso fijo
+ * de simulación; GameView lo usa para jugar y los tests lo usan para
+ * simular miles de frames en la JVM sin emulador.
+ */
+public class GameWorld {
+
+    public static final int INITIAL_LIVES = 3;
+
+    // ─── Zona del muro (fracciones del alto de pantalla) ───────────────
+    // Empieza en 1/8 y acaba por encima de donde sale la pelota (0,65)
+    // y, por tanto, de la paleta (0,85). Con pocas filas los bloques miden
+    // 1/20 de alto; con muchas se encogen para que el muro quepa.
+    private static final float WALL_TOP    = 1f / 8f;
+    private static final float WALL_BOTTOM = 0.6f;
+
+    // ─── Dimensiones y paso de simulación ─────────────────────────────
+    private final int screenWidth;
+    private final int screenHeight;
+    private final float stepSeconds;
+
+    // ─── Entidades ──────────────────────────────────────────────────────
+    private final LevelManager levelManager;
+    private Ball ball;
+    private Paddle paddle;
+    private BlockField blocks = new BlockField(); // arrays paralelos, índice = fila * cols + col
+    private BlockGrid grid;          // índice espacial para la fase amplia de colisiones
+    private int[] candidates;        // resultado reutilizable de grid.query()
+
+    // ─── Estado de la partida ───────────────────────────────────────────
+    private GameState state = GameState.WAITING;
+    private int score = 0;
+    private int lives = INITIAL_LIVES;
+    private int blocksDestroyed = 0; // ← contador de bloques destruidos (por nivel)
+    private long frame = 0;          // pasos simulados desde el inicio
+    private int levelSerial = 0;     // cargas de nivel (cambia aunque se repita el número)
+
+    private GameEvents events = GameEvents.NONE;
+    private TraceRecorder trace = TraceRecorder.disabled(); // secciones del paso (hilo de simulación)
+
+    // ─── Precarga del siguiente nivel (opcional) ────────────────────────
+    // Mientras se juega un nivel, un hilo aparte decodifica el siguiente y
+    // coloca sus bloques y su rejilla; al cambiar de nivel solo se cambian
+    // las referencias. Sin ejecutor, todo se hace al cargar (tests).
+
+    /** Aviso en el hilo de precarga con el muro recién preparado, antes de entregarlo */
+    public interface LevelPrefetchListener {
+        /** No debe modificar 'blocks' ni guardarlo: si lo necesita, que lo copie */
+        void onLevelPrepared(int levelNumber, BlockField blocks);
+    }
+
+    private static final class PreparedLevel {
+        final int index;            // nivel, empezando por 0
+        final BlockField blocks;
+        final BlockGrid grid;
+
+        PreparedLevel(int index, BlockField blocks, BlockGrid grid) {
+            this.index  = index;
+            this.blocks = blocks;
+            this.grid   = grid;
+        }
+    }
+
+    private Executor prefetchExecutor;
+    private LevelPrefetchListener prefetchListener;
+    private final AtomicReference<PreparedLevel> preparedLevel = new AtomicReference<>();
+    private long prefetchedLoads = 0;
+
+    // ─── Detección continua de colisiones ─────────────────────────────
+    // Contactos máximos resueltos en un paso (p. ej. esquina pared-techo + bloque)
+    private static final int MAX_CONTACTS = 4;
+    private static final int HIT_NONE = 0, HIT_WALL = 1, HIT_PADDLE = 2, HIT_BLOCK = 3;
+    private final Sweep.Contact probe   = new Sweep.Contact();
+    private final Sweep.Contact contact = new Sweep.Contact();
+
+    public GameWorld(int screenWidth, int screenHeight, float stepSeconds) {
+        this(screenWidth, screenHeight, stepSeconds, new LevelManager());
+    }
+
+    public GameWorld(int screenWidth, int screenHeight, float stepSeconds, LevelManager levelManager) {
+        this.screenWidth  = screenWidth;
+        this.screenHeight = screenHeight;
+        this.stepSeconds  = stepSeconds;
+        this.levelManager = levelManager;
+        newGame();
+    }
+
+    public void setEvents(GameEvents events) {
+        this.events = (events != null) ? events : GameEvents.NONE;
+    }
+
+    /**
+     * Prepara cada nivel siguiente en 'executor' mientras se juega el actual.
+     * @param executor null = sin precarga (cada nivel se carga al llegar a él)
+     * @param listener opcional: recibe el muro preparado en el hilo del ejecutor
+     */
+    public void setLevelPrefetcher(Executor executor, LevelPrefetchListener listener) {
+        this.prefetchExecutor = executor;
+        this.prefetchListener = listener;
+        prefetchNextLevel();
+    }
+
+    /** Grabador de secciones del hilo que llama a step() (null = ninguno) */
+    public void setTrace(TraceRecorder trace) {
+        this.trace = (trace != null) ? trace : TraceRecorder.disabled();
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // INICIALIZACIÓN
+    // ════════════════════════════════════════════════════════════════════
+
+    /** Empieza una partida desde el nivel 1 */
+    public void newGame() {
+        levelManager.reset(); // ← resetear niveles al reiniciar
+        score = 0;
+        lives = INITIAL_LIVES;
+        loadLevel();
+    }
+
+    /** Carga un nivel concreto (empezando por 1) sin resetear puntos ni vidas */
+    public void startLevel(int levelNumber) {
+        levelManager.setCurrentLevelNumber(levelNumber);
+        loadLevel();
+    }
+
+    /**
+     * Vuelve al estado de una partida guardada: carga su nivel y le
+     * aplica muro, pelota, paleta, puntos y vidas.
+     * @throws IllegalArgumentException si el nivel no existe o su muro no
+     *         tiene la forma guardada (el paquete de niveles ha cambiado)
+     */
+    void restore(SaveState saved, GameState restoredState) {
+        levelManager.setCurrentLevelNumber(saved.levelNumber);
+        loadLevel();
+        if (blocks.getRows() != saved.rows || blocks.getCols() != saved.cols) {
+            throw new IllegalArgumentException("el nivel " + saved.levelNumber + " ya no tiene "
+                    + saved.rows + "x" + saved.cols + " bloques");
+        }
+        for (int i = 0; i < blocks.size(); i++) blocks.restoreHp(i, saved.hp(i));
+        blocks.clearDirty(); // muro nuevo: se pinta entero igualmente
+        score           = saved.score;
+        lives           = saved.lives;
+        blocksDestroyed = saved.blocksDestroyed;
+        ball.restore(saved.ballX, saved.ballY, saved.ballVx, saved.ballVy, saved.ballSpeed);
+        paddle.restore(saved.paddleX);
+        state = restoredState;
+    }
+
+    /** Carga el nivel actual sin resetear puntos ni vidas */
+    private void loadLevel() {
+        blocksDestroyed = 0;
+        int ballSize    = screenWidth / 30;
+        ball   = new Ball(screenWidth / 2f, screenHeight * 0.65f, ballSize);
+        paddle = new Paddle(screenWidth / 2f - (screenWidth / 5) / 2f,
+                screenHeight * 0.85f,
+                screenWidth / 5, screenHeight / 35, screenWidth);
+        initBlocks();
+        levelSerial++;
+        state = GameState.WAITING;
+        events.onLevelLoaded(levelManager.getCurrentLevelNumber());
+        prefetchNextLevel();
+    }
+
+    private void initBlocks() {
+        // Si el nivel ya está preparado, basta con cambiar las referencias
+        PreparedLevel prepared = preparedLevel.getAndSet(null);
+        if (prepared != null && prepared.index == levelManager.getCurrentLevelNumber() - 1) {
+            blocks = prepared.blocks;
+            grid   = prepared.grid;
+            prefetchedLoads++;
+        } else {
+            // Volcar el nivel actual (las dimensiones salen del layout)
+            levelManager.populate(blocks);
+            grid = layoutBlocks(blocks);
+        }
+        if (candidates == null || candidates.length < blocks.size()) {
+            candidates = new int[blocks.size()];
+        }
+    }
+
+    /**
+     * Coloca en pantalla los bloques ya volcados y construye su rejilla.
+     * Solo lee las dimensiones de la pantalla: vale también para el hilo de precarga.
+     */
+    private BlockGrid layoutBlocks(BlockField blocks) {
+        int rows      = blocks.getRows();
+        int cols      = blocks.getCols();
+
+        int margin    = screenWidth / 40;
+        int topOffset = (int) (screenHeight * WALL_TOP);
+        int wallH     = (int) (screenHeight * WALL_BOTTOM) - topOffset;
+        // Al menos 1 px: una fuente sin el límite de columnas de LevelPack
+        // no debe dejar la rejilla sin tamaño
+        int blockW    = Math.max(1, (screenWidth - margin * 2) / cols - margin / cols);
+        // rows × alto + (rows - 1) × alto / 3 ≤ wallH
+        int blockH    = Math.max(1, Math.min(screenHeight / 20, wallH * 3 / (4 * rows - 1)));
+        int gapX      = (cols > 1) ? Math.max(0, (screenWidth - margin * 2 - blockW * cols) / (cols - 1)) : 0;
+        int gapY      = blockH / 3;
+        blocks.place(margin, topOffset, blockW, blockH, blockW + gapX, blockH + gapY);
+
+        // Una celda por bloque: el paso de la rejilla es bloque + hueco
+        BlockGrid grid = new BlockGrid(margin, topOffset, blockW + gapX, blockH + gapY, cols, rows);
+        grid.build(blocks);
+        return grid;
+    }
+
+    /** Encarga preparar el nivel que sigue al actual (si hay ejecutor y no es el último) */
+    private void prefetchNextLevel() {
+        if (prefetchExecutor == null || levelManager.isLastLevel()) return;
+        final int index = levelManager.getCurrentLevelNumber(); // el siguiente, empezando por 0
+        final LevelPrefetchListener listener = prefetchListener;
+        prefetchExecutor.execute(() -> {
+            BlockField next = new BlockField();
+            BlockGrid nextGrid;
+            try {
+                levelManager.populate(next, index);
+                nextGrid = layoutBlocks(next);
+            } catch (RuntimeException e) {
+                // Sin nivel preparado: se carga al llegar a él, en el hilo de simulación
+                return;
+            }
+            if (listener != null) listener.onLevelPrepared(index + 1, next);
+            preparedLevel.set(new PreparedLevel(index, next, nextGrid));
+        });
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // SIMULACIÓN
+    // ════════════════════════════════════════════════════════════════════
+
+    /** Avanza un paso fijo de simulación aplicando la entrada del jugador */
+    public void step(Input input) {
+        frame++;
+        applyInput(input);
+        paddle.update(); // la paleta se mueve también mientras se espera el saque
+        if (state != GameState.PLAYING) return;
+
+        trace.begin("moveBall");
+        moveBall();
+        trace.end();
+
+        // Pelota perdida
+        if (ball.getY() > screenHeight + 50) {
+            lives--;
+            events.onBallLost(lives);
+            if (lives <= 0) {
+                state = GameState.GAME_OVER;
+                events.onGameOver(score);
+            } else {
+                ball.reset(screenWidth / 2f, screenHeight * 0.65f);
+                state = GameState.WAITING;
+            }
+        }
+
+        if (blocks.allDestroyed()) {
+            events.onLevelCompleted(score);
+            if (levelManager.isLastLevel()) {
+                state = GameState.WIN; // completó todos los niveles
+            } else {
+                levelManager.nextLevel();
+                loadLevel();           // cargar siguiente nivel sin resetear puntos ni vidas
+            }
+        }
+    }
+
+    /**
+     * Mueve la pelota durante el paso resolviendo los contactos en orden:
+     * busca el primer impacto (paredes, paleta o bloques) del tramo que
+     * queda, avanza hasta él, rebota por la normal de contacto y sigue
+     * con el tiempo restante, hasta MAX_CONTACTS veces.
+     */
+    private void moveBall() {
+        ball.beginStep();
+        float remaining = 1f; // fracción del paso que queda por recorrer
+        for (int contacts = 0; contacts < MAX_CONTACTS && remaining > 0; contacts++) {
+            float x  = ball.getCenterX(), y = ball.getY();
+            float r  = ball.getRadius();
+            float dx = ball.getVx() * stepSeconds * remaining;
+            float dy = ball.getVy() * stepSeconds * remaining;
+
+            int hitKind  = HIT_NONE;
+            int hitBlock = -1;
+            contact.t = 1f;
+
+            // Paredes laterales y techo (planos x = r, x = ancho - r, y = r)
+            trace.begin("collide.walls");
+            if (dx < 0 && wallTime((r - x) / dx, contact.t))                { contact.set(probe.t,  1, 0); hitKind = HIT_WALL; }
+            if (dx > 0 && wallTime((screenWidth - r - x) / dx, contact.t))  { contact.set(probe.t, -1, 0); hitKind = HIT_WALL; }
+            if (dy < 0 && wallTime((r - y) / dy, contact.t))                { contact.set(probe.t,  0, 1); hitKind = HIT_WALL; }
+            trace.end();
+
+            // Paleta
+            trace.begin("collide.paddle");
+            Aabb p = paddle.getBounds();
+            if (Sweep.circleVsAabb(x, y, r, dx, dy, p.left, p.top, p.right, p.bottom, probe)
+                    && probe.t < contact.t) {
+                contact.set(probe);
+                hitKind = HIT_PADDLE;
+            }
+            trace.end();
+
+            // Bloques: solo los de las celdas que barre la pelota en este tramo
+            trace.begin("collide.blocks");
+            int n = grid.query(Math.min(x, x + dx) - r, Math.min(y, y + dy) - r,
+                               Math.max(x, x + dx) + r, Math.max(y, y + dy) + r, candidates);
+            for (int i = 0; i < n; i++) {
+                int b = candidates[i];
+                if (!blocks.isAlive(b)) continue;
+                if (Sweep.circleVsAabb(x, y, r, dx, dy,
+                            blocks.left(b), blocks.top(b), blocks.right(b), blocks.bottom(b), probe)
+                        && probe.t < contact.t) {
+                    contact.set(probe);
+                    hitKind  = HIT_BLOCK;
+                    hitBlock = b;
+                }
+            }
+            trace.end();
+
+            ball.advance(dx * contact.t, dy * contact.t);
+            if (hitKind == HIT_NONE) return;
+            remaining *= 1f - contact.t;
+
+            switch (hitKind) {
+                case HIT_WALL:
+                    ball.bounceWall(contact.nx, contact.ny);
+                    break;
+                case HIT_PADDLE:
+                    onPaddleContact();
+                    break;
+                case HIT_BLOCK:
+                    ball.reflect(contact.nx, contact.ny);
+                    onBlockContact(hitBlock);
+                    break;
+            }
+        }
+
+        // Colisión con paredes (resuelta arriba, pero se notifica una vez por paso)
+        if (ball.justBouncedWall()) {
+            events.onWallBounce();
+        }
+    }
+
+    /** Guarda en probe un impacto contra pared en t si es anterior al mejor encontrado */
+    private boolean wallTime(float t, float best) {
+        if (t < 0) t = 0; // ya apoyada en la pared y moviéndose hacia ella
+        if (t >= best) return false;
+        probe.t = t;
+        return true;
+    }
+
+    private void onPaddleContact() {
+        if (contact.ny < 0) {
+            // Golpe por arriba: el ángulo depende del punto de impacto
+            ball.setAngle((ball.getCenterX() - paddle.getX()) / paddle.getWidth());
+        } else {
+            ball.reflect(contact.nx, contact.ny); // golpe de lado o de esquina
+        }
+        events.onPaddleBounce();
+    }
+
+    private void onBlockContact(int block) {
+        int result = blocks.hit(block);
+        if (result == BlockField.HIT_STEEL) {
+            events.onSteelHit(block);
+        } else if (result == BlockField.HIT_DESTROYED) {
+            // Bloque destruido
+            blocksDestroyed++;
+            score += blocks.getPoints(block);
+            events.onBlockDestroyed(block);
+
+            // ── VELOCIDAD PROGRESIVA ──────────────────────
+            // Cada 10 bloques destruidos, aumenta la velocidad
+            if (blocksDestroyed % 10 == 0) {
+                ball.increaseSpeed(90f); // +1.5 px por frame a 60 Hz
+            }
+        } else {
+            events.onBlockHit(block);
+        }
+    }
+
+    /**
+     * Ejecuta varios pasos seguidos con la misma entrada (el toque solo
+     * se aplica en el primero). Pensado para tests y mediciones.
+     * @return número de pasos ejecutados
+     */
+    public int run(Input input, int steps) {
+        for (int i = 0; i < steps; i++) {
+            step(input);
+            input.tap = false;
+        }
+        return steps;
+    }
+
+    private void applyInput(Input input) {
+        if (input == null) return;
+        if (input.tap) {
+            if (state == GameState.WAITING) {
+                state = GameState.PLAYING;
+            } else if (state == GameState.GAME_OVER || state == GameState.WIN) {
+                newGame();
+            }
+        }
+        if (input.movePaddle) {
+            // Centrar la paleta bajo el dedo
+            paddle.moveTo(input.paddleCenterX - paddle.getWidth() / 2f);
+        }
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public Ball getBall()                 { return ball; }
+    public Paddle getPaddle()             { return paddle; }
+    public BlockField getBlocks()         { return blocks; }
+    public LevelManager getLevelManager() { return levelManager; }
+    public GameState getState()           { return state; }
+    public int getScore()                 { return score; }
+    public int getLives()                 { return lives; }
+    /** Bloques destruidos en el nivel actual (cada 10 acelera la pelota) */
+    public int getBlocksDestroyed()       { return blocksDestroyed; }
+    public long getFrame()                { return frame; }
+    /** Número de cargas de nivel hasta ahora: cambia cada vez que se monta un muro nuevo */
+    public int getLevelSerial()           { return levelSerial; }
+    /** Cargas de nivel que han usado un nivel ya preparado en segundo plano */
+    public long getPrefetchedLoads()      { return prefetchedLoads; }
+    public int getScreenWidth()           { return screenWidth; }
+    public int getScreenHeight()          { return screenHeight; }
+    public float getStepSeconds()         { return stepSeconds; }
+}
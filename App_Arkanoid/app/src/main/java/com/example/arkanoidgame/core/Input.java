@@ -0,0 +1,27 @@
+package com.example.arkanoidgame.core;
+
+/**
+ * Input — Entrada del jugador para un paso de simulación.
+ *
+ * Es un objeto mutable y reutilizable: quien llama a GameWorld.step()
+ * lo rellena antes de cada paso y lo limpia con clear().
+ */
+public class Input {
+
+    /** Toque de pantalla: lanza la pelota o reinicia la partida */
+    public boolean tap;
+
+    /** Si es true, la paleta debe centrarse en paddleCenterX */
+    public boolean movePaddle;
+    public float   paddleCenterX;
+
+    public void clear() {
+        tap        = false;
+        movePaddle = false;
+    }
+
+    public void moveTo(float centerX) {
+        movePaddle    = true;
+        paddleCenterX = centerX;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.arkanoidgame.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * InputQueue — Cola circular sin bloqueos de eventos de entrada con marca de tiempo.
+ *
+ * Un productor (el UI thread, en onTouch) y un consumidor (el hilo de
+ * simulación, al empezar cada paso). Los eventos viven en arrays
+ * preasignados; head y tail solo crecen y la posición en el array es
+ * índice & mask, así que no hay reservas de memoria ni locks:
+ *
+ *   productor: escribe el hueco tail → publica tail + 1
+ *   consumidor: lee los huecos [head, tail) → publica el nuevo head
+ *
+ * Cada evento lleva el instante en que ocurrió (en el reloj de
+ * System.nanoTime); al consumirlo se mide la latencia entrada → simulación.
+ * Si la cola está llena, el evento nuevo se descarta y se cuenta.
+ */
+public final class InputQueue {
+
+    public static final byte TYPE_TAP  = 1;  // toque: lanzar la pelota o reiniciar
+    public static final byte TYPE_MOVE = 2;  // el dedo se mueve: centro de la paleta en x
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final byte[]  type;
+    private final float[] x;
+    private final long[]  timeNanos;
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong(); // siguiente a leer (escribe el consumidor)
+    private final AtomicLong tail = new AtomicLong(); // siguiente a escribir (escribe el productor)
+
+    // ─── Estadísticas (las escribe solo el consumidor) ──────────────────
+    private volatile long lastLatencyNanos = 0;
+    private volatile long maxLatencyNanos  = 0;
+    private long latencySumNanos = 0;
+    private volatile long consumed = 0;
+    private final AtomicLong dropped = new AtomicLong();
+
+    public InputQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /** @param capacity se redondea a la siguiente potencia de dos */
+    public InputQueue(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacidad debe ser positiva");
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        type      = new byte[size];
+        x         = new float[size];
+        timeNanos = new long[size];
+        mask      = size - 1;
+    }
+
+    /**
+     * Encola un evento (solo desde el hilo productor).
+     * @return false si la cola estaba llena y el evento se ha descartado
+     */
+    public boolean offer(byte eventType, float eventX, long eventTimeNanos) {
+        long t = tail.get();
+        if (t - head.get() > mask) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        int slot = (int) (t & mask);
+        type[slot]      = eventType;
+        x[slot]         = eventX;
+        timeNanos[slot] = eventTimeNanos;
+        tail.lazySet(t + 1); // publica el hueco ya escrito
+        return true;
+    }
+
+    /**
+     * Vuelca en 'out' todos los eventos pendientes (solo desde el hilo
+     * consumidor). Un toque activa out.tap; de varios movimientos gana
+     * el último. No limpia 'out' antes.
+     * @param nowNanos instante actual (System.nanoTime) para medir la latencia
+     * @return número de eventos consumidos
+     */
+    public int drain(Input out, long nowNanos) {
+        long h = head.get();
+        long t = tail.get();
+        if (h == t) return 0;
+        for (long i = h; i < t; i++) {
+            int slot = (int) (i & mask);
+            if (type[slot] == TYPE_TAP) out.tap = true;
+            else if (type[slot] == TYPE_MOVE) out.moveTo(x[slot]);
+            recordLatency(nowNanos - timeNanos[slot]);
+        }
+        head.lazySet(t); // devuelve los huecos al productor
+        return (int) (t - h);
+    }
+
+    private void recordLatency(long latency) {
+        lastLatencyNanos = latency;
+        if (latency > maxLatencyNanos) maxLatencyNanos = latency;
+        latencySumNanos += latency;
+        consumed++;
+    }
+
+    /** Descarta los eventos pendientes (solo desde el hilo consumidor) */
+    public void clear() {
+        head.lazySet(tail.get());
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public int capacity()               { return mask + 1; }
+    public int size()                   { return (int) (tail.get() - head.get()); }
+    public long getDroppedCount()       { return dropped.get(); }
+    public long getConsumedCount()      { return consumed; }
+    public long getLastLatencyNanos()   { return lastLatencyNanos; }
+    public long getMaxLatencyNanos()    { return maxLatencyNanos; }
+    /** Latencia media entrada → simulación (lectura aproximada fuera del consumidor) */
+    public long getAverageLatencyNanos() {
+        long n = consumed;
+        return (n == 0) ? 0 : latencySumNanos / n;
+    }
+}
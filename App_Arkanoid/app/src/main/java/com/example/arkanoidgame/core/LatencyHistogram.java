@@ -0,0 +1,95 @@
+package com.example.arkanoidgame.core;
+
+/**
+ * LatencyHistogram — Histograma de duraciones en nanosegundos con
+ * memoria fija y cubos logarítmicos.
+ *
+ * Cada potencia de dos se divide en 8 cubos iguales, así que el error
+ * relativo de un percentil es como mucho 1/8 (12,5 %), igual para 2 µs
+ * que para 200 ms. Todo el histograma son 320 contadores: registrar un
+ * valor es un par de operaciones de bits y un incremento, sin reservas.
+ *
+ *   valor   0..7       → cubo exacto (0..7)
+ *   valor   8..15      → cubos 8..15   (ancho 1)
+ *   valor  16..31      → cubos 16..23  (ancho 2)
+ *   valor  2^e..2^e+1  → 8 cubos de ancho 2^(e-3)
+ *
+ * Lo escribe un solo hilo; leerlo desde otro da valores aproximados
+ * (suficiente para un panel en pantalla o un volcado).
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS    = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;  // cubos por potencia de dos
+    private static final int MAX_EXP     = 41;             // hasta ~2^42 ns (más de una hora)
+    static final int BUCKETS = SUB_BUCKETS + (MAX_EXP - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /** Registra una duración (los negativos cuentan como 0) */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts[bucketOf(nanos)]++;
+        count++;
+        sum += nanos;
+        if (nanos < min) min = nanos;
+        if (nanos > max) max = nanos;
+    }
+
+    static int bucketOf(long v) {
+        if (v < SUB_BUCKETS) return (int) v;
+        int e = 63 - Long.numberOfLeadingZeros(v);
+        if (e > MAX_EXP) return BUCKETS - 1;
+        int sub = (int) (v >>> (e - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (e - SUB_BITS) * SUB_BUCKETS + sub;
+    }
+
+    /** Mayor valor que cae en el cubo (cota superior de lo que representa) */
+    static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int e   = (bucket - SUB_BUCKETS) / SUB_BUCKETS + SUB_BITS;
+        int sub = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        long width = 1L << (e - SUB_BITS);
+        return ((long) (SUB_BUCKETS + sub) << (e - SUB_BITS)) + width - 1;
+    }
+
+    /**
+     * Percentil aproximado por arriba (nunca mayor que el máximo real).
+     * @param p entre 0 y 1 (0.99 = p99)
+     */
+    public long percentile(double p) {
+        if (count == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(p * count));
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += counts[b];
+            if (seen >= target) return Math.min(bucketUpperBound(b), max);
+        }
+        return max;
+    }
+
+    /** Número de valores mayores que el umbral (contando cubos enteros por encima) */
+    public long countAbove(long thresholdNanos) {
+        long n = 0;
+        for (int b = bucketOf(thresholdNanos) + 1; b < BUCKETS; b++) n += counts[b];
+        return n;
+    }
+
+    public void reset() {
+        java.util.Arrays.fill(counts, 0);
+        count = 0;
+        sum   = 0;
+        min   = Long.MAX_VALUE;
+        max   = 0;
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public long getCount() { return count; }
+    public long getMax()   { return max; }
+    public long getMin()   { return (count == 0) ? 0 : min; }
+    public long getMean()  { return (count == 0) ? 0 : sum / count; }
+}
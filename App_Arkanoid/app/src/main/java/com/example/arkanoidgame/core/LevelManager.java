@@ -0,0 +1,187 @@
+package com.example.arkanoidgame.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LevelManager — Progresión de niveles y acceso a sus layouts.
+ *
+ * Los niveles salen de un LevelSource: los cinco de serie o un
+ * LevelPack con miles de niveles. Solo se decodifican los que se usan,
+ * y se guardan en una caché LRU pequeña (por defecto el actual y el
+ * siguiente); el resto del paquete no ocupa memoria.
+ *
+ * La caché admite lecturas desde otro hilo (populate con índice), para
+ * que el siguiente nivel se prepare en segundo plano mientras se juega.
+ */
+public class LevelManager {
+
+    // Cada nivel es una matriz de enteros:
+    // 0 = sin bloque
+    // 1 = bloque azul    (1 punto)
+    // 2 = bloque verde   (1 punto)
+    // 3 = bloque amarillo(2 puntos)
+    // 4 = bloque naranja (2 puntos)
+    // 5 = bloque rojo    (3 puntos, 2 golpes)
+    // 9 = bloque acero   (indestructible)
+
+    private static final int[][][] LEVELS = {
+
+            // ── NIVEL 1: Clásico ────────────────────────────────────────
+            {
+                    { 1, 1, 1, 1, 1, 1, 1, 1 },
+                    { 2, 2, 2, 2, 2, 2, 2, 2 },
+                    { 3, 3, 3, 3, 3, 3, 3, 3 },
+                    { 4, 4, 4, 4, 4, 4, 4, 4 },
+                    { 5, 5, 5, 5, 5, 5, 5, 5 },
+            },
+
+            // ── NIVEL 2: Pirámide ────────────────────────────────────────
+            {
+                    { 0, 0, 0, 5, 5, 0, 0, 0 },
+                    { 0, 0, 4, 4, 4, 4, 0, 0 },
+                    { 0, 3, 3, 3, 3, 3, 3, 0 },
+                    { 2, 2, 2, 2, 2, 2, 2, 2 },
+                    { 1, 1, 1, 1, 1, 1, 1, 1 },
+            },
+
+            // ── NIVEL 3: Fortaleza de acero ──────────────────────────────
+            {
+                    { 9, 1, 1, 1, 1, 1, 1, 9 },
+                    { 1, 9, 3, 3, 3, 3, 9, 1 },
+                    { 1, 3, 9, 5, 5, 9, 3, 1 },
+                    { 1, 3, 9, 5, 5, 9, 3, 1 },
+                    { 9, 1, 1, 1, 1, 1, 1, 9 },
+            },
+
+            // ── NIVEL 4: Tablero de ajedrez ──────────────────────────────
+            {
+                    { 5, 0, 5, 0, 5, 0, 5, 0 },
+                    { 0, 4, 0, 4, 0, 4, 0, 4 },
+                    { 3, 0, 9, 0, 9, 0, 3, 0 },
+                    { 0, 2, 0, 4, 0, 4, 0, 2 },
+                    { 1, 0, 1, 0, 1, 0, 1, 0 },
+            },
+
+            // ── NIVEL 5: Caos total ──────────────────────────────────────
+            {
+                    { 9, 5, 9, 5, 9, 5, 9, 5 },
+                    { 5, 4, 4, 4, 4, 4, 4, 9 },
+                    { 9, 4, 9, 3, 3, 9, 4, 5 },
+                    { 5, 4, 3, 9, 9, 3, 4, 9 },
+                    { 9, 5, 9, 5, 9, 5, 9, 5 },
+            },
+    };
+
+    /** Los niveles de serie, compilados en la app */
+    public static final LevelSource BUILTIN = new LevelSource() {
+        @Override public int getLevelCount()         { return LEVELS.length; }
+        @Override public int[][] loadLayout(int index) { return LEVELS[index]; }
+    };
+
+    public static final int DEFAULT_CACHE_SIZE = 2; // nivel actual + siguiente
+
+    private final LevelSource source;
+    private final int cacheSize;
+    // Layouts decodificados, del menos al más recientemente usado
+    private final Map<Integer, int[][]> cache;
+    private long decodes = 0;
+
+    private int currentLevel = 0;
+
+    public LevelManager() {
+        this(BUILTIN);
+    }
+
+    public LevelManager(LevelSource source) {
+        this(source, DEFAULT_CACHE_SIZE);
+    }
+
+    public LevelManager(LevelSource source, int cacheSize) {
+        if (source.getLevelCount() == 0) throw new IllegalArgumentException("sin niveles");
+        if (cacheSize < 1) throw new IllegalArgumentException("la caché necesita al menos un hueco");
+        this.source    = source;
+        this.cacheSize = cacheSize;
+        this.cache = new LinkedHashMap<Integer, int[][]>(cacheSize + 1, 1f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<Integer, int[][]> eldest) {
+                return size() > LevelManager.this.cacheSize;
+            }
+        };
+    }
+
+    public int[][] getCurrentLayout() {
+        return getLayout(currentLevel);
+    }
+
+    /** Layout de un nivel (índice desde 0), decodificándolo si no está en la caché */
+    synchronized int[][] getLayout(int index) {
+        int[][] layout = cache.get(index);
+        if (layout == null) {
+            layout = source.loadLayout(index);
+            decodes++;
+            cache.put(index, layout);
+        }
+        return layout;
+    }
+
+    /**
+     * Vuelca el nivel actual en el almacenamiento de bloques
+     * (tipos, vida y bits de vivo). La posición la fija quien llama con place().
+     */
+    public void populate(BlockField field) {
+        fill(field, getCurrentLayout());
+    }
+
+    /** Vuelca un nivel cualquiera (índice desde 0); se puede llamar desde otro hilo */
+    public void populate(BlockField field, int index) {
+        fill(field, getLayout(index));
+    }
+
+    private static void fill(BlockField field, int[][] layout) {
+        int rows = layout.length;
+        int cols = layout[0].length;
+        field.reset(rows, cols);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                field.setType(r * cols + c, layout[r][c]);
+            }
+        }
+    }
+
+    public void nextLevel() {
+        currentLevel++;
+        if (currentLevel >= source.getLevelCount()) {
+            currentLevel = 0; // vuelve al nivel 1 si completa todos
+        }
+    }
+
+    /** Salta a un nivel concreto (empezando por 1) */
+    public void setCurrentLevelNumber(int levelNumber) {
+        if (levelNumber < 1 || levelNumber > source.getLevelCount()) {
+            throw new IllegalArgumentException("nivel fuera de rango: " + levelNumber);
+        }
+        currentLevel = levelNumber - 1;
+    }
+
+    public int getCurrentLevelNumber() {
+        return currentLevel + 1; // mostrar al usuario empezando por 1
+    }
+
+    public int getTotalLevels() {
+        return source.getLevelCount();
+    }
+
+    public boolean isLastLevel() {
+        return currentLevel == source.getLevelCount() - 1;
+    }
+
+    public void reset() {
+        currentLevel = 0;
+    }
+
+    public LevelSource getSource()  { return source; }
+    /** Niveles decodificados desde el principio (los aciertos de la caché no cuentan) */
+    public synchronized long getDecodeCount()    { return decodes; }
+    /** Niveles decodificados que hay ahora en memoria */
+    public synchronized int getCachedLevelCount() { return cache.size(); }
+}
@@ -0,0 +1,177 @@
+package com.example.arkanoidgame.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * LevelPack — Paquete binario compacto de niveles con índice.
+ *
+ * Formato (big-endian):
+ *
+ *   cabecera   "ARKP" | u16 versión (1) | u16 reservado | i32 número de niveles
+ *   índice     i32 posición de cada nivel, desde el inicio del fichero
+ *   nivel      u8 filas | u8 columnas | celdas, 4 bits cada una (la
+ *              primera en el nibble alto), ceil(filas × columnas / 2) bytes
+ *
+ * Un nivel de 8×5 ocupa 22 bytes más 4 del índice. Abrir el paquete
+ * valida la cabecera, el índice y la forma de cada nivel (filas, columnas
+ * y que sus celdas quepan en el paquete), así que un paquete dañado se
+ * rechaza con IOException al abrirlo y no a mitad de partida; las celdas
+ * se decodifican al pedir el nivel con loadLayout(), leyendo directamente
+ * su posición. El buffer
+ * puede ser un fichero proyectado en memoria (map) o bytes leídos de un
+ * stream (read). Solo se usan lecturas absolutas, así que varios hilos
+ * pueden decodificar a la vez.
+ *
+ * Los niveles de más de LevelSource.MAX_ROWS filas o MAX_COLS columnas no
+ * caben en la zona del muro: write() no los escribe y el paquete que los
+ * trae no se abre.
+ */
+public final class LevelPack implements LevelSource {
+
+    private static final int MAGIC       = 0x41524B50; // "ARKP"
+    private static final int VERSION     = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final int MAX_TYPE    = 15;         // lo que cabe en 4 bits
+
+    private final ByteBuffer data;
+    private final int levelCount;
+
+    private LevelPack(ByteBuffer data) throws IOException {
+        this.data = data;
+        if (data.limit() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+            throw new IOException("no es un paquete de niveles");
+        }
+        int version = data.getShort(4) & 0xFFFF;
+        if (version != VERSION) throw new IOException("versión de paquete no soportada: " + version);
+        levelCount = data.getInt(8);
+        if (levelCount < 0 || HEADER_SIZE + 4L * levelCount > data.limit()) {
+            throw new IOException("índice de niveles truncado");
+        }
+        for (int i = 0; i < levelCount; i++) {
+            int offset = data.getInt(HEADER_SIZE + 4 * i);
+            if (offset < HEADER_SIZE || offset + 2 > data.limit()) {
+                throw new IOException("nivel " + (i + 1) + " fuera del paquete");
+            }
+            int rows = data.get(offset) & 0xFF;
+            int cols = data.get(offset + 1) & 0xFF;
+            if (rows == 0 || cols == 0) throw new IOException("nivel " + (i + 1) + " vacío");
+            if (rows > MAX_ROWS) {
+                throw new IOException("nivel " + (i + 1) + " con " + rows + " filas (máximo " + MAX_ROWS + ")");
+            }
+            if (cols > MAX_COLS) {
+                throw new IOException("nivel " + (i + 1) + " con " + cols + " columnas (máximo " + MAX_COLS + ")");
+            }
+            if ((long) offset + 2 + packedSize(rows, cols) > data.limit()) {
+                throw new IOException("nivel " + (i + 1) + " truncado");
+            }
+        }
+    }
+
+    /** Envuelve un buffer ya cargado (se lee desde la posición 0) */
+    public static LevelPack wrap(ByteBuffer data) throws IOException {
+        return new LevelPack(data.duplicate());
+    }
+
+    /** Proyecta el fichero en memoria: solo se leen las páginas de los niveles que se piden */
+    public static LevelPack map(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            // La proyección sigue siendo válida después de cerrar el canal
+            return new LevelPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /** Lee el paquete de un stream (p. ej. un asset comprimido, que no se puede proyectar) */
+    public static LevelPack read(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int n;
+        while ((n = in.read(chunk)) > 0) bytes.write(chunk, 0, n);
+        return new LevelPack(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    @Override
+    public int getLevelCount() {
+        return levelCount;
+    }
+
+    @Override
+    public int[][] loadLayout(int index) {
+        if (index < 0 || index >= levelCount) {
+            throw new IndexOutOfBoundsException("nivel " + index + " de " + levelCount);
+        }
+        int pos  = data.getInt(HEADER_SIZE + 4 * index); // forma ya validada al abrir
+        int rows = data.get(pos) & 0xFF;
+        int cols = data.get(pos + 1) & 0xFF;
+        int[][] layout = new int[rows][cols];
+        int cell = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++, cell++) {
+                int b = data.get(pos + 2 + (cell >> 1));
+                layout[r][c] = ((cell & 1) == 0) ? (b >> 4) & 0xF : b & 0xF;
+            }
+        }
+        return layout;
+    }
+
+    private static int packedSize(int rows, int cols) {
+        return (rows * cols + 1) / 2;
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // ESCRITURA (herramientas y tests)
+    // ════════════════════════════════════════════════════════════════════
+
+    /** Escribe un paquete con los layouts dados (hasta MAX_ROWS × MAX_COLS celdas, tipos 0..15) */
+    public static void write(OutputStream out, int[][]... layouts) throws IOException {
+        DataOutputStream dos = new DataOutputStream(out);
+        dos.writeInt(MAGIC);
+        dos.writeShort(VERSION);
+        dos.writeShort(0);
+        dos.writeInt(layouts.length);
+
+        int offset = HEADER_SIZE + 4 * layouts.length;
+        for (int[][] layout : layouts) {
+            dos.writeInt(offset);
+            offset += 2 + packedSize(layout.length, checkShape(layout));
+        }
+        for (int[][] layout : layouts) {
+            int rows = layout.length, cols = layout[0].length;
+            dos.writeByte(rows);
+            dos.writeByte(cols);
+            int pending = -1; // nibble alto a la espera de su pareja
+            for (int[] row : layout) {
+                for (int type : row) {
+                    if (type < 0 || type > MAX_TYPE) throw new IllegalArgumentException("tipo de bloque fuera de rango: " + type);
+                    if (pending < 0) {
+                        pending = type;
+                    } else {
+                        dos.writeByte((pending << 4) | type);
+                        pending = -1;
+                    }
+                }
+            }
+            if (pending >= 0) dos.writeByte(pending << 4);
+        }
+        dos.flush();
+    }
+
+    /** Columnas del layout, comprobando que es rectangular y cabe en el formato */
+    private static int checkShape(int[][] layout) {
+        if (layout.length == 0 || layout.length > MAX_ROWS) throw new IllegalArgumentException("filas fuera de rango: " + layout.length);
+        int cols = layout[0].length;
+        if (cols == 0 || cols > MAX_COLS) throw new IllegalArgumentException("columnas fuera de rango: " + cols);
+        for (int[] row : layout) {
+            if (row.length != cols) throw new IllegalArgumentException("layout no rectangular");
+        }
+        return cols;
+    }
+}
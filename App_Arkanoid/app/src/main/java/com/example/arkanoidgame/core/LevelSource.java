@@ -0,0 +1,33 @@
+package com.example.arkanoidgame.core;
+
+/**
+ * LevelSource — De dónde saca LevelManager los niveles: los de serie
+ * (compilados en la app) o un LevelPack leído de fichero.
+ *
+ * Los layouts son matrices de tipos de bloque (ver LevelManager);
+ * las filas y columnas pueden cambiar de un nivel a otro.
+ */
+public interface LevelSource {
+
+    /**
+     * Filas que caben en la zona del muro: GameWorld encoge los bloques
+     * para que el muro acabe por encima de la pelota, y con más filas
+     * quedarían demasiado finos para jugar.
+     */
+    int MAX_ROWS = 24;
+
+    /**
+     * Columnas que caben a lo ancho incluso en una pantalla estrecha
+     * (240 px dejan bloques de 7 px); el formato admitiría hasta 255.
+     */
+    int MAX_COLS = 32;
+
+    int getLevelCount();
+
+    /**
+     * Decodifica un nivel.
+     * @param index empezando por 0
+     * @return matriz nueva (o inmutable) de tipos, [fila][columna]
+     */
+    int[][] loadLayout(int index);
+}
@@ -0,0 +1,60 @@
+package com.example.arkanoidgame.core;
+
+public class Paddle {
+
+    private float x, y;
+    private float prevX;      // posición al inicio del último paso (para interpolar)
+    private float targetX;    // posición pedida por el toque, se aplica en update()
+    private int width, height;
+    private int screenW;
+    private final Aabb bounds = new Aabb(); // límites actuales, actualizados en sitio
+
+    public Paddle(float x, float y, int width, int height, int screenW) {
+        this.x      = x;
+        this.y      = y;
+        this.prevX  = x;
+        this.targetX = x;
+        this.width  = width;
+        this.height = height;
+        this.screenW = screenW;
+        bounds.set(x, y, x + width, y + height);
+    }
+
+    /**
+     * Pide mover la paleta a la posición X dada,
+     * restringida dentro de los límites de la pantalla.
+     * El movimiento se aplica en el siguiente paso de física.
+     */
+    public void moveTo(float newX) {
+        targetX = Math.max(0, Math.min(newX, screenW - width));
+    }
+
+    /** Aplica el movimiento pendiente; se llama una vez por paso de física */
+    public void update() {
+        prevX = x;
+        if (x != targetX) {
+            x = targetX;
+            bounds.set(x, y, x + width, y + height);
+        }
+    }
+
+    /** Coloca la paleta directamente en x, sin esperar al siguiente paso (ver SaveState) */
+    void restore(float x) {
+        this.x  = x;
+        prevX   = x;
+        targetX = x;
+        bounds.set(x, y, x + width, y + height);
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    /** Caja delimitadora de la paleta (siempre la misma instancia, no modificar) */
+    public Aabb getBounds() {
+        return bounds;
+    }
+
+    public float getX()      { return x; }
+    public float getY()      { return y; }
+    public float getPrevX()  { return prevX; }
+    public int   getWidth()  { return width; }
+    public int   getHeight() { return height; }
+}
@@ -0,0 +1,137 @@
+package com.example.arkanoidgame.core;
+
+/**
+ * PcmMixer — Mezclador de voces sobre un SoundBank, de tamaño fijo y sin
+ * reservas de memoria: lo que necesita (voces y acumulador) se crea en
+ * el constructor.
+ *
+ *   int voice = mixer.start(BLOCK_BREAK, 0.9f);
+ *   mixer.mix(block, 0, block.length);   // → AudioTrack.write(block, ...)
+ *
+ * Cada voz es una posición dentro de una muestra y una ganancia en punto
+ * fijo (1.0 = 4096). mix() suma las voces en un acumulador de int y
+ * satura a 16 bits al final, así que varias voces fuertes a la vez se
+ * recortan en lugar de dar la vuelta. Una voz que llega al final de su
+ * muestra queda libre; si no hay voz libre, start() corta la más antigua
+ * (quien decide qué sonido merece una voz es SoundQueue).
+ *
+ * No es thread-safe: start(), stop() y mix() se llaman desde el mismo
+ * hilo (el de audio, que intercala despachar sonidos y escribir bloques).
+ */
+public final class PcmMixer {
+
+    private static final int GAIN_ONE = 4096; // ganancia 1.0 en punto fijo (12 bits)
+    public static final int MAX_VOICES = 15;  // más voces a tope desbordarían el acumulador de int
+
+    private final SoundBank bank;
+    private final int maxFrames;
+    private final int[] accumulator;
+
+    // ─── Voces (structure of arrays) ────────────────────────────────────
+    private final int[] voiceHandle;  // 0 = libre
+    private final int[] voiceSample;
+    private final int[] voicePos;
+    private final int[] voiceGain;
+    private int nextHandle = 1;
+    private long mixedFrames = 0;
+    private long clippedSamples = 0;
+
+    /**
+     * @param voices    voces a la vez
+     * @param maxFrames frames máximos por llamada a mix()
+     */
+    public PcmMixer(SoundBank bank, int voices, int maxFrames) {
+        if (voices <= 0 || voices > MAX_VOICES) throw new IllegalArgumentException("entre 1 y " + MAX_VOICES + " voces");
+        if (maxFrames <= 0) throw new IllegalArgumentException("frames debe ser positivo");
+        this.bank      = bank;
+        this.maxFrames = maxFrames;
+        accumulator = new int[maxFrames];
+        voiceHandle = new int[voices];
+        voiceSample = new int[voices];
+        voicePos    = new int[voices];
+        voiceGain   = new int[voices];
+    }
+
+    /**
+     * Empieza a sonar una muestra.
+     * @return identificador de la voz (distinto de 0), o 0 si la muestra está vacía
+     */
+    public int start(int sample, float volume) {
+        if (bank.getSample(sample).length == 0) return 0; // no se pudo decodificar
+        int voice = -1;
+        for (int v = 0; v < voiceHandle.length; v++) {
+            if (voiceHandle[v] == 0) {
+                voice = v;
+                break;
+            }
+            // Sin hueco: la más avanzada en su muestra es la que antes iba a acabar
+            if (voice < 0 || voicePos[v] > voicePos[voice]) voice = v;
+        }
+        int handle = nextHandle++;
+        if (nextHandle == 0) nextHandle = 1; // 0 queda reservado para "libre"
+        voiceHandle[voice] = handle;
+        voiceSample[voice] = sample;
+        voicePos[voice]    = 0;
+        voiceGain[voice]   = Math.round(Math.max(0f, Math.min(volume, 1f)) * GAIN_ONE);
+        return handle;
+    }
+
+    /** Corta una voz (si ya terminó, no hace nada) */
+    public void stop(int handle) {
+        if (handle == 0) return;
+        for (int v = 0; v < voiceHandle.length; v++) {
+            if (voiceHandle[v] == handle) voiceHandle[v] = 0;
+        }
+    }
+
+    /** Corta todas las voces */
+    public void stopAll() {
+        java.util.Arrays.fill(voiceHandle, 0);
+    }
+
+    /**
+     * Mezcla el siguiente bloque en out[offset, offset + frames).
+     * @return voces que han sonado en el bloque
+     */
+    public int mix(short[] out, int offset, int frames) {
+        if (frames > maxFrames) throw new IllegalArgumentException("bloque mayor que " + maxFrames + " frames");
+        int[] acc = accumulator;
+        java.util.Arrays.fill(acc, 0, frames, 0);
+        int active = 0;
+        for (int v = 0; v < voiceHandle.length; v++) {
+            if (voiceHandle[v] == 0) continue;
+            short[] pcm = bank.getSample(voiceSample[v]);
+            int pos  = voicePos[v];
+            int n    = Math.min(frames, pcm.length - pos);
+            int gain = voiceGain[v];
+            for (int i = 0; i < n; i++) acc[i] += pcm[pos + i] * gain;
+            pos += n;
+            if (pos >= pcm.length) voiceHandle[v] = 0; // terminada: voz libre
+            else voicePos[v] = pos;
+            active++;
+        }
+        for (int i = 0; i < frames; i++) {
+            int s = acc[i] >> 12; // deshace la ganancia en punto fijo
+            if (s > Short.MAX_VALUE)      { s = Short.MAX_VALUE; clippedSamples++; }
+            else if (s < Short.MIN_VALUE) { s = Short.MIN_VALUE; clippedSamples++; }
+            out[offset + i] = (short) s;
+        }
+        mixedFrames += frames;
+        return active;
+    }
+
+    /** Voces sonando ahora */
+    public int activeVoices() {
+        int n = 0;
+        for (int h : voiceHandle) if (h != 0) n++;
+        return n;
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public SoundBank getBank()         { return bank; }
+    public int getVoiceCount()         { return voiceHandle.length; }
+    public int getMaxFrames()          { return maxFrames; }
+    public long getMixedFrames()       { return mixedFrames; }
+    /** Muestras de salida recortadas a 16 bits */
+    public long getClippedSamples()    { return clippedSamples; }
+}
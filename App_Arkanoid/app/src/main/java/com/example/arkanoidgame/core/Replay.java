@@ -0,0 +1,177 @@
+package com.example.arkanoidgame.core;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Replay — Partida grabada: semilla, entrada por paso y sumas de control.
+ *
+ * La simulación es determinista (pasos fijos, sin azar ni relojes), así
+ * que basta con la entrada de cada paso para repetir una partida entera.
+ * Formato (big-endian):
+ *
+ *   cabecera  "ARKR" | u16 versión (2) | u16 pasos entre sumas de control
+ *             | i64 semilla | i32 ancho | i32 alto | f32 segundos por paso
+ *             | i32 niveles del paquete | i32 pasos | i32 bytes de entrada
+ *             | i32 sumas de control | u16 bytes del estado inicial
+ *   estado    SaveState del mundo al empezar a grabar
+ *   entrada   un evento por paso con toque o movimiento (los pasos sin
+ *             entrada no ocupan nada):
+ *               varint (pasos desde el evento anterior << 2 | mover << 1 | toque)
+ *               si mover: varint zigzag (x − x anterior), en 1/16 de píxel
+ *   sumas     i32 checksum(mundo) tras cada bloque de pasos
+ *
+ * Mover el dedo cuesta unos 2-3 bytes por paso; una partida de diez
+ * minutos ocupa del orden de 100 KB. Como el estado inicial va dentro,
+ * se puede grabar desde una partida recuperada o a medias. La semilla
+ * no la usa la simulación: es la de los elementos decorativos
+ * (estrellas), para que la repetición también se vea igual.
+ */
+public final class Replay {
+
+    private static final int MAGIC   = 0x41524B52; // "ARKR"
+    private static final int VERSION = 2; // 2: estado inicial en lugar del nivel inicial
+
+    /** Resolución de la posición del dedo: 1/16 de píxel */
+    public static final int X_SCALE = 16;
+
+    final long seed;
+    final int screenWidth, screenHeight;
+    final float stepSeconds;
+    final SaveState initialState;
+    final int levelCount;
+    final int checksumInterval;
+    final int frameCount;
+    final byte[] input;       // eventos codificados
+    final int inputLength;
+    final int[] checksums;
+    final int checksumCount;
+
+    Replay(long seed, int screenWidth, int screenHeight, float stepSeconds,
+           SaveState initialState, int levelCount, int checksumInterval, int frameCount,
+           byte[] input, int inputLength, int[] checksums, int checksumCount) {
+        this.seed             = seed;
+        this.screenWidth      = screenWidth;
+        this.screenHeight     = screenHeight;
+        this.stepSeconds      = stepSeconds;
+        this.initialState     = initialState;
+        this.levelCount       = levelCount;
+        this.checksumInterval = checksumInterval;
+        this.frameCount       = frameCount;
+        this.input            = input;
+        this.inputLength      = inputLength;
+        this.checksums        = checksums;
+        this.checksumCount    = checksumCount;
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // FICHERO
+    // ════════════════════════════════════════════════════════════════════
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream dos = new DataOutputStream(out);
+        dos.writeInt(MAGIC);
+        dos.writeShort(VERSION);
+        dos.writeShort(checksumInterval);
+        dos.writeLong(seed);
+        dos.writeInt(screenWidth);
+        dos.writeInt(screenHeight);
+        dos.writeFloat(stepSeconds);
+        dos.writeInt(levelCount);
+        dos.writeInt(frameCount);
+        dos.writeInt(inputLength);
+        dos.writeInt(checksumCount);
+        byte[] state = initialState.bytes();
+        dos.writeShort(state.length);
+        dos.write(state);
+        dos.write(input, 0, inputLength);
+        for (int i = 0; i < checksumCount; i++) dos.writeInt(checksums[i]);
+        dos.flush();
+    }
+
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream dis = new DataInputStream(in);
+        if (dis.readInt() != MAGIC) throw new IOException("no es una repetición");
+        int version = dis.readUnsignedShort();
+        if (version != VERSION) throw new IOException("versión de repetición no soportada: " + version);
+        int interval     = dis.readUnsignedShort();
+        long seed        = dis.readLong();
+        int width        = dis.readInt();
+        int height       = dis.readInt();
+        float step       = dis.readFloat();
+        int levelCount   = dis.readInt();
+        int frames       = dis.readInt();
+        int inputLength  = dis.readInt();
+        int sumCount     = dis.readInt();
+        if (interval == 0 || width <= 0 || height <= 0 || !(step > 0)
+                || frames < 0 || inputLength < 0 || sumCount < 0 || sumCount > frames / interval) {
+            throw new IOException("cabecera de repetición corrupta");
+        }
+        byte[] state = new byte[dis.readUnsignedShort()];
+        dis.readFully(state);
+        SaveState initialState = SaveState.decode(state);
+        byte[] input = new byte[inputLength];
+        dis.readFully(input);
+        int[] sums = new int[sumCount];
+        for (int i = 0; i < sumCount; i++) sums[i] = dis.readInt();
+        return new Replay(seed, width, height, step, initialState, levelCount, interval, frames,
+                input, inputLength, sums, sumCount);
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // SUMA DE CONTROL DEL ESTADO
+    // ════════════════════════════════════════════════════════════════════
+
+    /**
+     * Resumen del estado que decide la partida: estado, puntos, vidas,
+     * nivel, pelota (posición, velocidad y rapidez), paleta y bloques.
+     * Cualquier diferencia en la física acaba cambiándolo.
+     */
+    public static int checksum(GameWorld world) {
+        int h = 0x811C9DC5; // FNV-1a, de 32 en 32 bits
+        h = mix(h, world.getState().ordinal());
+        h = mix(h, world.getScore());
+        h = mix(h, world.getLives());
+        h = mix(h, world.getLevelManager().getCurrentLevelNumber());
+        Ball ball = world.getBall();
+        h = mix(h, Float.floatToIntBits(ball.getCenterX()));
+        h = mix(h, Float.floatToIntBits(ball.getY()));
+        h = mix(h, Float.floatToIntBits(ball.getVx()));
+        h = mix(h, Float.floatToIntBits(ball.getVy()));
+        h = mix(h, Float.floatToIntBits(ball.getSpeed()));
+        h = mix(h, Float.floatToIntBits(world.getPaddle().getX()));
+        BlockField blocks = world.getBlocks();
+        for (int i = 0; i < blocks.size(); i++) {
+            h = mix(h, blocks.isAlive(i) ? blocks.getHp(i) + 1 : 0);
+        }
+        return h;
+    }
+
+    private static int mix(int h, int value) {
+        return (h ^ value) * 0x01000193;
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // VARINTS
+    // ════════════════════════════════════════════════════════════════════
+
+    static int zigzag(int v)   { return (v << 1) ^ (v >> 31); }
+    static int unzigzag(int v) { return (v >>> 1) ^ -(v & 1); }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public long getSeed()            { return seed; }
+    public int getScreenWidth()      { return screenWidth; }
+    public int getScreenHeight()     { return screenHeight; }
+    public float getStepSeconds()    { return stepSeconds; }
+    public int getStartLevel()       { return initialState.getLevelNumber(); }
+    public SaveState getInitialState() { return initialState; }
+    public int getLevelCount()       { return levelCount; }
+    public int getChecksumInterval() { return checksumInterval; }
+    public int getFrameCount()       { return frameCount; }
+    public int getChecksumCount()    { return checksumCount; }
+    /** Bytes de entrada codificada (sin cabecera ni sumas de control) */
+    public int getInputBytes()       { return inputLength; }
+}
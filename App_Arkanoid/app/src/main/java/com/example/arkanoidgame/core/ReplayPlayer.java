@@ -0,0 +1,127 @@
+package com.example.arkanoidgame.core;
+
+/**
+ * ReplayPlayer — Repite una partida grabada sin pantalla, tan rápido como
+ * dé la CPU, comprobando las sumas de control por el camino.
+ *
+ *   ReplayPlayer player = new ReplayPlayer(replay, new LevelManager(pack));
+ *   ReplayPlayer.Result r = player.run();
+ *   if (!r.matched()) ... // la física diverge a partir de r.firstMismatchFrame
+ *
+ * Sirve para reproducir un fallo exactamente (parar en el paso que
+ * interese con runTo() e inspeccionar getWorld()) y como carga de
+ * trabajo fija para medir el rendimiento de la simulación. Los niveles
+ * deben ser los mismos con que se grabó.
+ */
+public final class ReplayPlayer {
+
+    /** Resultado de una repetición */
+    public static final class Result {
+        public final int frames;               // pasos ejecutados
+        public final int checksumsVerified;    // sumas de control que coincidieron
+        public final int firstMismatchFrame;   // primer paso con suma distinta (-1 si ninguno)
+        public final long elapsedNanos;
+
+        Result(int frames, int checksumsVerified, int firstMismatchFrame, long elapsedNanos) {
+            this.frames             = frames;
+            this.checksumsVerified  = checksumsVerified;
+            this.firstMismatchFrame = firstMismatchFrame;
+            this.elapsedNanos       = elapsedNanos;
+        }
+
+        public boolean matched() { return firstMismatchFrame < 0; }
+
+        /** Pasos simulados por segundo de CPU */
+        public double stepsPerSecond() {
+            return (elapsedNanos == 0) ? 0 : frames * 1e9 / elapsedNanos;
+        }
+    }
+
+    private final Replay replay;
+    private final GameWorld world;
+    private final Input input = new Input();
+
+    private int frame = 0;         // pasos ya ejecutados
+    private int pos = 0;           // posición de lectura en la entrada
+    private int nextEventFrame;    // paso del siguiente evento (MAX_VALUE si no quedan)
+    private int nextEventFlags;
+    private int x = 0;             // posición del dedo en 1/16 px
+    private int checksumsVerified = 0;
+    private int firstMismatchFrame = -1;
+
+    public ReplayPlayer(Replay replay, LevelManager levels) {
+        if (levels.getTotalLevels() != replay.levelCount) {
+            throw new IllegalArgumentException("la repetición se grabó con " + replay.levelCount
+                    + " niveles y hay " + levels.getTotalLevels());
+        }
+        this.replay = replay;
+        this.world  = new GameWorld(replay.screenWidth, replay.screenHeight, replay.stepSeconds, levels);
+        replay.initialState.applyTo(world, false);
+        nextEventFrame = 0;
+        readEvent();
+    }
+
+    /** Ejecuta la repetición entera */
+    public Result run() {
+        long start = System.nanoTime();
+        runTo(replay.frameCount);
+        return new Result(frame, checksumsVerified, firstMismatchFrame, System.nanoTime() - start);
+    }
+
+    /** Ejecuta pasos hasta haber completado 'targetFrame' (o el final de la grabación) */
+    public void runTo(int targetFrame) {
+        int end = Math.min(targetFrame, replay.frameCount);
+        while (frame < end) step();
+    }
+
+    private void step() {
+        frame++;
+        input.clear();
+        if (frame == nextEventFrame) {
+            input.tap = (nextEventFlags & 1) != 0;
+            if ((nextEventFlags & 2) != 0) input.moveTo(x / (float) Replay.X_SCALE);
+            readEvent();
+        }
+        world.step(input);
+
+        if (frame % replay.checksumInterval == 0) {
+            int k = frame / replay.checksumInterval - 1;
+            if (k < replay.checksumCount) {
+                if (Replay.checksum(world) == replay.checksums[k]) {
+                    checksumsVerified++;
+                } else if (firstMismatchFrame < 0) {
+                    firstMismatchFrame = frame;
+                }
+            }
+        }
+    }
+
+    /** Decodifica el siguiente evento (y su x, que se acumula ya) */
+    private void readEvent() {
+        if (pos >= replay.inputLength) {
+            nextEventFrame = Integer.MAX_VALUE;
+            return;
+        }
+        int head = readVarint();
+        nextEventFrame += head >>> 2;
+        nextEventFlags = head & 3;
+        if ((head & 2) != 0) x += Replay.unzigzag(readVarint());
+    }
+
+    private int readVarint() {
+        int v = 0, shift = 0, b;
+        do {
+            if (pos >= replay.inputLength) throw new IllegalStateException("entrada de la repetición truncada");
+            b = replay.input[pos++];
+            v |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return v;
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public GameWorld getWorld()          { return world; }
+    public Replay getReplay()            { return replay; }
+    public int getFrame()                { return frame; }
+    public int getFirstMismatchFrame()   { return firstMismatchFrame; }
+}
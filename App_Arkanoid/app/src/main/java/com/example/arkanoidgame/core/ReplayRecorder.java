@@ -0,0 +1,132 @@
+package com.example.arkanoidgame.core;
+
+import java.util.Arrays;
+
+/**
+ * ReplayRecorder — Graba la entrada de cada paso de una partida para
+ * poder repetirla después con ReplayPlayer.
+ *
+ * Uso en el hilo de simulación, alrededor de cada paso:
+ *
+ *   recorder.record(input);   // antes de world.step(input)
+ *   world.step(input);
+ *   recorder.stepped();       // después: suma de control cada N pasos
+ *
+ * record() redondea la posición del dedo a 1/16 de píxel en la propia
+ * entrada, así el juego usa exactamente el valor que se guarda. Al crear
+ * el grabador se guarda el estado del mundo (SaveState) y la repetición
+ * arranca desde ahí: hay que crearlo con la simulación parada. Grabar
+ * no reserva memoria salvo cuando crece el buffer; pasado
+ * MAX_INPUT_BYTES se deja de grabar.
+ *
+ * finish() se puede llamar desde otro hilo mientras se graba: devuelve
+ * una copia de lo grabado hasta el último paso completo.
+ */
+public final class ReplayRecorder {
+
+    public static final int DEFAULT_CHECKSUM_INTERVAL = 60;  // un segundo a 60 Hz
+    public static final int MAX_INPUT_BYTES = 8 << 20;
+
+    private final GameWorld world;
+    private final long seed;
+    private final SaveState initialState;
+    private final int checksumInterval;
+
+    private byte[] input = new byte[1024];
+    private int inputLength = 0;
+    private int[] checksums = new int[64];
+    private int checksumCount = 0;
+
+    private int frames = 0;          // pasos completos grabados
+    private int lastEventFrame = 0;
+    private int lastX = 0;           // última posición del dedo, en 1/16 px
+    private boolean full = false;
+
+    public ReplayRecorder(GameWorld world, long seed) {
+        this(world, seed, DEFAULT_CHECKSUM_INTERVAL);
+    }
+
+    /** @param checksumInterval pasos entre sumas de control (1..65535) */
+    public ReplayRecorder(GameWorld world, long seed, int checksumInterval) {
+        if (checksumInterval < 1 || checksumInterval > 0xFFFF) {
+            throw new IllegalArgumentException("intervalo de sumas de control fuera de rango: " + checksumInterval);
+        }
+        this.world            = world;
+        this.seed             = seed;
+        this.initialState     = SaveState.capture(world);
+        this.checksumInterval = checksumInterval;
+    }
+
+    /** Guarda la entrada del siguiente paso (y redondea su x a la resolución grabada) */
+    public synchronized void record(Input in) {
+        if (in.movePaddle) {
+            in.paddleCenterX = Math.round(in.paddleCenterX * Replay.X_SCALE) / (float) Replay.X_SCALE;
+        }
+        if (full || (!in.tap && !in.movePaddle)) return;
+        if (inputLength + 10 > MAX_INPUT_BYTES) {
+            full = true;
+            return;
+        }
+        int frame = frames + 1; // el paso que va a ejecutarse
+        writeVarint((frame - lastEventFrame) << 2 | (in.movePaddle ? 2 : 0) | (in.tap ? 1 : 0));
+        lastEventFrame = frame;
+        if (in.movePaddle) {
+            int x = Math.round(in.paddleCenterX * Replay.X_SCALE);
+            writeVarint(Replay.zigzag(x - lastX));
+            lastX = x;
+        }
+    }
+
+    /** Cierra el paso recién ejecutado */
+    public synchronized void stepped() {
+        if (full) return;
+        frames++;
+        if (frames % checksumInterval == 0) {
+            if (checksumCount == checksums.length) checksums = Arrays.copyOf(checksums, checksumCount * 2);
+            checksums[checksumCount++] = Replay.checksum(world);
+        }
+    }
+
+    private void writeVarint(int v) {
+        if (inputLength + 5 > input.length) input = Arrays.copyOf(input, input.length * 2);
+        while ((v & ~0x7F) != 0) {
+            input[inputLength++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        input[inputLength++] = (byte) v;
+    }
+
+    /** Repetición con todo lo grabado hasta ahora (se puede seguir grabando) */
+    public synchronized Replay finish() {
+        // Un evento de un paso que aún no ha terminado no entra en la repetición
+        int length = inputLength;
+        if (lastEventFrame > frames) length = lengthBefore(lastEventFrame);
+        return new Replay(seed, world.getScreenWidth(), world.getScreenHeight(), world.getStepSeconds(),
+                initialState, world.getLevelManager().getTotalLevels(), checksumInterval, frames,
+                Arrays.copyOf(input, length), length,
+                Arrays.copyOf(checksums, checksumCount), checksumCount);
+    }
+
+    /** Bytes de los eventos anteriores al paso 'frame' (recorre la entrada desde el principio) */
+    private int lengthBefore(int frame) {
+        int pos = 0, at = 0;
+        while (pos < inputLength) {
+            int start = pos;
+            int head = 0, shift = 0, b;
+            do { b = input[pos++]; head |= (b & 0x7F) << shift; shift += 7; } while (b < 0);
+            at += head >>> 2;
+            if (at >= frame) return start;
+            if ((head & 2) != 0) {
+                do { b = input[pos++]; } while (b < 0);
+            }
+        }
+        return inputLength;
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public synchronized int getFrameCount()  { return frames; }
+    public synchronized int getInputBytes()  { return inputLength; }
+    /** true si se llegó a MAX_INPUT_BYTES y se dejó de grabar */
+    public synchronized boolean isFull()     { return full; }
+    public long getSeed()                    { return seed; }
+}
@@ -0,0 +1,174 @@
+package com.example.arkanoidgame.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * SaveState — Estado completo de una partida en unas decenas de bytes,
+ * para continuarla si Android mata el proceso en segundo plano.
+ *
+ * Formato (big-endian):
+ *
+ *   "ARKS" | u8 versión (1) | u8 estado | u16 nivel (desde 1)
+ *   | i32 puntos | u8 vidas | u16 bloques destruidos en el nivel
+ *   | f32 pelota x, y, vx, vy, rapidez | f32 paleta x
+ *   | u8 filas | u8 columnas | vida de cada bloque, 2 bits (el primero
+ *     en los bits altos), ceil(filas × columnas / 4) bytes
+ *   | i32 CRC32 de todo lo anterior
+ *
+ * El muro no se guarda: sale del nivel, y de cada bloque solo se guarda
+ * la vida que le queda (0 = destruido). Un nivel de 8×5 ocupa 55 bytes.
+ * El CRC descarta ficheros a medio escribir o de otra versión del juego.
+ *
+ * encode() y capture() leen el mundo: hay que llamarlos con la simulación parada.
+ */
+public final class SaveState {
+
+    private static final int MAGIC       = 0x41524B53; // "ARKS"
+    private static final int VERSION     = 1;
+    private static final int HEADER_SIZE = 41;         // hasta filas y columnas incluidas
+    private static final int MAX_HP      = 3;          // lo que cabe en 2 bits
+
+    final int levelNumber;
+    final GameState state;
+    final int score, lives, blocksDestroyed;
+    final float ballX, ballY, ballVx, ballVy, ballSpeed;
+    final float paddleX;
+    final int rows, cols;
+    private final byte[] hp;  // 2 bits por bloque
+    private final byte[] data; // codificado, tal cual se escribe
+
+    private SaveState(byte[] data) {
+        this.data = data;
+        ByteBuffer in = ByteBuffer.wrap(data);
+        in.position(5);
+        state           = GameState.values()[in.get() & 0xFF];
+        levelNumber     = in.getShort() & 0xFFFF;
+        score           = in.getInt();
+        lives           = in.get() & 0xFF;
+        blocksDestroyed = in.getShort() & 0xFFFF;
+        ballX     = in.getFloat();
+        ballY     = in.getFloat();
+        ballVx    = in.getFloat();
+        ballVy    = in.getFloat();
+        ballSpeed = in.getFloat();
+        paddleX   = in.getFloat();
+        rows      = in.get() & 0xFF;
+        cols      = in.get() & 0xFF;
+        hp = new byte[packedSize(rows * cols)];
+        in.get(hp);
+    }
+
+    private static int packedSize(int blocks) {
+        return (blocks + 3) / 4;
+    }
+
+    /** Tamaño en bytes del estado de un nivel de rows × cols */
+    public static int encodedSize(int rows, int cols) {
+        return HEADER_SIZE + packedSize(rows * cols) + 4;
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // ESCRITURA
+    // ════════════════════════════════════════════════════════════════════
+
+    /** Estado actual del mundo (con la simulación parada) */
+    public static SaveState capture(GameWorld world) {
+        return new SaveState(encode(world));
+    }
+
+    /** Codifica el estado actual del mundo (con la simulación parada) */
+    public static byte[] encode(GameWorld world) {
+        BlockField blocks = world.getBlocks();
+        int rows = blocks.getRows(), cols = blocks.getCols();
+        ByteBuffer out = ByteBuffer.allocate(encodedSize(rows, cols));
+        out.putInt(MAGIC);
+        out.put((byte) VERSION);
+        out.put((byte) world.getState().ordinal());
+        out.putShort((short) world.getLevelManager().getCurrentLevelNumber());
+        out.putInt(world.getScore());
+        out.put((byte) Math.max(0, Math.min(world.getLives(), 255)));
+        out.putShort((short) Math.min(world.getBlocksDestroyed(), 0xFFFF));
+        Ball ball = world.getBall();
+        out.putFloat(ball.getCenterX());
+        out.putFloat(ball.getY());
+        out.putFloat(ball.getVx());
+        out.putFloat(ball.getVy());
+        out.putFloat(ball.getSpeed());
+        out.putFloat(world.getPaddle().getX());
+        out.put((byte) rows);
+        out.put((byte) cols);
+
+        int packed = 0;
+        for (int i = 0; i < blocks.size(); i++) {
+            int value = blocks.isAlive(i) ? Math.min(blocks.getHp(i), MAX_HP) : 0;
+            packed = (packed << 2) | value;
+            if ((i & 3) == 3) {
+                out.put((byte) packed);
+                packed = 0;
+            }
+        }
+        int tail = blocks.size() & 3;
+        if (tail != 0) out.put((byte) (packed << (2 * (4 - tail))));
+
+        out.putInt(crc(out.array(), out.position()));
+        return out.array();
+    }
+
+    private static int crc(byte[] data, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, length);
+        return (int) crc.getValue();
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // LECTURA
+    // ════════════════════════════════════════════════════════════════════
+
+    /** Valida y decodifica un estado guardado */
+    public static SaveState decode(byte[] data) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        if (data.length < HEADER_SIZE + 4 || in.getInt(0) != MAGIC) {
+            throw new IOException("no es una partida guardada");
+        }
+        int version = data[4] & 0xFF;
+        if (version != VERSION) throw new IOException("versión de partida guardada no soportada: " + version);
+        int rows = data[HEADER_SIZE - 2] & 0xFF, cols = data[HEADER_SIZE - 1] & 0xFF;
+        if (data.length != encodedSize(rows, cols)) throw new IOException("partida guardada truncada");
+        if (in.getInt(data.length - 4) != crc(data, data.length - 4)) {
+            throw new IOException("partida guardada corrupta");
+        }
+        if ((data[5] & 0xFF) >= GameState.values().length) throw new IOException("estado desconocido");
+        return new SaveState(data);
+    }
+
+    /**
+     * Devuelve el mundo a este estado.
+     * @param waitForTap si es true, una partida que estaba en juego vuelve
+     *                   parada, esperando el toque (al volver a la app)
+     * @throws IllegalArgumentException si el nivel guardado ya no existe o
+     *         ha cambiado de forma; el mundo queda a medio restaurar y
+     *         conviene empezar una partida nueva
+     */
+    public void applyTo(GameWorld world, boolean waitForTap) {
+        GameState restored = (waitForTap && state == GameState.PLAYING) ? GameState.WAITING : state;
+        world.restore(this, restored);
+    }
+
+    /** Vida restante del bloque i (0 = destruido) */
+    int hp(int i) {
+        return (hp[i >> 2] >> (2 * (3 - (i & 3)))) & 3;
+    }
+
+    /** Bytes codificados (no modificar) */
+    byte[] bytes() {
+        return data;
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public int getLevelNumber() { return levelNumber; }
+    public GameState getState() { return state; }
+    public int getScore()       { return score; }
+    public int getLives()       { return lives; }
+}
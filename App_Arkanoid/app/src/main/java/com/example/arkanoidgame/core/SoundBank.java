@@ -0,0 +1,178 @@
+package com.example.arkanoidgame.core;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32;
+
+/**
+ * SoundBank — Efectos de sonido ya decodificados: PCM de 16 bits, mono,
+ * todos a la frecuencia de salida del mezclador.
+ *
+ * Decodificar los .ogg cuesta decenas de milisegundos por muestra; el
+ * banco se guarda en disco y en los arranques siguientes basta con leerlo.
+ * Formato (big-endian salvo el PCM):
+ *
+ *   "ARKA" | u8 versión (1) | u8 muestras | i32 frecuencia | i64 clave
+ *   | i32 frames de cada muestra | PCM de todas, s16 little-endian
+ *   | i32 CRC32 de todo lo anterior
+ *
+ * La clave identifica los ficheros de origen: si no coincide con la
+ * esperada, el banco está anticuado y hay que volver a decodificar. Mono
+ * y sin el silencio final, un efecto corto ocupa unos pocos KB.
+ *
+ * toMono(), resample() y trimSilence() preparan lo que sale del
+ * decodificador antes de meterlo en el banco.
+ */
+public final class SoundBank {
+
+    private static final int MAGIC   = 0x41524B41; // "ARKA"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 18;     // hasta la clave incluida
+
+    private final int sampleRate;
+    private final long sourceKey;
+    private final short[][] samples;
+
+    /** @param samples PCM mono de cada efecto (no se copia) */
+    public SoundBank(int sampleRate, long sourceKey, short[][] samples) {
+        if (sampleRate <= 0) throw new IllegalArgumentException("frecuencia debe ser positiva");
+        if (samples.length > 255) throw new IllegalArgumentException("demasiadas muestras");
+        this.sampleRate = sampleRate;
+        this.sourceKey  = sourceKey;
+        this.samples    = samples;
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // FICHERO
+    // ════════════════════════════════════════════════════════════════════
+
+    public void write(OutputStream out) throws IOException {
+        int pcmBytes = 0;
+        for (short[] s : samples) pcmBytes += 2 * s.length;
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE + 4 * samples.length + pcmBytes + 4);
+        buf.putInt(MAGIC);
+        buf.put((byte) VERSION);
+        buf.put((byte) samples.length);
+        buf.putInt(sampleRate);
+        buf.putLong(sourceKey);
+        for (short[] s : samples) buf.putInt(s.length);
+        buf.order(ByteOrder.LITTLE_ENDIAN); // el orden nativo de los dispositivos: se lee de golpe
+        for (short[] s : samples) {
+            buf.asShortBuffer().put(s);
+            buf.position(buf.position() + 2 * s.length);
+        }
+        buf.order(ByteOrder.BIG_ENDIAN);
+        buf.putInt(crc(buf.array(), buf.position()));
+        out.write(buf.array());
+    }
+
+    /**
+     * Lee y valida un banco guardado.
+     * @throws IOException si está dañado, es de otra versión, o su clave
+     *         o frecuencia no son las esperadas (banco anticuado)
+     */
+    public static SoundBank read(InputStream in, int expectedRate, long expectedKey) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] header = new byte[HEADER_SIZE];
+        data.readFully(header);
+        ByteBuffer h = ByteBuffer.wrap(header);
+        if (h.getInt() != MAGIC) throw new IOException("no es un banco de sonidos");
+        int version = h.get() & 0xFF;
+        if (version != VERSION) throw new IOException("versión de banco no soportada: " + version);
+        int count = h.get() & 0xFF;
+        int rate  = h.getInt();
+        long key  = h.getLong();
+        if (rate != expectedRate || key != expectedKey) throw new IOException("banco de sonidos anticuado");
+
+        byte[] lengths = new byte[4 * count];
+        data.readFully(lengths);
+        int[] frames = new int[count];
+        long pcmBytes = 0;
+        ByteBuffer l = ByteBuffer.wrap(lengths);
+        for (int i = 0; i < count; i++) {
+            frames[i] = l.getInt();
+            if (frames[i] < 0) throw new IOException("longitud de muestra no válida");
+            pcmBytes += 2L * frames[i];
+        }
+        if (pcmBytes > Integer.MAX_VALUE - 64) throw new IOException("banco de sonidos demasiado grande");
+        byte[] pcm = new byte[(int) pcmBytes];
+        data.readFully(pcm);
+        int stored = data.readInt();
+
+        CRC32 crc = new CRC32();
+        crc.update(header);
+        crc.update(lengths);
+        crc.update(pcm);
+        if ((int) crc.getValue() != stored) throw new IOException("banco de sonidos corrupto");
+
+        ByteBuffer p = ByteBuffer.wrap(pcm).order(ByteOrder.LITTLE_ENDIAN);
+        short[][] samples = new short[count][];
+        for (int i = 0; i < count; i++) {
+            samples[i] = new short[frames[i]];
+            p.asShortBuffer().get(samples[i]);
+            p.position(p.position() + 2 * frames[i]);
+        }
+        return new SoundBank(rate, key, samples);
+    }
+
+    private static int crc(byte[] data, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, length);
+        return (int) crc.getValue();
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // PREPARACIÓN DEL PCM
+    // ════════════════════════════════════════════════════════════════════
+
+    /** Mezcla a mono un PCM entrelazado de 'channels' canales */
+    public static short[] toMono(short[] interleaved, int length, int channels) {
+        if (channels <= 1) return java.util.Arrays.copyOf(interleaved, length);
+        short[] mono = new short[length / channels];
+        for (int f = 0, i = 0; f < mono.length; f++) {
+            int sum = 0;
+            for (int c = 0; c < channels; c++) sum += interleaved[i++];
+            mono[f] = (short) (sum / channels);
+        }
+        return mono;
+    }
+
+    /** Cambia la frecuencia de muestreo por interpolación lineal (suficiente para efectos) */
+    public static short[] resample(short[] in, int fromRate, int toRate) {
+        if (fromRate == toRate || in.length == 0) return in;
+        int outLength = (int) ((long) in.length * toRate / fromRate);
+        short[] out = new short[outLength];
+        long step = ((long) fromRate << 16) / toRate; // posición de origen en 16.16
+        long pos = 0;
+        int last = in.length - 1;
+        for (int i = 0; i < outLength; i++, pos += step) {
+            int j = (int) (pos >>> 16);
+            int frac = (int) (pos & 0xFFFF);
+            int a = in[Math.min(j, last)], b = in[Math.min(j + 1, last)];
+            out[i] = (short) (a + (((b - a) * frac) >> 16));
+        }
+        return out;
+    }
+
+    /** Quita la cola por debajo del umbral (las muestras suelen acabar en silencio) */
+    public static short[] trimSilence(short[] in, int threshold) {
+        int end = in.length;
+        while (end > 0 && Math.abs(in[end - 1]) <= threshold) end--;
+        return (end == in.length) ? in : java.util.Arrays.copyOf(in, end);
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public int getSampleRate()        { return sampleRate; }
+    public long getSourceKey()        { return sourceKey; }
+    public int size()                 { return samples.length; }
+    /** PCM de la muestra i (no modificar) */
+    public short[] getSample(int i)   { return samples[i]; }
+    /** Duración de la muestra i en nanosegundos */
+    public long getDurationNanos(int i) {
+        return samples[i].length * 1_000_000_000L / sampleRate;
+    }
+}
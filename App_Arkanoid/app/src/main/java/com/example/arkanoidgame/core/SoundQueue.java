@@ -0,0 +1,247 @@
+package com.example.arkanoidgame.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SoundQueue — Cola de sonidos por paso de simulación, con fusión de
+ * duplicados, prioridades, límite por sonido y robo de voces.
+ *
+ * El hilo de simulación no reproduce nada: durante el paso anota los
+ * sonidos con post() y al terminarlo los publica juntos con endStep().
+ * Cada paso es un lote de bits (un sonido como mucho una vez), así que
+ * romper cinco bloques en un paso es un solo BLOCK_BREAK. Los lotes van
+ * por una cola circular sin bloqueos (como InputQueue) al hilo de audio,
+ * que llama a dispatch():
+ *
+ *   simulación: post(BLOCK_BREAK) … post(BLOCK_BREAK) → endStep()
+ *   audio:      dispatch(ahora, player) → player.play(...)
+ *
+ * dispatch() junta los lotes pendientes (si el hilo de audio se retrasa,
+ * también se fusionan) y los reproduce de mayor a menor prioridad:
+ *
+ *  - Límite por sonido: no se repite antes de su intervalo mínimo.
+ *  - Voces: la cola lleva la cuenta de las voces sonando (cada sonido
+ *    dura lo configurado). Sin voz libre, se corta la de menor prioridad
+ *    (la más antigua si empatan) si es menor que la del sonido nuevo; si
+ *    no, el nuevo se descarta. La robada se corta después de que el nuevo
+ *    empiece a sonar: si el reproductor no puede (muestra sin cargar), la
+ *    voz sigue como estaba. Con un stream más que voces en el reproductor
+ *    (el margen de ese instante), este nunca corta uno por su cuenta.
+ *
+ * Todo se cuenta: publicados, fusionados, limitados, robados, descartados
+ * sin voz y lotes perdidos por cola llena. Sin reservas de memoria tras
+ * construirla.
+ */
+public final class SoundQueue {
+
+    /** Quien reproduce de verdad (SoundPool en Android) */
+    public interface Player {
+        /** @return id del stream, o 0 si no se pudo reproducir */
+        int play(int sound, float volume, int priority);
+        void stop(int streamId);
+    }
+
+    public static final int MAX_SOUNDS = 32;       // un bit por sonido en cada lote
+    public static final int DEFAULT_CAPACITY = 16; // lotes pendientes
+
+    // ─── Configuración de cada sonido (antes de usar la cola) ───────────
+    private final int soundCount;
+    private final int[] priority;
+    private final float[] volume;
+    private final long[] minIntervalNanos;
+    private final long[] durationNanos;
+    private final int[] order;                // sonidos de mayor a menor prioridad
+
+    // ─── Lotes: un productor (simulación), un consumidor (audio) ────────
+    private final int[] batches;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // siguiente a leer (escribe el consumidor)
+    private final AtomicLong tail = new AtomicLong(); // siguiente a escribir (escribe el productor)
+    private int pending;                              // lote en curso (solo productor)
+
+    // ─── Voces sonando (solo consumidor) ────────────────────────────────
+    private final int[] voiceStream;
+    private final int[] voicePriority;
+    private final long[] voiceStart, voiceEnd;
+    private final long[] lastPlayedNanos;
+
+    // ─── Estadísticas (cada una la escribe un solo hilo) ────────────────
+    private volatile long posted = 0, merged = 0, batchesDropped = 0;         // productor
+    private volatile long played = 0, rateLimited = 0, stolen = 0, noVoice = 0; // consumidor
+    private volatile long mergedLate = 0;                                       // consumidor
+
+    /**
+     * @param soundCount número de sonidos distintos (hasta MAX_SOUNDS)
+     * @param maxVoices  voces a la vez (los streams del reproductor)
+     * @param capacity   lotes pendientes; se redondea a potencia de dos
+     */
+    public SoundQueue(int soundCount, int maxVoices, int capacity) {
+        if (soundCount <= 0 || soundCount > MAX_SOUNDS) {
+            throw new IllegalArgumentException("entre 1 y " + MAX_SOUNDS + " sonidos");
+        }
+        if (maxVoices <= 0) throw new IllegalArgumentException("hace falta al menos una voz");
+        if (capacity <= 0) throw new IllegalArgumentException("capacidad debe ser positiva");
+        this.soundCount  = soundCount;
+        priority         = new int[soundCount];
+        volume           = new float[soundCount];
+        minIntervalNanos = new long[soundCount];
+        durationNanos    = new long[soundCount];
+        order            = new int[soundCount];
+        lastPlayedNanos  = new long[soundCount];
+        for (int i = 0; i < soundCount; i++) {
+            volume[i] = 1f;
+            order[i]  = i;
+            lastPlayedNanos[i] = Long.MIN_VALUE / 2; // nunca: sin límite la primera vez
+        }
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        batches = new int[size];
+        mask    = size - 1;
+        voiceStream   = new int[maxVoices];
+        voicePriority = new int[maxVoices];
+        voiceStart    = new long[maxVoices];
+        voiceEnd      = new long[maxVoices];
+    }
+
+    /**
+     * Configura un sonido (antes de arrancar los hilos).
+     * @param prio          mayor = más importante
+     * @param minInterval   tiempo mínimo entre dos reproducciones (0 = sin límite)
+     * @param duration      lo que ocupa una voz al sonar
+     */
+    public void configure(int sound, int prio, float vol, long minInterval, long duration) {
+        priority[sound]         = prio;
+        volume[sound]           = vol;
+        minIntervalNanos[sound] = minInterval;
+        durationNanos[sound]    = duration;
+        // Orden por prioridad, estable (a igual prioridad, el índice menor primero)
+        for (int i = 0; i < soundCount; i++) order[i] = i;
+        for (int i = 1; i < soundCount; i++) {
+            int s = order[i], j = i - 1;
+            while (j >= 0 && priority[order[j]] < priority[s]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = s;
+        }
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // PRODUCTOR (hilo de simulación)
+    // ════════════════════════════════════════════════════════════════════
+
+    /** Anota un sonido en el lote del paso actual */
+    public void post(int sound) {
+        int bit = 1 << sound;
+        if ((pending & bit) != 0) merged++;
+        pending |= bit;
+        posted++;
+    }
+
+    /**
+     * Cierra el lote del paso y lo publica para el hilo de audio.
+     * @return true si había algo que publicar y cabía en la cola
+     */
+    public boolean endStep() {
+        if (pending == 0) return false;
+        int batch = pending;
+        pending = 0;
+        long t = tail.get();
+        if (t - head.get() > mask) {
+            batchesDropped++; // el hilo de audio no da abasto: mejor perder un paso que esperar
+            return false;
+        }
+        batches[(int) (t & mask)] = batch;
+        tail.lazySet(t + 1); // publica el hueco ya escrito
+        return true;
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // CONSUMIDOR (hilo de audio)
+    // ════════════════════════════════════════════════════════════════════
+
+    /** ¿Hay lotes sin despachar? */
+    public boolean hasPending() {
+        return head.get() != tail.get();
+    }
+
+    /**
+     * Reproduce los lotes pendientes.
+     * @return sonidos reproducidos
+     */
+    public int dispatch(long nowNanos, Player player) {
+        long h = head.get();
+        long t = tail.get();
+        if (h == t) return 0;
+        int sounds = 0;
+        for (long i = h; i < t; i++) {
+            int batch = batches[(int) (i & mask)];
+            mergedLate += Integer.bitCount(sounds & batch);
+            sounds |= batch;
+        }
+        head.lazySet(t); // devuelve los huecos al productor
+
+        int count = 0;
+        for (int k = 0; k < soundCount; k++) {
+            int s = order[k];
+            if ((sounds & (1 << s)) == 0) continue;
+            if (nowNanos - lastPlayedNanos[s] < minIntervalNanos[s]) {
+                rateLimited++;
+                continue;
+            }
+            int voice = findVoice(nowNanos, priority[s]);
+            if (voice < 0) {
+                noVoice++;
+                continue;
+            }
+            int stream = player.play(s, volume[s], priority[s]);
+            if (stream == 0) continue; // muestra aún sin cargar: no ocupa voz ni roba
+            if (voiceStream[voice] != 0 && voiceEnd[voice] > nowNanos) {
+                player.stop(voiceStream[voice]); // robada: ya suena la nueva
+                stolen++;
+            }
+            voiceStream[voice]   = stream;
+            voicePriority[voice] = priority[s];
+            voiceStart[voice]    = nowNanos;
+            voiceEnd[voice]      = nowNanos + durationNanos[s];
+            lastPlayedNanos[s]   = nowNanos;
+            played++;
+            count++;
+        }
+        return count;
+    }
+
+    /** Voz libre, o la que se puede robar a un sonido menos importante; -1 si no hay */
+    private int findVoice(long nowNanos, int prio) {
+        int victim = -1;
+        for (int v = 0; v < voiceStream.length; v++) {
+            if (voiceStream[v] == 0 || voiceEnd[v] <= nowNanos) return v;
+            if (voicePriority[v] < prio && (victim < 0
+                    || voicePriority[v] < voicePriority[victim]
+                    || (voicePriority[v] == voicePriority[victim] && voiceStart[v] < voiceStart[victim]))) {
+                victim = v;
+            }
+        }
+        return victim;
+    }
+
+    /** Voces sonando en el instante dado (solo consumidor) */
+    public int activeVoices(long nowNanos) {
+        int n = 0;
+        for (int v = 0; v < voiceStream.length; v++) {
+            if (voiceStream[v] != 0 && voiceEnd[v] > nowNanos) n++;
+        }
+        return n;
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public int getSoundCount()          { return soundCount; }
+    public long getPostedCount()        { return posted; }
+    /** Duplicados fusionados: en el mismo paso o en pasos despachados juntos */
+    public long getMergedCount()        { return merged + mergedLate; }
+    public long getPlayedCount()        { return played; }
+    public long getRateLimitedCount()   { return rateLimited; }
+    public long getStolenCount()        { return stolen; }
+    /** Sonidos sin voz libre ni voz menos importante que robar */
+    public long getNoVoiceCount()       { return noVoice; }
+    public long getDroppedBatchCount()  { return batchesDropped; }
+}
@@ -0,0 +1,170 @@
+package com.example.arkanoidgame.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StartupPipeline — Carga de arranque en paralelo, con estado y tiempos
+ * por etapa.
+ *
+ * Cada etapa (sonido, gráficos, primer nivel…) es una tarea que se lanza
+ * en el ejecutor nada más añadirla. Quien necesita un recurso pregunta
+ * por su etapa en lugar de esperarlo:
+ *
+ *   Stage level = startup.stage("level", this::loadLevel);
+ *   ...
+ *   if (!level.isReady()) return;   // aún no: dibujar la pantalla de carga
+ *
+ * isReady() es una lectura volatile que se hace después de que la tarea
+ * termina: todo lo que la tarea escribió (aunque sean campos normales)
+ * es visible para el hilo que la ve lista. Además de etapas se pueden
+ * marcar hitos (p. ej. el primer frame). writeReport() da el instante de
+ * inicio y la duración de cada una desde que se creó el pipeline.
+ */
+public final class StartupPipeline {
+
+    private static final int PENDING = 0, RUNNING = 1, READY = 2, FAILED = 3;
+    private static final String[] STATUS_NAMES = { "pending", "running", "ready", "FAILED" };
+
+    /** Una etapa del arranque */
+    public final class Stage implements Runnable {
+        private final String name;
+        private final Runnable task;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile int status = PENDING;
+        private volatile long startNanos, endNanos;
+        private volatile String threadName;
+        private volatile Throwable error;
+
+        Stage(String name, Runnable task) {
+            this.name = name;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            threadName = Thread.currentThread().getName();
+            startNanos = System.nanoTime();
+            status = RUNNING;
+            try {
+                task.run();
+                endNanos = System.nanoTime();
+                status = READY;  // publica lo que escribió la tarea
+            } catch (RuntimeException | Error e) {
+                error = e;
+                endNanos = System.nanoTime();
+                status = FAILED;
+            } finally {
+                done.countDown();
+            }
+        }
+
+        /** ¿Terminó bien? (lo que haya preparado ya se puede usar) */
+        public boolean isReady()  { return status == READY; }
+        public boolean isFailed() { return status == FAILED; }
+        public boolean isDone()   { return status >= READY; }
+
+        /** Espera a que termine (bien o mal); true si ha terminado */
+        public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+            return done.await(timeout, unit);
+        }
+
+        public String getName()     { return name; }
+        public Throwable getError() { return error; }
+        /** Duración de la tarea, o -1 si no ha terminado */
+        public long getDurationNanos() {
+            return isDone() ? endNanos - startNanos : -1;
+        }
+    }
+
+    private final Executor executor;
+    private final long originNanos;
+    private final List<Stage> stages = new ArrayList<>();
+    private final List<String> milestoneNames = new ArrayList<>();
+    private final List<Long> milestoneNanos = new ArrayList<>();
+
+    public StartupPipeline(Executor executor) {
+        this.executor    = executor;
+        this.originNanos = System.nanoTime();
+    }
+
+    /** Añade una etapa y la lanza en el ejecutor */
+    public Stage stage(String name, Runnable task) {
+        Stage stage = new Stage(name, task);
+        synchronized (stages) {
+            stages.add(stage);
+        }
+        executor.execute(stage);
+        return stage;
+    }
+
+    /** Marca un hito con el instante actual (solo cuenta la primera vez) */
+    public void mark(String name) {
+        synchronized (stages) {
+            if (milestoneNames.contains(name)) return;
+            milestoneNames.add(name);
+            milestoneNanos.add(System.nanoTime());
+        }
+    }
+
+    /** ¿Han terminado bien todas las etapas añadidas? */
+    public boolean allReady() {
+        synchronized (stages) {
+            for (Stage s : stages) if (!s.isReady()) return false;
+            return true;
+        }
+    }
+
+    /**
+     * Escribe una línea por etapa (inicio y duración en ms desde la
+     * creación del pipeline, hilo y estado) y otra por hito.
+     */
+    public void writeReport(Appendable out) throws IOException {
+        synchronized (stages) {
+            out.append(padRight("stage", 12)).append(pad("start", 9)).append(pad("dur", 9))
+               .append("  thread / status  (ms)\n");
+            for (Stage s : stages) {
+                out.append(padRight(s.name, 12));
+                boolean started = s.status != PENDING;
+                out.append(pad(started ? millis(s.startNanos - originNanos) : "-", 9));
+                out.append(pad(s.isDone() ? millis(s.getDurationNanos()) : "-", 9));
+                out.append("  ").append(started ? s.threadName : "-")
+                   .append(" / ").append(STATUS_NAMES[s.status]);
+                if (s.error != null) out.append(": ").append(String.valueOf(s.error));
+                out.append('\n');
+            }
+            for (int i = 0; i < milestoneNames.size(); i++) {
+                out.append(padRight(milestoneNames.get(i), 12))
+                   .append(pad(millis(milestoneNanos.get(i) - originNanos), 9)).append('\n');
+            }
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(java.util.Locale.ROOT, "%.1f", nanos / 1e6);
+    }
+
+    private static String padRight(String s, int width) {
+        StringBuilder sb = new StringBuilder(width).append(s);
+        while (sb.length() < width) sb.append(' ');
+        return sb.toString();
+    }
+
+    private static String pad(String s, int width) {
+        StringBuilder sb = new StringBuilder(width);
+        for (int i = s.length(); i < width; i++) sb.append(' ');
+        return sb.append(s).toString();
+    }
+
+    /** Nanosegundos desde la creación del pipeline hasta el hito, o -1 si no se ha marcado */
+    public long getMilestoneNanos(String name) {
+        synchronized (stages) {
+            int i = milestoneNames.indexOf(name);
+            return (i < 0) ? -1 : milestoneNanos.get(i) - originNanos;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.arkanoidgame.core;
+
+/**
+ * Sweep — Detección continua de colisiones círculo contra caja (AABB).
+ *
+ * En vez de mirar si la pelota se solapa con algo al final del paso,
+ * se calcula el primer instante t (0..1 del desplazamiento) en el que
+ * el círculo toca la caja y la normal de contacto. Así la pelota no
+ * atraviesa bloques finos ni la paleta aunque vaya muy rápido.
+ *
+ * Técnica: el círculo contra la caja equivale al centro (un rayo) contra
+ * la caja engordada en el radio con esquinas redondeadas:
+ *
+ *        ╭───────────╮   ← esquinas: círculo de radio r en cada vértice
+ *        │  ┌─────┐  │
+ *        │  │ box │  │   ← caras: caja ampliada r por cada lado
+ *        │  └─────┘  │
+ *        ╰───────────╯
+ *
+ * Sin reservas de memoria: el resultado se escribe en un Contact del llamador.
+ */
+public final class Sweep {
+
+    /** Resultado de un barrido: instante de impacto y normal (unitaria) de la superficie */
+    public static final class Contact {
+        public float t;
+        public float nx, ny;
+
+        public void set(float t, float nx, float ny) {
+            this.t  = t;
+            this.nx = nx;
+            this.ny = ny;
+        }
+
+        public void set(Contact o) {
+            set(o.t, o.nx, o.ny);
+        }
+    }
+
+    private Sweep() {}
+
+    /**
+     * Barre un círculo de centro (x, y) y radio r que se desplaza (dx, dy)
+     * contra la caja [left, right] × [top, bottom].
+     * Si ya se solapan al empezar, hay contacto en t = 0 solo si el círculo
+     * se mueve hacia dentro de la caja (si se aleja, se deja salir).
+     * @return true si hay contacto con t en [0, 1]; el detalle queda en out
+     */
+    public static boolean circleVsAabb(float x, float y, float r, float dx, float dy,
+                                       float left, float top, float right, float bottom,
+                                       Contact out) {
+        float eL = left - r, eR = right + r, eT = top - r, eB = bottom + r;
+
+        // ── Caso 1: el centro ya está dentro de la caja engordada ─────
+        if (x > eL && x < eR && y > eT && y < eB) {
+            boolean outsideX = x < left || x > right;
+            boolean outsideY = y < top  || y > bottom;
+            if (outsideX && outsideY) {
+                // Zona de esquina: puede que aún no toque el círculo de la esquina
+                float cx = (x < left) ? left : right;
+                float cy = (y < top)  ? top  : bottom;
+                float fx = x - cx, fy = y - cy;
+                float dist2 = fx * fx + fy * fy;
+                if (dist2 >= r * r) return rayVsCircle(x, y, dx, dy, cx, cy, r, out);
+                float dist = (float) Math.sqrt(dist2);
+                if (dist == 0) return false;
+                return overlapContact(fx / dist, fy / dist, dx, dy, out);
+            }
+            // Solape por una cara: salir por el eje de menor penetración
+            float pl = x - eL, pr = eR - x, pt = y - eT, pb = eB - y;
+            float minX = Math.min(pl, pr), minY = Math.min(pt, pb);
+            if (minX < minY) return overlapContact(pl < pr ? -1 : 1, 0, dx, dy, out);
+            return overlapContact(0, pt < pb ? -1 : 1, dx, dy, out);
+        }
+
+        // ── Caso 2: rayo contra la caja engordada (método de las franjas) ─
+        float tEnter = Float.NEGATIVE_INFINITY, tExit = Float.POSITIVE_INFINITY;
+        float nx = 0, ny = 0;
+
+        if (dx != 0) {
+            float t1 = (eL - x) / dx, t2 = (eR - x) / dx;
+            float tNear = Math.min(t1, t2), tFar = Math.max(t1, t2);
+            if (tNear > tEnter) { tEnter = tNear; nx = dx > 0 ? -1 : 1; ny = 0; }
+            tExit = Math.min(tExit, tFar);
+        } else if (x <= eL || x >= eR) {
+            return false;
+        }
+
+        if (dy != 0) {
+            float t1 = (eT - y) / dy, t2 = (eB - y) / dy;
+            float tNear = Math.min(t1, t2), tFar = Math.max(t1, t2);
+            if (tNear > tEnter) { tEnter = tNear; nx = 0; ny = dy > 0 ? -1 : 1; }
+            tExit = Math.min(tExit, tFar);
+        } else if (y <= eT || y >= eB) {
+            return false;
+        }
+
+        if (tEnter > tExit || tEnter < 0 || tEnter > 1) return false;
+
+        // ¿Entra por una cara o por una esquina redondeada?
+        float px = x + dx * tEnter, py = y + dy * tEnter;
+        boolean cornerX = px < left || px > right;
+        boolean cornerY = py < top  || py > bottom;
+        if (cornerX && cornerY) {
+            float cx = (px < left) ? left : right;
+            float cy = (py < top)  ? top  : bottom;
+            return rayVsCircle(x, y, dx, dy, cx, cy, r, out);
+        }
+        out.set(tEnter, nx, ny);
+        return true;
+    }
+
+    /** Primer impacto del rayo (x, y) + t·(dx, dy) con el círculo (cx, cy, r), t en [0, 1] */
+    private static boolean rayVsCircle(float x, float y, float dx, float dy,
+                                       float cx, float cy, float r, Contact out) {
+        float fx = x - cx, fy = y - cy;
+        float a = dx * dx + dy * dy;
+        if (a == 0) return false;
+        float b = 2 * (fx * dx + fy * dy);
+        float c = fx * fx + fy * fy - r * r;
+        float disc = b * b - 4 * a * c;
+        if (disc < 0) return false;
+        float t = (-b - (float) Math.sqrt(disc)) / (2 * a);
+        if (t < 0 || t > 1) return false;
+        float hx = fx + dx * t, hy = fy + dy * t;
+        float len = (float) Math.sqrt(hx * hx + hy * hy);
+        if (len == 0) return false;
+        out.set(t, hx / len, hy / len);
+        return true;
+    }
+
+    /** Contacto en t = 0 si el movimiento va contra la normal */
+    private static boolean overlapContact(float nx, float ny, float dx, float dy, Contact out) {
+        if (dx * nx + dy * ny >= 0) return false; // se está alejando
+        out.set(0, nx, ny);
+        return true;
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.arkanoidgame.core;
+
+import java.io.IOException;
+
+/**
+ * TraceRecorder — Secciones con nombre y duración para ver la línea de
+ * tiempo de cada frame, sin profiler conectado.
+ *
+ * Uso (siempre emparejado, como android.os.Trace):
+ *
+ *   trace.begin("draw");
+ *   ...
+ *   trace.end();
+ *
+ * Cada sección terminada se guarda en un buffer circular preasignado
+ * (nombre, inicio, duración y profundidad); cuando se llena se pisan
+ * las más antiguas. Registrar no reserva memoria: los nombres deben ser
+ * literales o constantes. Además se reenvía a un Sink (en Android,
+ * android.os.Trace) para verlo en systrace / Perfetto.
+ *
+ * Un TraceRecorder por hilo: lo escribe solo su hilo. writeChromeJson()
+ * vuelca uno o varios en el formato "trace event" de Chrome, que abren
+ * chrome://tracing y ui.perfetto.dev. Leer mientras el hilo escribe
+ * puede dar alguna sección suelta incoherente; lo normal es volcar con
+ * el juego en pausa o al terminar una prueba.
+ */
+public final class TraceRecorder {
+
+    /** Destino adicional de las secciones (p. ej. android.os.Trace) */
+    public interface Sink {
+        void beginSection(String name);
+        void endSection();
+
+        /** No hace nada */
+        Sink NONE = new Sink() {
+            @Override public void beginSection(String name) {}
+            @Override public void endSection() {}
+        };
+    }
+
+    public static final int DEFAULT_CAPACITY = 16384;
+    private static final int MAX_DEPTH = 16;  // anidamiento que se registra (el resto solo se cuenta)
+
+    private final String threadName;
+    private final int threadId;
+    private final Sink sink;
+
+    // ─── Buffer circular de secciones terminadas (arrays paralelos) ─────
+    private final String[] names;
+    private final long[] starts;
+    private final long[] durations;
+    private final byte[] depths;
+    private long written = 0;               // secciones escritas desde el último clear()
+
+    // ─── Pila de secciones abiertas ─────────────────────────────────────
+    private final String[] openNames  = new String[MAX_DEPTH];
+    private final long[]   openStarts = new long[MAX_DEPTH];
+    private int depth = 0;
+
+    private volatile boolean enabled = false;
+
+    public TraceRecorder(String threadName, int threadId) {
+        this(threadName, threadId, DEFAULT_CAPACITY, Sink.NONE);
+    }
+
+    public TraceRecorder(String threadName, int threadId, int capacity, Sink sink) {
+        if (capacity < 0) throw new IllegalArgumentException("capacidad negativa");
+        this.threadName = threadName;
+        this.threadId   = threadId;
+        this.sink       = (sink != null) ? sink : Sink.NONE;
+        names     = new String[capacity];
+        starts    = new long[capacity];
+        durations = new long[capacity];
+        depths    = new byte[capacity];
+    }
+
+    /** Grabador que nunca registra nada (valor por defecto donde se acepta uno) */
+    public static TraceRecorder disabled() {
+        return new TraceRecorder("off", 0, 0, Sink.NONE);
+    }
+
+    /** Abre una sección (nombre constante: no se copia) */
+    public void begin(String name) {
+        if (!enabled) return;
+        sink.beginSection(name);
+        if (depth < MAX_DEPTH) {
+            openNames[depth]  = name;
+            openStarts[depth] = System.nanoTime();
+        }
+        depth++;
+    }
+
+    /**
+     * Cierra la última sección abierta. No mira 'enabled': así una sección
+     * abierta antes de desactivar el registro se cierra igualmente.
+     */
+    public void end() {
+        if (depth == 0) return;
+        sink.endSection();
+        depth--;
+        if (depth >= MAX_DEPTH || names.length == 0) return;
+        int slot = (int) (written % names.length);
+        names[slot]     = openNames[depth];
+        starts[slot]    = openStarts[depth];
+        durations[slot] = System.nanoTime() - openStarts[depth];
+        depths[slot]    = (byte) depth;
+        openNames[depth] = null;
+        written++;
+    }
+
+    /** Activa o desactiva el registro (desde cualquier hilo; surte efecto en la siguiente begin()) */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /** Descarta todo lo registrado (desde el hilo dueño o con él parado) */
+    public void clear() {
+        written = 0;
+        java.util.Arrays.fill(names, null);
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // EXPORTACIÓN
+    // ════════════════════════════════════════════════════════════════════
+
+    /**
+     * Escribe los grabadores en formato Chrome trace-event JSON: un evento
+     * de nombre por hilo y un evento completo ("X") por sección, con
+     * tiempos en microsegundos del reloj System.nanoTime.
+     */
+    public static void writeChromeJson(Appendable out, TraceRecorder... recorders) throws IOException {
+        out.append("{\"traceEvents\":[");
+        boolean first = true;
+        for (TraceRecorder r : recorders) {
+            if (!first) out.append(',');
+            first = false;
+            out.append("\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":")
+               .append(Integer.toString(r.threadId))
+               .append(",\"args\":{\"name\":");
+            appendJsonString(out, r.threadName);
+            out.append("}}");
+            r.appendEvents(out);
+        }
+        out.append("\n],\"displayTimeUnit\":\"ms\"}\n");
+    }
+
+    private void appendEvents(Appendable out) throws IOException {
+        int capacity = names.length;
+        long count = Math.min(written, capacity);
+        for (long i = written - count; i < written; i++) {
+            int slot = (int) (i % capacity);
+            out.append(",\n{\"name\":");
+            appendJsonString(out, names[slot]);
+            out.append(",\"ph\":\"X\",\"ts\":");
+            appendMicros(out, starts[slot]);
+            out.append(",\"dur\":");
+            appendMicros(out, durations[slot]);
+            out.append(",\"pid\":1,\"tid\":").append(Integer.toString(threadId))
+               .append(",\"args\":{\"depth\":").append(Integer.toString(depths[slot]))
+               .append("}}");
+        }
+    }
+
+    /** Nanosegundos como microsegundos con tres decimales (sin depender del Locale) */
+    private static void appendMicros(Appendable out, long nanos) throws IOException {
+        if (nanos < 0) {
+            out.append('-');
+            nanos = -nanos;
+        }
+        long frac = nanos % 1000;
+        out.append(Long.toString(nanos / 1000)).append('.');
+        if (frac < 100) out.append('0');
+        if (frac < 10)  out.append('0');
+        out.append(Long.toString(frac));
+    }
+
+    private static void appendJsonString(Appendable out, String s) throws IOException {
+        out.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') out.append('\\').append(c);
+            else if (c < 0x20) out.append(String.format(java.util.Locale.ROOT, "\\u%04x", (int) c));
+            else out.append(c);
+        }
+        out.append('"');
+    }
+
+    // ── Getters ───────────────────────────────────────────────────────
+    public String getThreadName()  { return threadName; }
+    public int getThreadId()       { return threadId; }
+    public int capacity()          { return names.length; }
+    /** Secciones guardadas ahora mismo (como mucho la capacidad) */
+    public int size()              { return (int) Math.min(written, names.length); }
+    /** Secciones terminadas desde el último clear(), incluidas las ya pisadas */
+    public long getWrittenCount()  { return written; }
+    public boolean isEnabled()     { return enabled; }
+}
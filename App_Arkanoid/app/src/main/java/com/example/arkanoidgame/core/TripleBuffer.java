@@ -0,0 +1,66 @@
+package com.example.arkanoidgame.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TripleBuffer — Intercambio sin bloqueos del último estado entre dos hilos.
+ *
+ * Hay tres objetos preasignados. El escritor siempre rellena el suyo
+ * ("back"), el lector siempre lee el suyo ("front") y el tercero queda en
+ * medio ("middle"), con el último estado publicado. Publicar y consumir
+ * son un único intercambio atómico con el del medio:
+ *
+ *   escritor: rellena back → publish(): back ⇄ middle (marcado como nuevo)
+ *   lector:   acquire(): si middle es nuevo → front ⇄ middle
+ *
+ * Ninguno de los dos espera nunca al otro. El lector puede saltarse
+ * estados si el escritor va más rápido (solo ve el último), y si el
+ * lector va más rápido sigue leyendo el mismo front hasta que haya otro.
+ *
+ * Un solo escritor y un solo lector.
+ */
+public final class TripleBuffer<T> {
+
+    /** Crea cada uno de los tres objetos al construir el buffer */
+    public interface Factory<T> {
+        T create();
+    }
+
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH      = 0b100; // middle contiene un estado aún no leído
+
+    private final T[] items;
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back  = 0;   // solo lo toca el escritor
+    private int front = 2;   // solo lo toca el lector
+
+    @SuppressWarnings("unchecked")
+    public TripleBuffer(Factory<T> factory) {
+        items = (T[]) new Object[] { factory.create(), factory.create(), factory.create() };
+    }
+
+    /** Objeto que el escritor puede rellenar (propiedad exclusiva del escritor) */
+    public T back() {
+        return items[back];
+    }
+
+    /** Publica el objeto de back() y entrega otro libre al escritor */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Toma el último estado publicado, si hay uno que el lector no haya visto.
+     * @return true si front() ha cambiado
+     */
+    public boolean acquire() {
+        if ((middle.get() & FRESH) == 0) return false;
+        front = middle.getAndSet(front) & INDEX_MASK;
+        return true;
+    }
+
+    /** Último estado tomado por el lector (propiedad exclusiva del lector) */
+    public T front() {
+        return items[front];
+    }
+}
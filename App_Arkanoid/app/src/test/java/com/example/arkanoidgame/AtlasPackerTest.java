@@ -0,0 +1,50 @@
+package com.example.arkanoidgame;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas de AtlasPacker: los sprites no se solapan, respetan el hueco
+ * entre ellos y no se salen del ancho máximo.
+ */
+public class AtlasPackerTest {
+
+    @Test
+    public void spritesDoNotOverlapAndKeepSpacing() {
+        AtlasPacker packer = new AtlasPacker(200, 2);
+        int[][] sizes = { {50, 20}, {80, 30}, {60, 10}, {120, 40}, {10, 10}, {190, 5}, {33, 33} };
+        for (int[] s : sizes) packer.add(s[0], s[1]);
+        assertEquals(sizes.length, packer.size());
+
+        for (int i = 0; i < packer.size(); i++) {
+            assertEquals(sizes[i][0], packer.width(i));
+            assertEquals(sizes[i][1], packer.height(i));
+            assertTrue("borde izquierdo/superior", packer.x(i) >= 2 && packer.y(i) >= 2);
+            assertTrue("dentro del ancho", packer.x(i) + packer.width(i) + 2 <= 200);
+            assertTrue("dentro del tamaño total", packer.x(i) + packer.width(i) <= packer.getWidth()
+                    && packer.y(i) + packer.height(i) <= packer.getHeight());
+            for (int j = 0; j < i; j++) {
+                boolean apart = packer.x(i) >= packer.x(j) + packer.width(j) + 2
+                        || packer.x(j) >= packer.x(i) + packer.width(i) + 2
+                        || packer.y(i) >= packer.y(j) + packer.height(j) + 2
+                        || packer.y(j) >= packer.y(i) + packer.height(i) + 2;
+                assertTrue("sprites " + j + " y " + i + " demasiado cerca", apart);
+            }
+        }
+    }
+
+    @Test
+    public void fullShelfOpensANewOneBelow() {
+        AtlasPacker packer = new AtlasPacker(100, 1);
+        int a = packer.add(60, 20);
+        int b = packer.add(60, 10);
+        assertEquals(packer.x(a), packer.x(b));
+        assertEquals(packer.y(a) + 20 + 1, packer.y(b));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void spriteWiderThanAtlasIsRejected() {
+        new AtlasPacker(100, 2).add(97, 10);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.arkanoidgame;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas de la envolvente de zonas sucias usada por el repintado parcial.
+ */
+public class DirtyRegionTest {
+
+    @Test
+    public void unionRoundsOutwards() {
+        DirtyRegion d = new DirtyRegion();
+        assertTrue(d.isEmpty());
+        d.add(10.5f, 20.2f, 30.1f, 40.9f);
+        d.add(100f, 5f, 110f, 15f);
+        assertFalse(d.isEmpty());
+        assertEquals(10, d.left);
+        assertEquals(5, d.top);
+        assertEquals(110, d.right);
+        assertEquals(41, d.bottom);
+        assertEquals(100L * 36, d.area());
+    }
+
+    @Test
+    public void emptyBoxesAndRegionsAreIgnored() {
+        DirtyRegion d = new DirtyRegion();
+        d.add(5, 5, 5, 10);            // ancho 0
+        d.add(new DirtyRegion());
+        assertTrue(d.isEmpty());
+        assertEquals(0, d.area());
+    }
+
+    @Test
+    public void clipToScreenDropsOffscreenRegions() {
+        DirtyRegion d = new DirtyRegion();
+        d.add(-20, -20, 50, 50);
+        d.clipTo(40, 100);
+        assertEquals(0, d.left);
+        assertEquals(0, d.top);
+        assertEquals(40, d.right);
+        assertEquals(50, d.bottom);
+
+        DirtyRegion below = new DirtyRegion();
+        below.add(0, 200, 10, 210);     // pelota perdida bajo la pantalla
+        below.clipTo(40, 100);
+        assertTrue(below.isEmpty());
+    }
+
+    @Test
+    public void setCopiesPreviousFrame() {
+        DirtyRegion now = new DirtyRegion(), prev = new DirtyRegion();
+        now.add(1, 2, 3, 4);
+        prev.set(now);
+        now.clear();
+        assertTrue(now.isEmpty());
+        assertEquals(3, prev.right);
+        prev.set(now);
+        assertTrue(prev.isEmpty());
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.arkanoidgame;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del bucle de paso fijo con un reloj falso:
+ * la simulación debe avanzar igual a 60, 90 y 120 Hz de pantalla.
+ */
+public class FixedStepLoopTest {
+
+    /** Reloj controlado manualmente por el test */
+    private static class FakeClock implements FixedStepLoop.Clock {
+        long now = 0;
+        @Override public long nanoTime() { return now; }
+    }
+
+    /** Integra una posición con velocidad constante y guarda la posición interpolada */
+    private static class Recorder implements FixedStepLoop.Listener {
+        static final float VELOCITY = 720f; // px/s
+        float prevX, x;
+        int steps, renders;
+        float renderedX, lastAlpha;
+
+        @Override public void step(float dt) {
+            prevX = x;
+            x += VELOCITY * dt;
+            steps++;
+        }
+
+        @Override public void render(float alpha) {
+            renderedX = prevX + (x - prevX) * alpha;
+            lastAlpha = alpha;
+            renders++;
+        }
+    }
+
+    /** Simula 'seconds' segundos de juego con una pantalla de 'displayHz' */
+    private Recorder runAt(int displayHz, int seconds) {
+        FakeClock clock = new FakeClock();
+        Recorder rec = new Recorder();
+        FixedStepLoop loop = new FixedStepLoop(60, displayHz, 5, clock, rec);
+        long frame = 1_000_000_000L / displayHz;
+        loop.runFrame(); // primer frame: fija el origen de tiempo
+        for (int i = 0; i < displayHz * seconds; i++) {
+            clock.now += frame;
+            loop.runFrame();
+        }
+        return rec;
+    }
+
+    @Test
+    public void stepCountIsIndependentOfDisplayRate() {
+        for (int hz : new int[]{60, 90, 120}) {
+            Recorder rec = runAt(hz, 10);
+            assertEquals("pasos a " + hz + " Hz", 600, rec.steps, 1);
+            assertEquals("renders a " + hz + " Hz", hz * 10 + 1, rec.renders);
+        }
+    }
+
+    @Test
+    public void interpolatedPositionMatchesAcrossDisplayRates() {
+        Recorder at60  = runAt(60, 5);
+        Recorder at90  = runAt(90, 5);
+        Recorder at120 = runAt(120, 5);
+        // Tras 5 s la posición dibujada debe coincidir (±1 paso de física)
+        float tolerance = Recorder.VELOCITY / 60f;
+        assertEquals(at60.renderedX, at90.renderedX, tolerance);
+        assertEquals(at60.renderedX, at120.renderedX, tolerance);
+        // La interpolación dibuja con un paso de retraso respecto al tiempo real
+        assertEquals(Recorder.VELOCITY * (5 - 1 / 60f), at120.renderedX, tolerance);
+    }
+
+    @Test
+    public void alphaStaysWithinStep() {
+        FakeClock clock = new FakeClock();
+        Recorder rec = new Recorder();
+        FixedStepLoop loop = new FixedStepLoop(60, 120, 5, clock, rec);
+        loop.runFrame();
+        clock.now += loop.getStepNanos() / 2;
+        assertEquals(0, loop.runFrame());
+        assertEquals(0.5f, rec.lastAlpha, 0.01f);
+        clock.now += loop.getStepNanos() / 2;
+        assertEquals(1, loop.runFrame());
+        assertTrue(rec.lastAlpha >= 0f && rec.lastAlpha < 1f);
+    }
+
+    @Test
+    public void longFrameIsCappedAndExcessDropped() {
+        FakeClock clock = new FakeClock();
+        Recorder rec = new Recorder();
+        FixedStepLoop loop = new FixedStepLoop(60, 60, 5, clock, rec);
+        loop.runFrame();
+        clock.now += 1_000_000_000L; // un frame de 1 s (p. ej. GC o cambio de app)
+        assertEquals(5, loop.runFrame());
+        assertEquals(55, loop.getDroppedSteps(), 1);
+        assertTrue(rec.lastAlpha < 1f);
+    }
+
+    @Test
+    public void resetForgetsPausedTime() {
+        FakeClock clock = new FakeClock();
+        Recorder rec = new Recorder();
+        FixedStepLoop loop = new FixedStepLoop(60, 60, 5, clock, rec);
+        loop.runFrame();
+        clock.now += 30_000_000_000L; // 30 s en segundo plano
+        loop.reset();
+        assertEquals(0, loop.runFrame());
+        assertEquals(0, loop.getDroppedSteps());
+    }
+
+    @Test
+    public void reportsTimeUntilNextFrame() {
+        FakeClock clock = new FakeClock();
+        FixedStepLoop loop = new FixedStepLoop(60, 90, 5, clock, new Recorder());
+        loop.runFrame();
+        clock.now += 1_000_000L;
+        assertEquals(loop.getFrameNanos() - 1_000_000L, loop.nanosUntilNextFrame());
+    }
+}
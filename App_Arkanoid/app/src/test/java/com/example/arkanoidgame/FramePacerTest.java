@@ -0,0 +1,118 @@
+package com.example.arkanoidgame;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del ritmo por vsync con un reloj de frames falso: pantallas de
+ * 60, 90 y 120 Hz, con y sin tope, con jitter y con vsyncs perdidos.
+ */
+public class FramePacerTest {
+
+    /** Vsyncs inventados de una pantalla de 'hz', con jitter opcional */
+    private static class FakeFrameClock {
+        final double periodNanos;
+        final long jitterNanos;
+        final Random rnd = new Random(3);
+        long vsync = 0;
+
+        FakeFrameClock(double hz, long jitterNanos) {
+            this.periodNanos = 1e9 / hz;
+            this.jitterNanos = jitterNanos;
+        }
+
+        /** Marca del vsync n (el sistema la da ya con su jitter) */
+        long next() {
+            long ideal = Math.round(++vsync * periodNanos);
+            return ideal + (jitterNanos == 0 ? 0 : (long) (rnd.nextGaussian() * jitterNanos));
+        }
+
+        /** Se salta 'count' vsyncs (el hilo de render iba tarde) */
+        void skip(int count) {
+            vsync += count;
+        }
+    }
+
+    /** Frames dibujados en 'seconds' segundos */
+    private static long run(FramePacer pacer, FakeFrameClock clock, int seconds) {
+        long vsyncs = Math.round(seconds * 1e9 / clock.periodNanos);
+        long drawn = 0;
+        for (long i = 0; i < vsyncs; i++) {
+            if (pacer.onVsync(clock.next())) drawn++;
+        }
+        return drawn;
+    }
+
+    @Test
+    public void uncappedDrawsEveryVsync() {
+        for (int hz : new int[]{ 60, 90, 120 }) {
+            FramePacer pacer = new FramePacer(hz, 0);
+            assertEquals(hz * 10L, run(pacer, new FakeFrameClock(hz, 0), 10));
+            assertEquals(0, pacer.getSkippedVsyncs());
+        }
+    }
+
+    @Test
+    public void capIsMetOnAverageEvenWhenItDoesNotDivideTheRefresh() {
+        assertEquals(600, run(new FramePacer(120, 60), new FakeFrameClock(120, 0), 10), 1);
+        assertEquals(600, run(new FramePacer(90, 60), new FakeFrameClock(90, 0), 10), 1);
+        assertEquals(300, run(new FramePacer(60, 30), new FakeFrameClock(60, 0), 10), 1);
+        // Tope por encima del refresco: todos los vsync
+        assertEquals(600, run(new FramePacer(60, 144), new FakeFrameClock(60, 0), 10));
+    }
+
+    @Test
+    public void capSurvivesJitter() {
+        FramePacer pacer = new FramePacer(120, 60);
+        long drawn = run(pacer, new FakeFrameClock(120, 500_000), 10); // ±0,5 ms
+        assertEquals(600, drawn, 6);
+    }
+
+    @Test
+    public void periodFollowsTheRealRefresh() {
+        // La pantalla dice 60 Hz pero va a 120 (cambio de modo)
+        FramePacer pacer = new FramePacer(60, 0);
+        run(pacer, new FakeFrameClock(120, 200_000), 1);
+        assertEquals(120f, pacer.getRefreshRate(), 1f);
+    }
+
+    @Test
+    public void periodFollowsARefreshDrop() {
+        // La pantalla dice 120 Hz pero baja a 60 (ahorro de batería): todos
+        // los huecos miden dos periodos, no son vsyncs perdidos
+        FramePacer pacer = new FramePacer(120, 0);
+        assertEquals(600, run(pacer, new FakeFrameClock(60, 200_000), 10));
+        assertEquals(60f, pacer.getRefreshRate(), 1f);
+        assertEquals(0, pacer.getMissedVsyncs());
+        assertEquals(16_666_666, pacer.getFallbackFrameNanos(), 200_000);
+
+        // Con tope de 60 se sigue dibujando en cada vsync
+        FramePacer capped = new FramePacer(120, 60);
+        assertEquals(600, run(capped, new FakeFrameClock(60, 200_000), 10), 6);
+    }
+
+    @Test
+    public void missedVsyncsAreCountedAndNotMadeUp() {
+        FramePacer pacer = new FramePacer(120, 60);
+        FakeFrameClock clock = new FakeFrameClock(120, 0);
+        run(pacer, clock, 1);
+        long before = pacer.getDrawnFrames();
+        clock.skip(30);                            // 250 ms sin vsyncs
+        assertTrue(pacer.onVsync(clock.next()));   // se dibuja al volver…
+        assertFalse(pacer.onVsync(clock.next()));  // …y no se encadenan frames para recuperar
+        assertEquals(before + 1, pacer.getDrawnFrames());
+        assertEquals(30, pacer.getMissedVsyncs());
+        assertEquals(120f, pacer.getRefreshRate(), 0.5f); // el hueco no estropea la estimación
+    }
+
+    @Test
+    public void fallbackIntervalUsesCapOrRefresh() {
+        FramePacer pacer = new FramePacer(120, 0);
+        assertEquals(8_333_333, pacer.getFallbackFrameNanos());
+        pacer.setFrameCap(60);
+        assertEquals(16_666_666, pacer.getFallbackFrameNanos());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.arkanoidgame;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del récord en memoria: una sola lectura, escrituras agrupadas
+ * y aviso al listener solo cuando cambia.
+ */
+public class HighScoreRepositoryTest {
+
+    /** Almacenamiento en memoria que cuenta los accesos */
+    private static class FakeStore implements HighScoreRepository.Store {
+        int value, reads;
+        final List<Integer> writes = new ArrayList<>();
+        FakeStore(int value) { this.value = value; }
+        @Override public int read() { reads++; return value; }
+        @Override public void write(int v) { writes.add(v); value = v; }
+    }
+
+    /** Ejecutor manual: las tareas esperan hasta runAll() */
+    private static class QueueExecutor implements Executor {
+        final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        @Override public void execute(Runnable r) { tasks.add(r); }
+        void runAll() { while (!tasks.isEmpty()) tasks.poll().run(); }
+    }
+
+    @Test
+    public void readsStoreOnlyOnce() {
+        FakeStore store = new FakeStore(300);
+        HighScoreRepository repo = new HighScoreRepository(store, new QueueExecutor());
+        for (int i = 0; i < 1000; i++) assertEquals(300, repo.get());
+        repo.submit(100);
+        assertEquals(1, store.reads);
+    }
+
+    @Test
+    public void lowerScoresAreIgnored() {
+        FakeStore store = new FakeStore(300);
+        QueueExecutor executor = new QueueExecutor();
+        HighScoreRepository repo = new HighScoreRepository(store, executor);
+        assertFalse(repo.submit(300));
+        assertFalse(repo.submit(10));
+        assertTrue(executor.tasks.isEmpty());
+    }
+
+    @Test
+    public void pendingWritesAreCoalesced() {
+        FakeStore store = new FakeStore(0);
+        QueueExecutor executor = new QueueExecutor();
+        HighScoreRepository repo = new HighScoreRepository(store, executor);
+
+        assertTrue(repo.submit(120));
+        assertTrue(repo.submit(150));
+        assertEquals(150, repo.get());          // visible al instante
+        assertEquals(1, executor.tasks.size()); // una sola escritura programada
+        assertTrue(store.writes.isEmpty());     // todavía nada en disco
+
+        executor.runAll();
+        assertEquals(List.of(150), store.writes);
+
+        repo.submit(200);                       // tras escribir, se programa otra
+        executor.runAll();
+        assertEquals(List.of(150, 200), store.writes);
+    }
+
+    @Test
+    public void listenerFiresOnlyOnChange() {
+        HighScoreRepository repo = new HighScoreRepository(new FakeStore(50), new QueueExecutor());
+        List<Integer> seen = new ArrayList<>();
+        repo.setListener(seen::add);
+        repo.submit(40);
+        repo.submit(60);
+        repo.submit(60);
+        repo.submit(70);
+        assertEquals(List.of(60, 70), seen);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.arkanoidgame;
+
+import com.example.arkanoidgame.core.AllocationCounter;
+import com.example.arkanoidgame.core.Autopilot;
+import com.example.arkanoidgame.core.BlockField;
+import com.example.arkanoidgame.core.ExplosionPool;
+import com.example.arkanoidgame.core.FrameSnapshot;
+import com.example.arkanoidgame.core.GameEvents;
+import com.example.arkanoidgame.core.GameWorld;
+import com.example.arkanoidgame.core.Input;
+import com.example.arkanoidgame.core.TripleBuffer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Regresión: un frame en régimen estable no debe reservar memoria.
+ *
+ * Las llamadas a Canvas no se pueden ejecutar en la JVM de las pruebas,
+ * así que se mide todo el trabajo Java del frame que las rodea: el paso
+ * de simulación, las explosiones, la instantánea que cruza de un hilo a
+ * otro, el récord y el FramePlanner de GameView (muro mostrado, HUD y
+ * zona sucia). La escena de prueba da las mismas medidas que los
+ * renderizadores, sin dibujar (aquí todo en un solo hilo).
+ */
+public class RenderAllocationTest {
+
+    private static final int CHUNK  = 1_000;
+    private static final int CHUNKS = 100;
+
+    private final GameWorld world = new GameWorld(1080, 1920, 1f / 60f);
+    private int levelLoads = 0;
+    private final Autopilot pilot = new Autopilot();
+    private final Input input = new Input();
+    private final ExplosionPool explosions = new ExplosionPool();
+    private final TripleBuffer<FrameSnapshot> snapshots =
+            new TripleBuffer<>(() -> new FrameSnapshot(ExplosionPool.DEFAULT_CAPACITY));
+    private final HighScoreRepository highScores = new HighScoreRepository(
+            new HighScoreRepository.Store() {
+                int value;
+                @Override public int read() { return value; }
+                @Override public void write(int v) { value = v; }
+            }, Runnable::run);
+    private final FramePlanner planner = new FramePlanner(1080, 1920);
+    private int n = 0;
+
+    /** Medidas como las de los renderizadores de GameView */
+    private final FramePlanner.Scene scene = new FramePlanner.Scene() {
+        @Override
+        public void addMovingBounds(DirtyRegion out, FrameSnapshot s, float alpha) {
+            float bx = s.ballXAt(alpha), by = s.ballYAt(alpha), px = s.paddleXAt(alpha);
+            out.add(bx - 40, by - 40, bx + 40, by + 40);
+            out.add(px, s.paddleY, px + s.paddleWidth, s.paddleY + s.paddleHeight);
+            ExplosionPool ex = s.explosions;
+            for (int i = 0; i < ex.size(); i++)
+                out.add(ex.getX(i) - 40, ex.getY(i) - 40, ex.getX(i) + 40, ex.getY(i) + 40);
+        }
+
+        @Override
+        public void addBlockBounds(DirtyRegion out, BlockField shown) {
+            for (int i = shown.nextDirty(0); i >= 0; i = shown.nextDirty(i + 1))
+                out.add(shown.left(i), shown.top(i), shown.right(i), shown.bottom(i));
+        }
+
+        @Override public void addOverlayBounds(DirtyRegion out) {}
+        @Override public boolean swapPreparedLayer(int level, BlockField shown, BlockField latest) { return false; }
+        @Override public void invalidateLayer() {}
+    };
+
+    private void frame(int n) {
+        pilot.fill(world, input);
+        world.step(input);
+        if (n % 7 == 0) explosions.start(n % 1080, 300);
+        explosions.update(1f / 60f);
+        snapshots.back().capture(world, explosions, n);
+        snapshots.publish();
+
+        // ── Lado del render (GameView.drawLatest / draw) ──
+        if (snapshots.acquire()) planner.onNewSnapshot(snapshots.front(), scene);
+        planner.plan(snapshots.front(), 0.5f, highScores.get(), scene);
+        planner.getShownBlocks().clearDirty(); // lo que hace BlockLayer.draw
+    }
+
+    @Test
+    public void steadyStateFrameDoesNotAllocate() {
+        if (!AllocationCounter.isSupported()) return; // JVM sin soporte: nada que medir
+        world.setEvents(new GameEvents() {
+            @Override public void onLevelLoaded(int levelNumber) { levelLoads++; }
+            @Override public void onGameOver(int score)          { highScores.submit(score); }
+            @Override public void onLevelCompleted(int score)    { highScores.submit(score); }
+        });
+
+        Runnable frames = () -> {
+            for (int i = 0; i < CHUNK; i++) frame(n++);
+        };
+        AllocationCounter.warmUp(frames); // carga de clases, JIT
+
+        // Cargar un nivel sí crea objetos (rejilla): esos tramos no cuentan
+        long total = 0;
+        int measured = 0;
+        for (int chunk = 0; chunk < CHUNKS; chunk++) {
+            int loadsBefore = levelLoads;
+            long bytes = AllocationCounter.bytesOf(frames);
+            if (levelLoads == loadsBefore) {
+                total += bytes;
+                measured++;
+            }
+        }
+
+        assertTrue("pocos tramos sin cambio de nivel: " + measured, measured > CHUNKS / 2);
+        assertTrue("sin frames parciales: no se mide el caso habitual", planner.getPartialFrames() > 0);
+        assertEquals("bytes reservados en " + measured * CHUNK + " frames", 0, total);
+    }
+}
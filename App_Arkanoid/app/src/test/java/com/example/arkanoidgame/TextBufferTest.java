@@ -0,0 +1,37 @@
+package com.example.arkanoidgame;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del texto reutilizable del HUD.
+ */
+public class TextBufferTest {
+
+    @Test
+    public void appendsStringsAndIntegers() {
+        TextBuffer t = new TextBuffer(4);
+        t.append("Nivel: ").append(3).append('/').append(5);
+        assertTrue(t.contentEquals("Nivel: 3/5"));
+        t.clear().append(0);
+        assertEquals("0", t.toString());
+        t.clear().append(-120).append(' ').append(Integer.MAX_VALUE).append(' ').append(Integer.MIN_VALUE);
+        assertEquals("-120 2147483647 -2147483648", t.toString());
+    }
+
+    @Test
+    public void hudRewritesOnlyOnChange() {
+        HudText hud = new HudText();
+        assertTrue(hud.update(10, 50, 1, 5, 3));
+        assertEquals("Puntos: 10", hud.score.toString());
+        assertEquals("Récord: 50", hud.highScore.toString());
+        assertEquals("Nivel: 1/5", hud.level.toString());
+        assertEquals("Vidas: 3", hud.lives.toString());
+        assertFalse(hud.update(10, 50, 1, 5, 3));
+        assertTrue(hud.update(10, 50, 1, 5, 2));
+        assertEquals("Vidas: 2", hud.lives.toString());
+        hud.invalidate();
+        assertTrue(hud.update(10, 50, 1, 5, 2));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.arkanoidgame.core;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Contador de bytes reservados por el hilo actual (HotSpot), compartido
+ * por las pruebas de "régimen estable sin reservas":
+ *
+ *   if (!AllocationCounter.isSupported()) return;
+ *   AllocationCounter.warmUp(chunk);             // chunk = N pasos/frames
+ *   long bytes = AllocationCounter.bytesOf(chunk);
+ *
+ * Al medir hay tres fuentes de ruido que no son del código probado:
+ *  - la propia lectura reserva memoria hasta que el JIT la compila, y
+ *    después tiene un coste fijo que se resta (overhead);
+ *  - el JIT sigue compilando en segundo plano un rato después del
+ *    calentamiento (más en máquinas lentas) y el cambio de versión deja
+ *    alguna reserva suelta: warmUp() repite el tramo hasta que deja de
+ *    compilar;
+ *  - si el bucle que mide está en la prueba, el JIT lo compila a mitad
+ *    de medición (OSR): bytesOf() mide en un método propio ya caliente.
+ */
+public final class AllocationCounter {
+
+    private static final long QUIET_NANOS      = 300_000_000L;    // tiempo seguido sin compilar
+    private static final long MAX_WARMUP_NANOS = 10_000_000_000L; // tope si nunca se calma
+
+    // Se obtienen una sola vez: buscar el bean en cada medición también reserva memoria
+    private static final java.lang.management.ThreadMXBean BEAN = ManagementFactory.getThreadMXBean();
+    private static final CompilationMXBean JIT = ManagementFactory.getCompilationMXBean();
+
+    private static long overhead = 0;
+
+    private AllocationCounter() {}
+
+    /** Bytes reservados por el hilo actual, o -1 si la JVM no lo soporta */
+    public static long allocatedBytes() {
+        if (BEAN instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean) BEAN;
+            if (sun.isThreadAllocatedMemorySupported() && sun.isThreadAllocatedMemoryEnabled()) {
+                return sun.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    /** false si la JVM no cuenta las reservas por hilo (nada que medir) */
+    public static boolean isSupported() {
+        return allocatedBytes() >= 0;
+    }
+
+    /**
+     * Calienta la medición y el tramo (carga de clases, JIT) hasta que el
+     * compilador lleva QUIET_NANOS sin trabajar, y mide el coste de la
+     * propia lectura. Se cuenta en tiempo y no en tramos: la cola del JIT
+     * avanza a su ritmo, no al de la prueba.
+     */
+    public static void warmUp(Runnable chunk) {
+        for (int i = 0; i < 200_000; i++) allocatedBytes();
+        boolean timed = JIT != null && JIT.isCompilationTimeMonitoringSupported();
+        long start = System.nanoTime(), quietSince = start;
+        long lastJitMillis = -1;
+        for (long now = start; now - quietSince < QUIET_NANOS && now - start < MAX_WARMUP_NANOS; ) {
+            bytesOf(chunk);
+            long jitMillis = timed ? JIT.getTotalCompilationTime() : 0;
+            now = System.nanoTime();
+            if (jitMillis != lastJitMillis) quietSince = now;
+            lastJitMillis = jitMillis;
+        }
+        overhead = 0;
+        overhead = bytesOf(() -> { });
+    }
+
+    /** Bytes reservados al ejecutar 'chunk', descontado el coste de medir */
+    public static long bytesOf(Runnable chunk) {
+        long before = allocatedBytes();
+        chunk.run();
+        return Math.max(0, allocatedBytes() - before - overhead);
+    }
+}
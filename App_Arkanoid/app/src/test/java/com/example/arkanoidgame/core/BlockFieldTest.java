@@ -0,0 +1,126 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del almacenamiento de bloques en arrays paralelos:
+ * bitset de vivos, contador de destructibles y reutilización entre niveles.
+ */
+public class BlockFieldTest {
+
+    private static BlockField fieldOf(int[][] layout) {
+        BlockField f = new BlockField();
+        LevelManager lm = new LevelManager() {
+            @Override public int[][] getCurrentLayout() { return layout; }
+        };
+        lm.populate(f);
+        f.place(0, 0, 10, 5, 12, 7);
+        return f;
+    }
+
+    @Test
+    public void populateCountsLiveAndDestructibleBlocks() {
+        BlockField f = fieldOf(new int[][]{
+                { 1, 0, 9 },
+                { 5, 0, 2 },
+        });
+        assertEquals(2, f.getRows());
+        assertEquals(3, f.getCols());
+        assertEquals(4, f.getLiveCount());
+        assertEquals(3, f.getDestructibleLeft());
+        assertFalse(f.isAlive(1));
+        assertTrue(f.isSteel(2));
+        assertEquals(24f, f.left(2), 0f);
+        assertEquals(7f, f.top(3), 0f);
+        assertEquals(34f, f.right(2), 0f);
+    }
+
+    @Test
+    public void hitDamagesDestroysAndIgnoresSteel() {
+        BlockField f = fieldOf(new int[][]{ { 5, 9, 1 } });
+        assertEquals(BlockField.HIT_DAMAGED, f.hit(0));
+        assertTrue(f.isDamaged(0));
+        assertEquals(BlockField.HIT_DESTROYED, f.hit(0));
+        assertFalse(f.isAlive(0));
+        assertEquals(BlockField.HIT_STEEL, f.hit(1));
+        assertTrue(f.isAlive(1));
+        assertFalse(f.allDestroyed());
+        assertEquals(BlockField.HIT_DESTROYED, f.hit(2));
+        assertTrue(f.allDestroyed());
+        assertEquals(1, f.getLiveCount()); // queda el acero
+    }
+
+    @Test
+    public void nextAliveWalksBitsetAcrossWords() {
+        int[][] layout = new int[10][20]; // 200 bloques → 4 palabras de 64 bits
+        layout[0][0]  = 1;
+        layout[3][3]  = 2;  // índice 63
+        layout[3][4]  = 2;  // índice 64
+        layout[9][19] = 9;  // índice 199
+        BlockField f = fieldOf(layout);
+        int[] expected = { 0, 63, 64, 199 };
+        int k = 0;
+        for (int i = f.nextAlive(0); i >= 0; i = f.nextAlive(i + 1)) {
+            assertEquals(expected[k++], i);
+        }
+        assertEquals(expected.length, k);
+    }
+
+    @Test
+    public void resetReusesStorageForSmallerLevels() {
+        BlockField f = fieldOf(new int[][]{ { 1, 1, 1, 1 }, { 1, 1, 1, 1 } });
+        f.reset(1, 2);
+        assertEquals(0, f.getLiveCount());
+        assertEquals(-1, f.nextAlive(0));
+        f.setType(1, 3);
+        assertEquals(1, f.nextAlive(0));
+        assertEquals(1, f.getDestructibleLeft());
+    }
+
+    @Test
+    public void hitsMarkBlocksDirtyUntilCleared() {
+        BlockField f = fieldOf(new int[][]{ { 5, 9, 1 } });
+        assertFalse(f.hasDirty());          // recién cargado: nada que repintar
+
+        f.hit(1);                           // el acero no cambia de aspecto
+        assertFalse(f.hasDirty());
+
+        f.hit(0);                           // dañado
+        f.hit(2);                           // destruido
+        assertEquals(0, f.nextDirty(0));
+        assertEquals(2, f.nextDirty(1));
+        assertEquals(-1, f.nextDirty(3));
+
+        f.clearDirty();
+        assertFalse(f.hasDirty());
+        f.hit(0);
+        assertEquals(0, f.nextDirty(0));
+        f.reset(1, 3);
+        assertFalse(f.hasDirty());
+    }
+
+    @Test
+    public void copyFromMarksBlocksThatChangedSinceLastCopy() {
+        BlockField world = fieldOf(new int[][]{ { 5, 1, 9, 1 } });
+        BlockField shown = new BlockField();
+        shown.copyFrom(world);                 // primera copia: otra forma, sin marcas
+        assertFalse(shown.hasDirty());
+        assertEquals(4, shown.getLiveCount());
+        assertEquals(34f, shown.right(2), 0f);
+
+        world.hit(0);                          // dañado
+        world.hit(1);                          // destruido
+        world.hit(3);
+        BlockField middle = new BlockField();  // una copia intermedia que nadie lee
+        middle.copyFrom(world);
+        shown.copyFrom(middle);
+        assertEquals(0, shown.nextDirty(0));
+        assertEquals(1, shown.nextDirty(1));
+        assertEquals(3, shown.nextDirty(2));   // el acero no ha cambiado
+        assertTrue(shown.isDamaged(0));
+        assertFalse(shown.isAlive(1));
+        assertEquals(world.getDestructibleLeft(), shown.getDestructibleLeft());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * La rejilla debe encontrar exactamente los mismos bloques que el
+ * recorrido completo de Block[][] que hacía GameView.update().
+ */
+public class BlockGridTest {
+
+    /** Rejilla regular como la de GameWorld.initBlocks(): bloque + hueco por celda */
+    static BlockField layoutBlocks(int cols, int rows, float blockW, float blockH, float gap) {
+        BlockField blocks = new BlockField();
+        blocks.reset(rows, cols);
+        for (int i = 0; i < rows * cols; i++) blocks.setType(i, 1);
+        blocks.place(10, 50, blockW, blockH, blockW + gap, blockH + gap);
+        return blocks;
+    }
+
+    @Test
+    public void queryMatchesFullScan() {
+        int cols = 32, rows = 20;
+        float bw = 30, bh = 12, gap = 4;
+        BlockField blocks = layoutBlocks(cols, rows, bw, bh, gap);
+        BlockGrid grid = new BlockGrid(10, 50, bw + gap, bh + gap, cols, rows);
+        grid.build(blocks);
+        int[] out = new int[blocks.size()];
+
+        Random rnd = new Random(42);
+        for (int q = 0; q < 5_000; q++) {
+            int l = rnd.nextInt(1200) - 50, t = rnd.nextInt(500) - 50;
+            Aabb box = new Aabb(l, t, l + 5 + rnd.nextInt(60), t + 5 + rnd.nextInt(60));
+
+            int n = grid.query(box.left, box.top, box.right, box.bottom, out);
+            boolean[] found = new boolean[blocks.size()];
+            for (int i = 0; i < n; i++) {
+                assertFalse("sin duplicados", found[out[i]]);
+                found[out[i]] = true;
+            }
+            for (int id = 0; id < blocks.size(); id++) {
+                if (Aabb.overlaps(box.left, box.top, box.right, box.bottom,
+                        blocks.left(id), blocks.top(id), blocks.right(id), blocks.bottom(id))) {
+                    assertTrue("bloque " + id + " omitido", found[id]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void deadBlocksAreNotIndexed() {
+        BlockField blocks = layoutBlocks(4, 2, 20, 10, 2);
+        blocks.setType(1, BlockField.TYPE_EMPTY);
+        BlockGrid grid = new BlockGrid(10, 50, 22, 12, 4, 2);
+        grid.build(blocks);
+        int[] out = new int[blocks.size()];
+        int n = grid.query(0, 0, 1000, 1000, out);
+        assertEquals(7, n);
+        for (int i = 0; i < n; i++) assertTrue(out[i] != 1);
+    }
+
+    @Test
+    public void resultsAreInRowMajorOrder() {
+        BlockField blocks = layoutBlocks(8, 5, 20, 10, 2);
+        BlockGrid grid = new BlockGrid(10, 50, 22, 12, 8, 5);
+        grid.build(blocks);
+        int[] out = new int[blocks.size()];
+        int n = grid.query(0, 0, 1000, 1000, out);
+        assertEquals(40, n);
+        for (int i = 0; i < n; i++) assertEquals(i, out[i]);
+    }
+
+    @Test
+    public void queryOutsideGridIsEmpty() {
+        BlockField blocks = layoutBlocks(8, 5, 20, 10, 2);
+        BlockGrid grid = new BlockGrid(10, 50, 22, 12, 8, 5);
+        grid.build(blocks);
+        assertEquals(0, grid.query(0, 900, 50, 950, new int[blocks.size()]));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del almacén de explosiones: animación, compactación y reciclaje.
+ */
+public class ExplosionPoolTest {
+
+    private static final float STEP = 1f / 60f;
+
+    @Test
+    public void explosionLastsTwelveStepsAt60Hz() {
+        ExplosionPool pool = new ExplosionPool(4);
+        pool.start(10, 20);
+        for (int i = 0; i < 11; i++) pool.update(STEP);
+        assertEquals(1, pool.size());
+        assertEquals(2, pool.getFrame(0));
+        pool.update(STEP);
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void finishedExplosionsAreCompactedBySwap() {
+        ExplosionPool pool = new ExplosionPool(4);
+        pool.start(1, 1);
+        for (int i = 0; i < 6; i++) pool.update(STEP);
+        pool.start(2, 2);
+        pool.start(3, 3);
+        for (int i = 0; i < 6; i++) pool.update(STEP); // termina la primera
+        assertEquals(2, pool.size());
+        // El hueco 0 lo ocupa la última activa y también se ha actualizado
+        assertEquals(3f, pool.getX(0), 0f);
+        assertEquals(2f, pool.getX(1), 0f);
+        assertEquals(1, pool.getFrame(0));
+    }
+
+    @Test
+    public void fullPoolRecyclesMostAdvancedExplosion() {
+        ExplosionPool pool = new ExplosionPool(2);
+        pool.start(1, 1);
+        for (int i = 0; i < 5; i++) pool.update(STEP);
+        pool.start(2, 2);
+        pool.start(3, 3);
+        assertEquals(2, pool.size());
+        assertEquals(1, pool.getRecycledCount());
+        assertEquals(3, pool.getStartedCount());
+        assertEquals(3f, pool.getX(0), 0f);   // ocupó el hueco de la más avanzada
+        assertEquals(0, pool.getFrame(0));
+    }
+
+    @Test
+    public void churnDoesNotAllocate() {
+        ExplosionPool pool = new ExplosionPool(16);
+        if (!AllocationCounter.isSupported()) return; // JVM sin soporte: nada que medir
+        Runnable churn = () -> {
+            for (int i = 0; i < 1_000; i++) {
+                if (i % 3 == 0) pool.start(i, i);
+                pool.update(STEP);
+            }
+        };
+        AllocationCounter.warmUp(churn);
+        long bytes = 0;
+        for (int i = 0; i < 100; i++) bytes += AllocationCounter.bytesOf(churn);
+        assertEquals(0, bytes);
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del núcleo de juego sin Android: reglas, vidas, niveles
+ * y una simulación larga con el piloto automático.
+ */
+public class GameWorldTest {
+
+    private static final int   W    = 1080;
+    private static final int   H    = 1920;
+    private static final float STEP = 1f / 60f;
+
+    /** Cuenta los eventos emitidos por el mundo */
+    private static class Counter implements GameEvents {
+        int destroyed, levels, gameOvers, ballsLost;
+        @Override public void onBlockDestroyed(int block)  { destroyed++; }
+        @Override public void onLevelLoaded(int levelNumber) { levels++; }
+        @Override public void onGameOver(int score)        { gameOvers++; }
+        @Override public void onBallLost(int livesLeft)    { ballsLost++; }
+    }
+
+    @Test
+    public void startsWaitingAndTapLaunchesBall() {
+        GameWorld world = new GameWorld(W, H, STEP);
+        Input input = new Input();
+        float y0 = world.getBall().getY();
+
+        world.step(input);
+        assertEquals(GameState.WAITING, world.getState());
+        assertEquals(y0, world.getBall().getY(), 0f);
+
+        input.tap = true;
+        world.step(input);
+        assertEquals(GameState.PLAYING, world.getState());
+        assertTrue(world.getBall().getY() < y0);
+    }
+
+    @Test
+    public void missedBallCostsLivesUntilGameOver() {
+        GameWorld world = new GameWorld(W, H, STEP);
+        Counter counter = new Counter();
+        world.setEvents(counter);
+        Input input = new Input();
+
+        // Paleta pegada a la izquierda: la pelota sale hacia la derecha y se pierde
+        for (int i = 0; i < 10_000 && world.getState() != GameState.GAME_OVER; i++) {
+            input.clear();
+            input.tap = world.getState() == GameState.WAITING;
+            input.moveTo(0);
+            world.step(input);
+        }
+        assertEquals(GameState.GAME_OVER, world.getState());
+        assertEquals(0, world.getLives());
+        assertEquals(GameWorld.INITIAL_LIVES, counter.ballsLost);
+        assertEquals(1, counter.gameOvers);
+
+        // Tocar en GAME_OVER reinicia la partida
+        input.clear();
+        input.tap = true;
+        world.step(input);
+        assertEquals(GameState.WAITING, world.getState());
+        assertEquals(GameWorld.INITIAL_LIVES, world.getLives());
+        assertEquals(0, world.getScore());
+    }
+
+    @Test
+    public void paddleFollowsInputWithinScreen() {
+        GameWorld world = new GameWorld(W, H, STEP);
+        Input input = new Input();
+        input.moveTo(-500);
+        world.step(input);
+        assertEquals(0f, world.getPaddle().getX(), 0f);
+        input.moveTo(W + 500);
+        world.step(input);
+        assertEquals(W - world.getPaddle().getWidth(), world.getPaddle().getX(), 0f);
+    }
+
+    @Test
+    public void soakRunKeepsInvariantsAndDestroysBlocks() {
+        GameWorld world = new GameWorld(W, H, STEP);
+        Counter counter = new Counter();
+        world.setEvents(counter);
+        Autopilot pilot = new Autopilot();
+        Input input = new Input();
+
+        int lastScore = 0;
+        for (int i = 0; i < 200_000; i++) {
+            pilot.fill(world, input);
+            world.step(input);
+            assertTrue(world.getLives() >= 0 && world.getLives() <= GameWorld.INITIAL_LIVES);
+            if (world.getState() != GameState.WAITING || world.getScore() != 0) {
+                assertTrue("la puntuación no baja dentro de una partida",
+                        world.getScore() >= lastScore || world.getScore() == 0);
+            }
+            lastScore = world.getScore();
+        }
+        assertTrue(counter.destroyed > 0);
+        assertEquals(200_000, world.getFrame());
+    }
+
+    @Test
+    public void batchRunAdvancesRequestedSteps() {
+        GameWorld world = new GameWorld(W, H, STEP);
+        Input input = new Input();
+        input.tap = true;
+        assertEquals(500, world.run(input, 500));
+        assertEquals(500, world.getFrame());
+        assertFalse(input.tap);
+    }
+
+    /** Mundo de un solo nivel con todas las casillas ocupadas */
+    private static GameWorld singleLevel(int w, int h, int rows, int cols) {
+        int[][] layout = new int[rows][cols];
+        for (int[] row : layout) java.util.Arrays.fill(row, 1);
+        return new GameWorld(w, h, STEP, new LevelManager(new LevelSource() {
+            @Override public int getLevelCount()           { return 1; }
+            @Override public int[][] loadLayout(int index) { return layout; }
+        }));
+    }
+
+    @Test
+    public void tallWallShrinksToStayAboveBallAndPaddle() {
+        GameWorld world = singleLevel(W, H, LevelSource.MAX_ROWS, 8);
+
+        BlockField blocks = world.getBlocks();
+        float wallBottom = blocks.bottom(blocks.size() - 1);
+        float ballTop = world.getBall().getY() - W / 30f; // radio de la pelota
+        assertTrue("el muro tapa la salida de la pelota: " + wallBottom, wallBottom < ballTop);
+        assertTrue(wallBottom < world.getPaddle().getY());
+        assertTrue("bloques demasiado finos: " + blocks.getBlockHeight(), blocks.getBlockHeight() >= H / 100f);
+        for (int r = 1; r < LevelSource.MAX_ROWS; r++) {  // filas sin solaparse
+            assertTrue(blocks.top(r * 8) >= blocks.bottom((r - 1) * 8));
+        }
+
+        // Los niveles de serie conservan el tamaño de siempre
+        assertEquals(H / 20, new GameWorld(W, H, STEP).getBlocks().getBlockHeight(), 0f);
+    }
+
+    @Test
+    public void prefetchedLevelMatchesSynchronousLoad() {
+        GameWorld sync = new GameWorld(W, H, STEP);
+        GameWorld pre  = new GameWorld(W, H, STEP);
+        int[] preparedLevel = { 0 };
+        pre.setLevelPrefetcher(Runnable::run, (level, blocks) -> preparedLevel[0] = level);
+        assertEquals(2, preparedLevel[0]);
+
+        sync.startLevel(2);
+        pre.startLevel(2);
+        assertEquals(1, pre.getPrefetchedLoads());
+        assertEquals(3, preparedLevel[0]);           // y ya prepara el siguiente
+
+        BlockField a = sync.getBlocks(), b = pre.getBlocks();
+        assertEquals(a.size(), b.size());
+        assertEquals(a.getLiveCount(), b.getLiveCount());
+        assertEquals(a.getDestructibleLeft(), b.getDestructibleLeft());
+        for (int i = 0; i < a.size(); i++) {
+            assertEquals(a.isAlive(i), b.isAlive(i));
+            assertEquals(a.left(i), b.left(i), 0f);
+            assertEquals(a.bottom(i), b.bottom(i), 0f);
+        }
+
+        // Misma partida con y sin precarga
+        Autopilot pilot = new Autopilot();
+        Input input = new Input();
+        for (int i = 0; i < 20_000; i++) {
+            pilot.fill(sync, input);
+            sync.step(input);
+            pilot.fill(pre, input);
+            pre.step(input);
+        }
+        assertEquals(sync.getScore(), pre.getScore());
+        assertEquals(sync.getLevelSerial(), pre.getLevelSerial());
+        assertEquals(sync.getBall().getCenterX(), pre.getBall().getCenterX(), 0f);
+        assertTrue(pre.getPrefetchedLoads() > 1);      // cambios de nivel jugando
+    }
+
+    @Test
+    public void widestWallFitsANarrowScreen() {
+        int narrowW = 240;
+        BlockField blocks = singleLevel(narrowW, 400, 3, LevelSource.MAX_COLS).getBlocks();
+        assertTrue(blocks.getBlockWidth() >= 1);
+        assertTrue(blocks.right(LevelSource.MAX_COLS - 1) <= narrowW);
+
+        // Sin el límite de LevelPack los bloques salen de pantalla, pero el nivel carga
+        blocks = singleLevel(narrowW, 400, 1, 255).getBlocks();
+        assertEquals(1f, blocks.getBlockWidth(), 0f);
+    }
+
+    @Test
+    public void failedPrefetchFallsBackToSynchronousLoad() {
+        int[] failures = { 1 }; // la primera carga del nivel 2 falla
+        GameWorld world = new GameWorld(W, H, STEP, new LevelManager(new LevelSource() {
+            @Override public int getLevelCount() { return LevelManager.BUILTIN.getLevelCount(); }
+            @Override public int[][] loadLayout(int index) {
+                if (index == 1 && failures[0]-- > 0) throw new IllegalStateException("lectura fallida");
+                return LevelManager.BUILTIN.loadLayout(index);
+            }
+        }));
+        world.setLevelPrefetcher(Runnable::run, null); // falla sin propagar la excepción
+        world.startLevel(2);
+        assertEquals(0, world.getPrefetchedLoads());
+        assertEquals(LevelManager.BUILTIN.loadLayout(1).length, world.getBlocks().getRows());
+    }
+
+    @Test
+    public void stalePrefetchIsIgnored() {
+        GameWorld world = new GameWorld(W, H, STEP);
+        world.setLevelPrefetcher(Runnable::run, null);  // prepara el nivel 2
+        world.startLevel(4);
+        assertEquals(0, world.getPrefetchedLoads());
+        assertEquals(4, world.getLevelManager().getCurrentLevelNumber());
+        assertTrue(world.getBlocks().isSteel(2 * 8 + 2)); // casilla de acero del nivel 4
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas de la cola de entrada entre el UI thread y la simulación.
+ */
+public class InputQueueTest {
+
+    @Test
+    public void drainAppliesTapAndLastMove() {
+        InputQueue q = new InputQueue(8);
+        q.offer(InputQueue.TYPE_MOVE, 100, 0);
+        q.offer(InputQueue.TYPE_TAP, 120, 0);
+        q.offer(InputQueue.TYPE_MOVE, 300, 0);
+        Input in = new Input();
+        assertEquals(3, q.drain(in, 0));
+        assertTrue(in.tap);
+        assertTrue(in.movePaddle);
+        assertEquals(300f, in.paddleCenterX, 0f);
+        assertEquals(0, q.size());
+
+        in.clear();
+        assertEquals(0, q.drain(in, 0));
+        assertFalse(in.tap);
+        assertFalse(in.movePaddle);
+    }
+
+    @Test
+    public void fullQueueDropsNewEvents() {
+        InputQueue q = new InputQueue(3);          // se redondea a 4
+        assertEquals(4, q.capacity());
+        for (int i = 0; i < 4; i++) assertTrue(q.offer(InputQueue.TYPE_MOVE, i, 0));
+        assertFalse(q.offer(InputQueue.TYPE_MOVE, 99, 0));
+        assertEquals(1, q.getDroppedCount());
+
+        Input in = new Input();
+        q.drain(in, 0);
+        assertEquals(3f, in.paddleCenterX, 0f);    // el descartado era el 99
+        assertTrue(q.offer(InputQueue.TYPE_MOVE, 5, 0)); // hay hueco otra vez (y da la vuelta)
+    }
+
+    @Test
+    public void measuresLatencyFromEventTimestamp() {
+        InputQueue q = new InputQueue();
+        q.offer(InputQueue.TYPE_TAP, 0, 1_000);
+        q.offer(InputQueue.TYPE_MOVE, 0, 4_000);
+        q.drain(new Input(), 10_000);
+        assertEquals(6_000, q.getLastLatencyNanos());
+        assertEquals(9_000, q.getMaxLatencyNanos());
+        assertEquals(7_500, q.getAverageLatencyNanos());
+        assertEquals(2, q.getConsumedCount());
+    }
+
+    @Test
+    public void concurrentProducerEventsArriveInOrder() throws Exception {
+        final InputQueue q = new InputQueue(256);
+        final int total = 100_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 1; i <= total; ) {
+                if (q.offer(InputQueue.TYPE_MOVE, i, 0)) i++;
+                else Thread.yield();
+            }
+        });
+        producer.start();
+
+        Input in = new Input();
+        float last = 0;
+        while (last < total) {
+            in.clear();
+            if (q.drain(in, 0) > 0) {
+                assertTrue("orden roto", in.paddleCenterX > last);
+                last = in.paddleCenterX;
+            }
+        }
+        producer.join();
+        assertEquals(total, q.getConsumedCount());
+    }
+}
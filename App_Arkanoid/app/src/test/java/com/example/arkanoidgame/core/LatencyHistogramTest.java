@@ -0,0 +1,63 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del histograma logarítmico y del informe de métricas.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void everyValueFallsInsideItsBucket() {
+        long[] samples = { 0, 1, 7, 8, 9, 15, 16, 17, 1_000, 16_666_667, 1L << 40 };
+        for (long v : samples) {
+            int b = LatencyHistogram.bucketOf(v);
+            assertTrue(v + " por encima de su cubo", v <= LatencyHistogram.bucketUpperBound(b));
+            if (b > 0) assertTrue(v + " en un cubo demasiado alto", v > LatencyHistogram.bucketUpperBound(b - 1));
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void percentilesWithinOneEighth() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) h.record(i * 1_000L); // 1 µs .. 1 ms
+        assertEquals(1000, h.getCount());
+        assertEquals(1_000_000, h.getMax());
+        assertEquals(1_000, h.getMin());
+        assertEquals(500_500, h.getMean());
+        assertNear(500_000, h.percentile(0.50));
+        assertNear(950_000, h.percentile(0.95));
+        assertNear(990_000, h.percentile(0.99));
+        assertEquals(1_000_000, h.percentile(1.0));     // nunca más que el máximo real
+    }
+
+    private static void assertNear(long expected, long actual) {
+        assertTrue("esperado ~" + expected + ", obtenido " + actual,
+                actual >= expected && actual <= expected + expected / 8);
+    }
+
+    @Test
+    public void metricsCountJankAgainstBudget() throws Exception {
+        FrameMetrics m = new FrameMetrics(16_000_000);
+        m.record(FrameMetrics.PHASE_FRAME, 16_000_000);
+        m.record(FrameMetrics.PHASE_FRAME, 20_000_000);  // jank
+        m.record(FrameMetrics.PHASE_FRAME, 40_000_000);  // jank grave
+        m.record(FrameMetrics.PHASE_UPDATE, 300_000);
+        assertEquals(2, m.getJankFrames());
+        assertEquals(1, m.getSevereJankFrames());
+
+        StringBuilder report = new StringBuilder();
+        m.writeReport(report);
+        assertTrue(report.toString(), report.indexOf("frame        3") >= 0);
+        assertTrue(report.toString(), report.indexOf("jank 2  severe 1") >= 0);
+
+        m.setEnabled(false);
+        m.record(FrameMetrics.PHASE_FRAME, 99_000_000);
+        assertEquals(3, m.get(FrameMetrics.PHASE_FRAME).getCount());
+        m.reset();
+        assertEquals(0, m.get(FrameMetrics.PHASE_UPDATE).getCount());
+    }
+}
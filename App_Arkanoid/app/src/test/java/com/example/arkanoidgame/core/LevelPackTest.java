@@ -0,0 +1,152 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del paquete binario de niveles y de la caché de LevelManager.
+ */
+public class LevelPackTest {
+
+    private static byte[] pack(int[][]... layouts) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LevelPack.write(out, layouts);
+        return out.toByteArray();
+    }
+
+    /** Nivel de prueba distinto para cada índice, con tamaño variable */
+    private static int[][] generated(int index) {
+        int rows = 1 + index % 7, cols = 1 + index % 13;
+        int[][] layout = new int[rows][cols];
+        for (int r = 0; r < rows; r++)
+            for (int c = 0; c < cols; c++)
+                layout[r][c] = (index + r * 3 + c) % 10;
+        return layout;
+    }
+
+    @Test
+    public void roundTripKeepsEveryCell() throws IOException {
+        int[][][] layouts = new int[50][][];
+        for (int i = 0; i < layouts.length; i++) layouts[i] = generated(i);
+        LevelPack p = LevelPack.read(new ByteArrayInputStream(pack(layouts)));
+
+        assertEquals(50, p.getLevelCount());
+        for (int i = 0; i < layouts.length; i++) {
+            assertArrayEquals("nivel " + i, layouts[i], p.loadLayout(i));
+        }
+    }
+
+    @Test
+    public void builtinLevelsPackToFourBitsPerCell() throws IOException {
+        int n = LevelManager.BUILTIN.getLevelCount();
+        int[][][] layouts = new int[n][][];
+        for (int i = 0; i < n; i++) layouts[i] = LevelManager.BUILTIN.loadLayout(i);
+        // cabecera + índice + (filas, columnas, 40 celdas / 2) por nivel
+        assertEquals(12 + 4 * n + 22 * n, pack(layouts).length);
+    }
+
+    @Test
+    public void mappedFileDecodesLazily() throws IOException {
+        int[][][] layouts = new int[2000][][];
+        for (int i = 0; i < layouts.length; i++) layouts[i] = generated(i);
+        File file = File.createTempFile("levels", ".arkp");
+        file.deleteOnExit();
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            LevelPack.write(out, layouts);
+        }
+
+        LevelManager lm = new LevelManager(LevelPack.map(file));
+        assertEquals(2000, lm.getTotalLevels());
+        assertEquals(0, lm.getDecodeCount());
+
+        for (int i = 0; i < 10; i++) {
+            assertArrayEquals(layouts[i], lm.getCurrentLayout());
+            lm.getCurrentLayout();              // acierto de caché
+            lm.nextLevel();
+        }
+        assertEquals(10, lm.getDecodeCount());
+        assertEquals(LevelManager.DEFAULT_CACHE_SIZE, lm.getCachedLevelCount());
+    }
+
+    @Test
+    public void lastLevelWrapsToFirst() throws IOException {
+        LevelManager lm = new LevelManager(LevelPack.wrap(ByteBuffer.wrap(pack(generated(1), generated(2)))));
+        lm.nextLevel();
+        assertTrue(lm.isLastLevel());
+        lm.nextLevel();
+        assertEquals(1, lm.getCurrentLevelNumber());
+        assertArrayEquals(generated(1), lm.getCurrentLayout());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsForeignData() throws IOException {
+        LevelPack.wrap(ByteBuffer.wrap("PK\u0003\u0004 not a level pack".getBytes("UTF-8")));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTruncatedIndex() throws IOException {
+        byte[] bytes = pack(generated(1), generated(2), generated(3));
+        LevelPack.wrap(ByteBuffer.wrap(bytes, 0, 16).slice());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTypesThatDoNotFitFourBits() throws IOException {
+        pack(new int[][]{ { 1, 16 } });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsWallsTallerThanTheScreenFits() throws IOException {
+        pack(new int[LevelSource.MAX_ROWS + 1][4]);
+    }
+
+    /** Paquete de un nivel escrito a mano (write() no escribe niveles inválidos) */
+    private static ByteBuffer rawLevel(int rows, int cols, int bodyBytes) {
+        ByteBuffer b = ByteBuffer.allocate(12 + 4 + 2 + bodyBytes);
+        b.putInt(0x41524B50).putShort((short) 1).putShort((short) 0).putInt(1).putInt(16);
+        b.put((byte) rows).put((byte) cols);
+        return ByteBuffer.wrap(b.array());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsPackedLevelWithTooManyRowsOnOpen() throws IOException {
+        int rows = LevelSource.MAX_ROWS + 1;
+        LevelPack.wrap(rawLevel(rows, 2, rows));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTruncatedLevelBodyOnOpen() throws IOException {
+        LevelPack.wrap(rawLevel(5, 8, 19)); // 5×8 necesita 20 bytes
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsPackedLevelWithTooManyColumnsOnOpen() throws IOException {
+        int cols = LevelSource.MAX_COLS + 1;
+        LevelPack.wrap(rawLevel(1, cols, (cols + 1) / 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsWallsWiderThanTheScreenFits() throws IOException {
+        pack(new int[2][LevelSource.MAX_COLS + 1]);
+    }
+
+    @Test
+    public void damagedLastLevelRejectsTheWholePack() throws IOException {
+        byte[] bytes = pack(generated(1), generated(2), generated(6));
+        try {
+            LevelPack.read(new ByteArrayInputStream(bytes, 0, bytes.length - 1));
+            fail("paquete con el último nivel cortado aceptado");
+        } catch (IOException expected) {
+            // bien: se detecta al abrir, no al llegar al nivel
+        }
+        // El mismo nivel escrito a mano, con todas sus celdas, sí se abre
+        assertEquals(5, LevelPack.wrap(rawLevel(5, 8, 20)).loadLayout(0).length);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del banco de sonidos y del mezclador PCM.
+ */
+public class PcmMixerTest {
+
+    private static final int RATE = 48_000;
+
+    private static short[] constant(int length, int value) {
+        short[] s = new short[length];
+        java.util.Arrays.fill(s, (short) value);
+        return s;
+    }
+
+    private static SoundBank bank() {
+        return new SoundBank(RATE, 99L, new short[][]{
+                constant(300, 1000), constant(100, 20_000), new short[0]
+        });
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // MEZCLADOR
+    // ════════════════════════════════════════════════════════════════════
+
+    @Test
+    public void voicesAreSummedAndEnd() {
+        PcmMixer mixer = new PcmMixer(bank(), 4, 256);
+        short[] out = new short[256];
+        mixer.start(0, 1f);
+        mixer.start(0, 0.5f);
+        assertEquals(2, mixer.mix(out, 0, 256));
+        assertEquals(1500, out[0]);
+        assertEquals(1500, out[255]);
+        // Quedan 44 frames de cada voz; después, silencio y voces libres
+        mixer.mix(out, 0, 256);
+        assertEquals(1500, out[43]);
+        assertEquals(0, out[44]);
+        assertEquals(0, mixer.activeVoices());
+    }
+
+    @Test
+    public void loudVoicesClipInsteadOfWrapping() {
+        PcmMixer mixer = new PcmMixer(bank(), 4, 64);
+        short[] out = new short[64];
+        mixer.start(1, 1f);
+        mixer.start(1, 1f);
+        mixer.mix(out, 0, 64);
+        assertEquals(Short.MAX_VALUE, out[0]);
+        assertEquals(64, mixer.getClippedSamples());
+    }
+
+    @Test
+    public void stopAndStealing() {
+        PcmMixer mixer = new PcmMixer(bank(), 2, 64);
+        short[] out = new short[64];
+        int first = mixer.start(0, 1f);
+        mixer.mix(out, 0, 10);
+        int second = mixer.start(0, 1f);
+        // Sin voz libre: se corta la más avanzada (la primera)
+        int third = mixer.start(1, 1f);
+        assertTrue(third != 0);
+        mixer.stop(first); // ya no suena: no hace nada
+        assertEquals(2, mixer.activeVoices());
+        mixer.stop(second);
+        assertEquals(1, mixer.activeVoices());
+        assertEquals("muestra vacía: no ocupa voz", 0, mixer.start(2, 1f));
+    }
+
+    @Test
+    public void steadyMixDoesNotAllocate() {
+        if (!AllocationCounter.isSupported()) return; // JVM sin soporte: nada que medir
+        PcmMixer mixer = new PcmMixer(bank(), 6, 256);
+        short[] out = new short[256];
+        Runnable buffers = () -> {
+            for (int i = 0; i < 1_000; i++) {
+                if (i % 3 == 0) mixer.start(i % 2, 0.7f);
+                mixer.mix(out, 0, 256);
+            }
+        };
+        AllocationCounter.warmUp(buffers); // carga de clases, JIT
+
+        long total = 0;
+        for (int chunk = 0; chunk < 50; chunk++) total += AllocationCounter.bytesOf(buffers);
+        assertEquals("bytes reservados en 50 000 mezclas", 0, total);
+    }
+
+    // ════════════════════════════════════════════════════════════════════
+    // BANCO DE SONIDOS
+    // ════════════════════════════════════════════════════════════════════
+
+    private static byte[] encode(SoundBank bank) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bank.write(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void bankRoundTrip() throws IOException {
+        SoundBank bank = new SoundBank(RATE, 7L, new short[][]{
+                { 1, -2, 300, Short.MIN_VALUE }, new short[0], { Short.MAX_VALUE }
+        });
+        byte[] data = encode(bank);
+        assertEquals(18 + 3 * 4 + 2 * 5 + 4, data.length);
+        SoundBank read = SoundBank.read(new ByteArrayInputStream(data), RATE, 7L);
+        assertEquals(3, read.size());
+        assertArrayEquals(bank.getSample(0), read.getSample(0));
+        assertEquals(0, read.getSample(1).length);
+        assertArrayEquals(bank.getSample(2), read.getSample(2));
+    }
+
+    @Test
+    public void staleOrDamagedBankIsRejected() throws IOException {
+        byte[] data = encode(bank());
+        try {
+            SoundBank.read(new ByteArrayInputStream(data), RATE, 98L);
+            fail("clave distinta aceptada");
+        } catch (IOException expected) {
+            // bien
+        }
+        try {
+            SoundBank.read(new ByteArrayInputStream(data), 44_100, 99L);
+            fail("frecuencia distinta aceptada");
+        } catch (IOException expected) {
+            // bien
+        }
+        byte[] bad = data.clone();
+        bad[40] ^= 1;
+        try {
+            SoundBank.read(new ByteArrayInputStream(bad), RATE, 99L);
+            fail("PCM alterado aceptado");
+        } catch (IOException expected) {
+            // bien
+        }
+    }
+
+    @Test
+    public void pcmPreparation() {
+        short[] stereo = { 100, 300, -50, -150, 8, 8 };
+        assertArrayEquals(new short[]{ 200, -100, 8 }, SoundBank.toMono(stereo, 6, 2));
+
+        short[] ramp = new short[441];
+        for (int i = 0; i < ramp.length; i++) ramp[i] = (short) (i * 10);
+        short[] up = SoundBank.resample(ramp, 44_100, 48_000);
+        assertEquals(480, up.length);
+        assertEquals(0, up[0]);
+        assertEquals(4400, up[479], 10); // la rampa llega al mismo sitio
+
+        short[] tail = { 500, -400, 3, -2, 0, 1 };
+        assertArrayEquals(new short[]{ 500, -400 }, SoundBank.trimSilence(tail, 3));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas de la grabación y repetición determinista de partidas.
+ */
+public class ReplayTest {
+
+    private static final int W = 1080, H = 1920;
+
+    /** Juega 'steps' pasos con el piloto automático grabando la entrada */
+    private static ReplayRecorder play(GameWorld world, int steps, int checksumInterval) {
+        ReplayRecorder recorder = new ReplayRecorder(world, 42L, checksumInterval);
+        Autopilot pilot = new Autopilot(0.3f);
+        Input input = new Input();
+        for (int i = 0; i < steps; i++) {
+            pilot.fill(world, input);
+            if (i % 7 != 0) input.movePaddle = false; // como un dedo: no hay movimiento en cada paso
+            recorder.record(input);
+            world.step(input);
+            recorder.stepped();
+        }
+        return recorder;
+    }
+
+    private static Replay roundTrip(Replay replay) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        return Replay.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    public void replayReproducesTheRecordedGame() throws IOException {
+        GameWorld world = new GameWorld(W, H, 1f / 60);
+        Replay replay = roundTrip(play(world, 20_000, 60).finish());
+        assertEquals(20_000, replay.getFrameCount());
+        assertEquals(20_000 / 60, replay.getChecksumCount());
+        assertEquals(42L, replay.getSeed());
+
+        ReplayPlayer player = new ReplayPlayer(replay, new LevelManager());
+        ReplayPlayer.Result result = player.run();
+        assertTrue("diverge en el paso " + result.firstMismatchFrame, result.matched());
+        assertEquals(replay.getChecksumCount(), result.checksumsVerified);
+        assertEquals(Replay.checksum(world), Replay.checksum(player.getWorld()));
+        assertEquals(world.getScore(), player.getWorld().getScore());
+    }
+
+    @Test
+    public void inputIsCompact() {
+        GameWorld world = new GameWorld(W, H, 1f / 60);
+        ReplayRecorder recorder = play(world, 6_000, 60);
+        // Un movimiento cada 7 pasos: bastante menos de 4 bytes por evento
+        assertTrue(recorder.getInputBytes() < 6_000 / 7 * 4);
+    }
+
+    @Test
+    public void divergenceIsDetected() throws IOException {
+        GameWorld world = new GameWorld(W, H, 1f / 60);
+        Replay replay = play(world, 3_000, 30).finish();
+        // Otro juego de niveles: mismo número y forma de niveles, distintos bloques
+        int[][][] layouts = new int[world.getLevelManager().getTotalLevels()][5][8];
+        for (int[][] layout : layouts) for (int[] row : layout) java.util.Arrays.fill(row, 5);
+        ByteArrayOutputStream pack = new ByteArrayOutputStream();
+        LevelPack.write(pack, layouts);
+        LevelManager other = new LevelManager(LevelPack.read(new ByteArrayInputStream(pack.toByteArray())));
+
+        ReplayPlayer.Result result = new ReplayPlayer(replay, other).run();
+        assertFalse(result.matched());
+        assertTrue(result.firstMismatchFrame > 0);
+    }
+
+    @Test
+    public void runToStopsAtTheRequestedFrame() {
+        GameWorld world = new GameWorld(W, H, 1f / 60);
+        ReplayRecorder recorder = new ReplayRecorder(world, 7L, 10);
+        Input input = new Input();
+        Autopilot pilot = new Autopilot();
+        for (int i = 0; i < 500; i++) {
+            pilot.fill(world, input);
+            recorder.record(input);
+            world.step(input);
+            recorder.stepped();
+        }
+        int atFrame500 = Replay.checksum(world);
+        // Evento de un paso que no ha terminado: no entra en la repetición
+        pilot.fill(world, input);
+        recorder.record(input);
+        Replay replay = recorder.finish();
+        assertEquals(500, replay.getFrameCount());
+
+        ReplayPlayer player = new ReplayPlayer(replay, new LevelManager());
+        player.runTo(250);
+        assertEquals(250, player.getFrame());
+        player.runTo(10_000);
+        assertEquals(500, player.getFrame());
+        assertEquals(atFrame500, Replay.checksum(player.getWorld()));
+    }
+
+    @Test
+    public void recordedPositionIsQuantized() {
+        GameWorld world = new GameWorld(W, H, 1f / 60);
+        ReplayRecorder recorder = new ReplayRecorder(world, 0L);
+        Input input = new Input();
+        input.moveTo(123.4567f);
+        recorder.record(input);
+        assertEquals(123.4375f, input.paddleCenterX, 0f); // 1975 / 16
+    }
+
+    @Test(expected = IOException.class)
+    public void garbageIsRejected() throws IOException {
+        Replay.read(new ByteArrayInputStream(new byte[64]));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas de la partida guardada: tamaño, ida y vuelta y ficheros dañados.
+ */
+public class SaveStateTest {
+
+    private static final int W = 1080, H = 1920;
+
+    /** Mundo a mitad de partida: algunos bloques rotos y la pelota en vuelo */
+    private static GameWorld midGame(int steps) {
+        GameWorld world = new GameWorld(W, H, 1f / 60);
+        Autopilot pilot = new Autopilot(0.3f);
+        Input input = new Input();
+        for (int i = 0; i < steps; i++) {
+            pilot.fill(world, input);
+            world.step(input);
+        }
+        return world;
+    }
+
+    @Test
+    public void stockLevelFitsInTensOfBytes() {
+        byte[] data = SaveState.encode(new GameWorld(W, H, 1f / 60));
+        assertEquals(55, data.length);
+        assertEquals(SaveState.encodedSize(5, 8), data.length);
+    }
+
+    @Test
+    public void restoredWorldContinuesIdentically() throws IOException {
+        GameWorld world = midGame(4_000);
+        assertTrue("debe haber bloques rotos", world.getBlocks().getLiveCount() < world.getBlocks().size());
+        byte[] data = SaveState.encode(world);
+
+        GameWorld restored = new GameWorld(W, H, 1f / 60);
+        SaveState.decode(data).applyTo(restored, false);
+        assertEquals(Replay.checksum(world), Replay.checksum(restored));
+        assertEquals(world.getBlocks().getDestructibleLeft(), restored.getBlocks().getDestructibleLeft());
+        assertEquals(world.getBlocksDestroyed(), restored.getBlocksDestroyed());
+
+        // Misma entrada a partir de aquí → misma partida
+        Autopilot a = new Autopilot(0.3f), b = new Autopilot(0.3f);
+        Input ia = new Input(), ib = new Input();
+        for (int i = 0; i < 3_000; i++) {
+            a.fill(world, ia);
+            b.fill(restored, ib);
+            ib.moveTo(ia.paddleCenterX); // el piloto cambia de lado según el frame, que no se guarda
+            world.step(ia);
+            restored.step(ib);
+        }
+        assertEquals(Replay.checksum(world), Replay.checksum(restored));
+    }
+
+    @Test
+    public void playingGameComesBackWaitingForTap() throws IOException {
+        GameWorld world = midGame(600);
+        assertEquals(GameState.PLAYING, world.getState());
+        SaveState saved = SaveState.decode(SaveState.encode(world));
+        assertEquals(GameState.PLAYING, saved.getState());
+
+        GameWorld restored = new GameWorld(W, H, 1f / 60);
+        saved.applyTo(restored, true);
+        assertEquals(GameState.WAITING, restored.getState());
+        assertEquals(world.getBall().getVx(), restored.getBall().getVx(), 0f);
+        assertEquals(world.getScore(), restored.getScore());
+    }
+
+    @Test
+    public void corruptedDataIsRejected() {
+        byte[] data = SaveState.encode(midGame(1_000));
+        for (int i = 0; i < data.length; i++) {
+            byte[] bad = data.clone();
+            bad[i] ^= 0x10;
+            try {
+                SaveState.decode(bad);
+                fail("byte " + i + " alterado y aceptado");
+            } catch (IOException expected) {
+                // bien
+            }
+        }
+        try {
+            SaveState.decode(java.util.Arrays.copyOf(data, data.length - 1));
+            fail("fichero truncado aceptado");
+        } catch (IOException expected) {
+            // bien
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void levelWithAnotherShapeIsRejected() throws IOException {
+        byte[] data = SaveState.encode(new GameWorld(W, H, 1f / 60));
+        LevelManager other = new LevelManager(new LevelSource() {
+            @Override public int getLevelCount()           { return 1; }
+            @Override public int[][] loadLayout(int index) { return new int[][]{ {1, 1, 1} }; }
+        });
+        SaveState.decode(data).applyTo(new GameWorld(W, H, 1f / 60, other), true);
+    }
+}
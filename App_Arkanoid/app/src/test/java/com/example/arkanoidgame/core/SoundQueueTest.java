@@ -0,0 +1,157 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas de la cola de sonidos: fusión, prioridad, límite y robo de voces.
+ */
+public class SoundQueueTest {
+
+    private static final long MS = 1_000_000L;
+    private static final int LOW = 0, MID = 1, HIGH = 2;
+
+    /** Reproductor falso que apunta lo que suena y lo que se corta */
+    private static final class FakePlayer implements SoundQueue.Player {
+        final List<Integer> played  = new ArrayList<>();
+        final List<Integer> stopped = new ArrayList<>();
+        int nextStream = 1;
+        boolean failing = false; // simula una muestra aún sin cargar
+
+        @Override public int play(int sound, float volume, int priority) {
+            if (failing) return 0;
+            played.add(sound);
+            return nextStream++;
+        }
+
+        @Override public void stop(int streamId) {
+            stopped.add(streamId);
+        }
+    }
+
+    private static SoundQueue queue(int voices) {
+        SoundQueue q = new SoundQueue(3, voices, 8);
+        q.configure(LOW,  0, 1f, 0, 100 * MS);
+        q.configure(MID,  1, 1f, 0, 100 * MS);
+        q.configure(HIGH, 2, 1f, 0, 100 * MS);
+        return q;
+    }
+
+    @Test
+    public void duplicatesInAStepAreMerged() {
+        SoundQueue q = queue(4);
+        FakePlayer player = new FakePlayer();
+        for (int i = 0; i < 5; i++) q.post(MID);
+        assertTrue(q.endStep());
+        assertEquals(1, q.dispatch(0, player));
+        assertEquals(1, player.played.size());
+        assertEquals(5, q.getPostedCount());
+        assertEquals(4, q.getMergedCount());
+        assertFalse("paso sin sonidos: nada que publicar", q.endStep());
+    }
+
+    @Test
+    public void lateBatchesAreMergedAndPlayedByPriority() {
+        SoundQueue q = queue(4);
+        FakePlayer player = new FakePlayer();
+        q.post(LOW);
+        q.endStep();
+        q.post(HIGH);
+        q.post(LOW);
+        q.endStep();
+        assertEquals(2, q.dispatch(0, player));
+        assertEquals(HIGH, (int) player.played.get(0));
+        assertEquals(LOW, (int) player.played.get(1));
+        assertEquals(1, q.getMergedCount());
+    }
+
+    @Test
+    public void rateLimitSkipsRepeats() {
+        SoundQueue q = new SoundQueue(1, 4, 8);
+        q.configure(0, 0, 1f, 50 * MS, 10 * MS);
+        FakePlayer player = new FakePlayer();
+        long[] times = { 0, 20 * MS, 49 * MS, 50 * MS, 60 * MS };
+        for (long t : times) {
+            q.post(0);
+            q.endStep();
+            q.dispatch(t, player);
+        }
+        assertEquals(2, player.played.size()); // en 0 y en 50 ms
+        assertEquals(3, q.getRateLimitedCount());
+    }
+
+    @Test
+    public void importantSoundStealsTheLeastImportantVoice() {
+        SoundQueue q = queue(2);
+        FakePlayer player = new FakePlayer();
+        q.post(LOW);
+        q.post(MID);
+        q.endStep();
+        q.dispatch(0, player);               // streams 1 (MID) y 2 (LOW)
+        assertEquals(2, q.activeVoices(0));
+
+        q.post(HIGH);
+        q.endStep();
+        q.dispatch(10 * MS, player);
+        assertEquals(1, q.getStolenCount());
+        assertEquals(Integer.valueOf(2), player.stopped.get(0)); // se corta LOW
+        assertEquals(2, q.activeVoices(10 * MS));
+
+        // Un sonido poco importante no roba: se descarta
+        q.post(LOW);
+        q.endStep();
+        q.dispatch(20 * MS, player);
+        assertEquals(1, q.getNoVoiceCount());
+        assertEquals(3, player.played.size());
+
+        // Terminadas las voces, vuelve a haber sitio
+        q.post(LOW);
+        q.endStep();
+        q.dispatch(200 * MS, player);
+        assertEquals(4, player.played.size());
+    }
+
+    @Test
+    public void failedPlayDoesNotStealAVoice() {
+        SoundQueue q = queue(1);
+        FakePlayer player = new FakePlayer();
+        q.post(LOW);
+        q.endStep();
+        q.dispatch(0, player);                // stream 1 (LOW)
+
+        player.failing = true;
+        q.post(HIGH);
+        q.endStep();
+        assertEquals(0, q.dispatch(10 * MS, player));
+        assertTrue("la voz robada no se corta si el nuevo no suena", player.stopped.isEmpty());
+        assertEquals(0, q.getStolenCount());
+        assertEquals(1, q.activeVoices(10 * MS));
+
+        player.failing = false;
+        q.post(HIGH);
+        q.endStep();
+        assertEquals(1, q.dispatch(20 * MS, player));
+        assertEquals(Integer.valueOf(1), player.stopped.get(0));
+        assertEquals(1, q.getStolenCount());
+    }
+
+    @Test
+    public void fullQueueDropsTheNewestBatch() {
+        SoundQueue q = queue(4);
+        for (int i = 0; i < 8; i++) {
+            q.post(LOW);
+            assertTrue(q.endStep());
+        }
+        q.post(HIGH);
+        assertFalse(q.endStep());
+        assertEquals(1, q.getDroppedBatchCount());
+        FakePlayer player = new FakePlayer();
+        q.dispatch(0, player);
+        assertEquals(1, player.played.size());
+        assertEquals(LOW, (int) player.played.get(0));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del arranque por etapas: estados, fallos, espera e informe.
+ */
+public class StartupPipelineTest {
+
+    @Test
+    public void stageIsReadyAfterItsTaskRuns() {
+        StartupPipeline startup = new StartupPipeline(Runnable::run);
+        int[] loaded = new int[1];
+        StartupPipeline.Stage stage = startup.stage("level", () -> loaded[0] = 7);
+        assertTrue(stage.isReady());
+        assertFalse(stage.isFailed());
+        assertEquals(7, loaded[0]);
+        assertTrue(stage.getDurationNanos() >= 0);
+        assertTrue(startup.allReady());
+    }
+
+    @Test
+    public void failingTaskIsRecorded() {
+        StartupPipeline startup = new StartupPipeline(Runnable::run);
+        startup.stage("scores", () -> { });
+        StartupPipeline.Stage sound = startup.stage("sound", () -> {
+            throw new IllegalStateException("sin audio");
+        });
+        assertTrue(sound.isFailed());
+        assertTrue(sound.isDone());
+        assertFalse(sound.isReady());
+        assertEquals("sin audio", sound.getError().getMessage());
+        assertFalse(startup.allReady());
+    }
+
+    @Test
+    public void stagesRunInParallelAndCanBeAwaited() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            StartupPipeline startup = new StartupPipeline(pool);
+            CountDownLatch release = new CountDownLatch(1);
+            StartupPipeline.Stage slow = startup.stage("assets", () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            StartupPipeline.Stage fast = startup.stage("level", () -> { });
+            // La etapa rápida no espera a la lenta
+            assertTrue(fast.await(5, TimeUnit.SECONDS));
+            assertTrue(fast.isReady());
+            assertFalse(slow.isDone());
+            assertEquals(-1, slow.getDurationNanos());
+
+            release.countDown();
+            assertTrue(slow.await(5, TimeUnit.SECONDS));
+            assertTrue(startup.allReady());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void reportListsStagesAndMilestones() throws IOException {
+        StartupPipeline startup = new StartupPipeline(Runnable::run);
+        startup.stage("level", () -> { });
+        startup.stage("sound", () -> { throw new IllegalStateException("sin audio"); });
+        assertEquals(-1, startup.getMilestoneNanos("firstFrame"));
+        startup.mark("firstFrame");
+        long first = startup.getMilestoneNanos("firstFrame");
+        assertTrue(first >= 0);
+        startup.mark("firstFrame"); // solo cuenta la primera vez
+        assertEquals(first, startup.getMilestoneNanos("firstFrame"));
+
+        StringBuilder report = new StringBuilder();
+        startup.writeReport(report);
+        String text = report.toString();
+        assertTrue(text.contains("level"));
+        assertTrue(text.contains("ready"));
+        assertTrue(text.contains("FAILED: java.lang.IllegalStateException: sin audio"));
+        assertTrue(text.contains("firstFrame"));
+        assertEquals(4, text.split("\n").length); // cabecera + 2 etapas + 1 hito
+    }
+}
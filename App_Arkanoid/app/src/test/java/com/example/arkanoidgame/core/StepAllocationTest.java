@@ -0,0 +1,54 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Un paso de simulación en régimen estable no debe reservar memoria:
+ * se mide con el contador de bytes reservados por hilo (AllocationCounter).
+ * Los tramos en los que se carga un nivel (que sí crea entidades) se ignoran.
+ */
+public class StepAllocationTest {
+
+    private static final int CHUNK  = 1_000;
+    private static final int CHUNKS = 200;
+
+    private static class LevelCounter implements GameEvents {
+        int loads;
+        @Override public void onLevelLoaded(int levelNumber) { loads++; }
+    }
+
+    @Test
+    public void steadyStateStepDoesNotAllocate() {
+        if (!AllocationCounter.isSupported()) return; // JVM sin soporte: nada que medir
+
+        GameWorld world = new GameWorld(1080, 1920, 1f / 60f);
+        LevelCounter counter = new LevelCounter();
+        world.setEvents(counter);
+        Autopilot pilot = new Autopilot();
+        Input input = new Input();
+
+        Runnable steps = () -> {
+            for (int i = 0; i < CHUNK; i++) {
+                pilot.fill(world, input);
+                world.step(input);
+            }
+        };
+        AllocationCounter.warmUp(steps); // carga de clases, JIT
+
+        long total = 0;
+        int measured = 0;
+        for (int chunk = 0; chunk < CHUNKS; chunk++) {
+            int loadsBefore = counter.loads;
+            long bytes = AllocationCounter.bytesOf(steps);
+            if (counter.loads == loadsBefore) {
+                total += bytes;
+                measured++;
+            }
+        }
+
+        assertTrue("pocos tramos sin cambio de nivel: " + measured, measured > CHUNKS / 2);
+        assertEquals("bytes reservados en " + measured * CHUNK + " pasos", 0, total);
+    }
+}
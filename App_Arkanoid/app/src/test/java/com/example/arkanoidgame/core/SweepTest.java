@@ -0,0 +1,83 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del barrido círculo-caja: instante de impacto, cara correcta
+ * y ausencia de "túneles" a velocidades altas.
+ */
+public class SweepTest {
+
+    private final Sweep.Contact c = new Sweep.Contact();
+
+    @Test
+    public void fastBallHitsThinBlockInsteadOfTunnelling() {
+        // Bloque de 4 px de alto; la pelota recorre 400 px en un solo paso
+        assertTrue(Sweep.circleVsAabb(50, 300, 5, 0, -400, 0, 100, 100, 104, c));
+        assertEquals((300 - 5 - 104) / 400f, c.t, 1e-4f);
+        assertEquals(0f, c.nx, 0f);
+        assertEquals(1f, c.ny, 0f);  // golpe por debajo → rebota hacia abajo
+    }
+
+    @Test
+    public void sideHitReportsHorizontalNormal() {
+        assertTrue(Sweep.circleVsAabb(0, 120, 5, 100, 0, 50, 100, 150, 140, c));
+        assertEquals(-1f, c.nx, 0f);
+        assertEquals(0f, c.ny, 0f);
+        assertEquals(45 / 100f, c.t, 1e-4f);
+    }
+
+    @Test
+    public void cornerHitUsesRoundedCorner() {
+        // Trayectoria diagonal que solo roza la esquina superior izquierda
+        assertTrue(Sweep.circleVsAabb(0, 0, 5, 100, 100, 50, 50, 100, 100, c));
+        float k = (float) Math.sqrt(0.5);
+        assertEquals(-k, c.nx, 1e-3f);
+        assertEquals(-k, c.ny, 1e-3f);
+        // Pasa junto a la esquina sin tocar el círculo redondeado
+        assertFalse(Sweep.circleVsAabb(40, 0, 5, 0, 100, 50, 50, 100, 100, c));
+        assertFalse(Sweep.circleVsAabb(46.5f, 46.5f, 5, -10, -10, 50, 50, 100, 100, c));
+    }
+
+    @Test
+    public void missesWhenMovingAwayOrTooShort() {
+        assertFalse(Sweep.circleVsAabb(50, 300, 5, 0, 400, 0, 100, 100, 104, c));
+        assertFalse(Sweep.circleVsAabb(50, 300, 5, 0, -10, 0, 100, 100, 104, c));
+    }
+
+    @Test
+    public void overlapOnlyCountsWhenMovingInwards() {
+        // Centro dentro de la caja engordada, entrando por la cara izquierda
+        assertTrue(Sweep.circleVsAabb(48, 75, 5, 3, 0, 50, 50, 100, 100, c));
+        assertEquals(0f, c.t, 0f);
+        assertEquals(-1f, c.nx, 0f);
+        // Mismo solape pero saliendo: no hay contacto (evita quedarse pegada)
+        assertFalse(Sweep.circleVsAabb(48, 75, 5, -3, 0, 50, 50, 100, 100, c));
+    }
+
+    @Test
+    public void worldBallNeverEndsStepInsideBlocksAtHighSpeed() {
+        GameWorld world = new GameWorld(1080, 1920, 1f / 60f);
+        world.getBall().increaseSpeed(6000f); // ~6700 px/s: > 100 px por paso
+        Autopilot pilot = new Autopilot();
+        Input input = new Input();
+        for (int i = 0; i < 20_000; i++) {
+            pilot.fill(world, input);
+            world.step(input);
+            Ball ball = world.getBall();
+            float r = ball.getRadius();
+            assertTrue(ball.getCenterX() >= r - 0.01f && ball.getCenterX() <= 1080 - r + 0.01f);
+            assertTrue(ball.getY() >= r - 0.01f);
+            BlockField blocks = world.getBlocks();
+            for (int b = blocks.nextAlive(0); b >= 0; b = blocks.nextAlive(b + 1)) {
+                float nx = Math.max(blocks.left(b), Math.min(ball.getCenterX(), blocks.right(b)));
+                float ny = Math.max(blocks.top(b),  Math.min(ball.getY(),       blocks.bottom(b)));
+                float ddx = ball.getCenterX() - nx, ddy = ball.getY() - ny;
+                assertTrue("pelota dentro de un bloque en el paso " + i,
+                        ddx * ddx + ddy * ddy >= r * r * 0.98f);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del grabador de trazas y de su exportación a JSON de Chrome.
+ */
+public class TraceRecorderTest {
+
+    @Test
+    public void disabledRecorderRecordsNothing() {
+        TraceRecorder trace = new TraceRecorder("sim", 1);
+        trace.begin("update");
+        trace.end();
+        assertEquals(0, trace.size());
+    }
+
+    @Test
+    public void nestedSectionsKeepDepthAndForwardToSink() throws Exception {
+        List<String> calls = new ArrayList<>();
+        TraceRecorder trace = new TraceRecorder("sim", 1, 8, new TraceRecorder.Sink() {
+            @Override public void beginSection(String name) { calls.add("B " + name); }
+            @Override public void endSection()              { calls.add("E"); }
+        });
+        trace.setEnabled(true);
+        trace.begin("update");
+        trace.begin("collide.blocks");
+        trace.end();
+        trace.end();
+
+        assertEquals(2, trace.size());
+        assertEquals("[B update, B collide.blocks, E, E]", calls.toString());
+        String json = export(trace);
+        assertTrue(json, json.contains("\"name\":\"collide.blocks\",\"ph\":\"X\""));
+        assertTrue(json, json.contains("\"args\":{\"depth\":1}"));
+        assertTrue(json, json.contains("\"args\":{\"name\":\"sim\"}"));
+    }
+
+    @Test
+    public void ringKeepsNewestSections() throws Exception {
+        TraceRecorder trace = new TraceRecorder("sim", 1, 4, null);
+        trace.setEnabled(true);
+        String[] names = { "s0", "s1", "s2", "s3", "s4", "s5" };
+        for (String name : names) {
+            trace.begin(name);
+            trace.end();
+        }
+        assertEquals(4, trace.size());
+        assertEquals(6, trace.getWrittenCount());
+        String json = export(trace);
+        assertFalse(json.contains("\"s1\""));
+        assertTrue(json.contains("\"s2\""));
+        assertTrue(json.indexOf("\"s4\"") < json.indexOf("\"s5\""));
+    }
+
+    @Test
+    public void sectionOpenWhenDisabledStillCloses() {
+        TraceRecorder trace = new TraceRecorder("sim", 1, 4, null);
+        trace.setEnabled(true);
+        trace.begin("update");
+        trace.setEnabled(false);
+        trace.end();
+        trace.end(); // sin sección abierta: no hace nada
+        assertEquals(1, trace.size());
+    }
+
+    @Test
+    public void headlessRunExportsCollisionPasses() throws Exception {
+        GameWorld world = new GameWorld(1080, 1920, 1f / 60);
+        TraceRecorder trace = new TraceRecorder("simulation", 1);
+        trace.setEnabled(true);
+        world.setTrace(trace);
+        Autopilot pilot = new Autopilot();
+        Input input = new Input();
+        for (int i = 0; i < 600; i++) {
+            input.clear();
+            pilot.fill(world, input);
+            world.step(input);
+        }
+        String json = export(trace);
+        assertTrue(json.startsWith("{\"traceEvents\":["));
+        assertTrue(json.trim().endsWith("\"displayTimeUnit\":\"ms\"}"));
+        for (String name : new String[]{ "moveBall", "collide.walls", "collide.paddle", "collide.blocks" }) {
+            assertTrue(name, json.contains("\"name\":\"" + name + "\""));
+        }
+    }
+
+    private static String export(TraceRecorder... recorders) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        TraceRecorder.writeChromeJson(sb, recorders);
+        return sb.toString();
+    }
+}
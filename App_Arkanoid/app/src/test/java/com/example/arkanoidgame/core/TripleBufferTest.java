@@ -0,0 +1,68 @@
+package com.example.arkanoidgame.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del intercambio sin bloqueos entre simulación y render.
+ */
+public class TripleBufferTest {
+
+    /** Estado de prueba: dos copias del mismo valor para detectar lecturas a medias */
+    private static final class Cell {
+        long a, b;
+    }
+
+    @Test
+    public void readerSeesOnlyLatestPublishedState() {
+        TripleBuffer<Cell> buf = new TripleBuffer<>(Cell::new);
+        assertFalse(buf.acquire());            // nada publicado todavía
+
+        buf.back().a = 1;
+        buf.publish();
+        buf.back().a = 2;
+        buf.publish();                         // el 1 se pierde: el lector solo ve el último
+        assertTrue(buf.acquire());
+        assertEquals(2, buf.front().a);
+        assertFalse(buf.acquire());            // sin publicaciones nuevas, front no cambia
+        assertEquals(2, buf.front().a);
+    }
+
+    @Test
+    public void writerNeverGetsTheReadersObject() {
+        TripleBuffer<Cell> buf = new TripleBuffer<>(Cell::new);
+        for (int i = 0; i < 10; i++) {
+            buf.back().a = i;
+            buf.publish();
+            if (i % 3 == 0) buf.acquire();
+            assertNotSame(buf.front(), buf.back());
+        }
+    }
+
+    @Test
+    public void concurrentReaderNeverSeesTornOrOlderStates() throws Exception {
+        final TripleBuffer<Cell> buf = new TripleBuffer<>(Cell::new);
+        final long last = 2_000_000;
+        Thread writer = new Thread(() -> {
+            for (long v = 1; v <= last; v++) {
+                Cell c = buf.back();
+                c.a = v;
+                c.b = v;
+                buf.publish();
+            }
+        });
+        writer.start();
+
+        long seen = 0;
+        while (seen < last) {
+            if (buf.acquire()) {
+                Cell c = buf.front();
+                assertEquals("estado a medio escribir", c.a, c.b);
+                assertTrue("estado más viejo que el anterior", c.a > seen);
+                seen = c.a;
+            }
+        }
+        writer.join();
+    }
+}
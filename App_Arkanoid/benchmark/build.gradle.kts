@@ -0,0 +1,47 @@
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+// Benchmarks JMH de la lógica pura del juego (paquete core, sin Android).
+// Compila directamente las fuentes de core del módulo app, así que mide
+// exactamente el mismo código que se empaqueta en el APK.
+//
+//   ./gradlew :benchmark:jmh                               todas las suites
+//   ./gradlew :benchmark:jmh -Pjmh.includes=Collision      solo una
+//   ./gradlew :benchmark:jmh -Pjmh.includes=Replay -Pjmh.replay=replay.arkr
+//                                                          repetir una partida exportada
+//
+// Resultados en JSON (para comparar entre commits):
+//   benchmark/build/results/jmh/results.json
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8" // comentarios en castellano
+}
+
+sourceSets {
+    main {
+        java {
+            srcDir("../app/src/main/java")
+            include("com/example/arkanoidgame/core/**")
+        }
+    }
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    (project.findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+    (project.findProperty("jmh.replay") as String?)?.let {
+        benchmarkParameters.put("replayFile", project.objects.listProperty<String>().value(listOf(file(it).absolutePath)))
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.arkanoidgame.benchmark;
+
+import com.example.arkanoidgame.core.Aabb;
+import com.example.arkanoidgame.core.BlockField;
+import com.example.arkanoidgame.core.BlockGrid;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BroadphaseBenchmark — Recorrido completo de bloques frente a la
+ * consulta a BlockGrid, para rejillas de tamaño creciente.
+ *
+ * El coste del recorrido completo crece con filas × columnas; el de la
+ * rejilla se mantiene constante. Cada operación es una consulta con la
+ * pelota en una posición distinta de la zona de bloques.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BroadphaseBenchmark {
+
+    @Param({ "8x5", "16x10", "32x20", "64x40" })
+    public String grid;
+
+    private BlockField blocks;
+    private BlockGrid blockGrid;
+    private int[] out;
+    private final Aabb ball = new Aabb();
+    private int query;
+
+    @Setup
+    public void setUp() {
+        int cols = Integer.parseInt(grid.substring(0, grid.indexOf('x')));
+        int rows = Integer.parseInt(grid.substring(grid.indexOf('x') + 1));
+        float bw = 1000f / cols, bh = 400f / rows;
+
+        // Rejilla regular como la de GameWorld.initBlocks(): bloque + hueco por celda
+        blocks = new BlockField();
+        blocks.reset(rows, cols);
+        for (int i = 0; i < rows * cols; i++) blocks.setType(i, 1);
+        blocks.place(10, 50, bw - 2, bh - 2, bw, bh);
+
+        blockGrid = new BlockGrid(10, 50, bw, bh, cols, rows);
+        blockGrid.build(blocks);
+        out = new int[blocks.size()];
+    }
+
+    /** Siguiente posición de la pelota: recorre la zona de bloques */
+    private void nextBall() {
+        int i = query++;
+        ball.setCentered(10 + (i * 37) % 1000, 40 + (i * 13) % 420, 15, 15);
+    }
+
+    @Benchmark
+    public int fullScan() {
+        nextBall();
+        int hits = 0;
+        for (int b = 0; b < blocks.size(); b++)
+            if (blocks.isAlive(b) && overlaps(b)) hits++;
+        return hits;
+    }
+
+    @Benchmark
+    public int gridQuery() {
+        nextBall();
+        int hits = 0;
+        int n = blockGrid.query(ball.left, ball.top, ball.right, ball.bottom, out);
+        for (int k = 0; k < n; k++) {
+            int b = out[k];
+            if (blocks.isAlive(b) && overlaps(b)) hits++;
+        }
+        return hits;
+    }
+
+    private boolean overlaps(int b) {
+        return Aabb.overlaps(ball.left, ball.top, ball.right, ball.bottom,
+                blocks.left(b), blocks.top(b), blocks.right(b), blocks.bottom(b));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.arkanoidgame.benchmark;
+
+import com.example.arkanoidgame.core.Autopilot;
+import com.example.arkanoidgame.core.GameState;
+import com.example.arkanoidgame.core.GameWorld;
+import com.example.arkanoidgame.core.Input;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CollisionBenchmark — Un paso de física (pelota contra paredes, paleta
+ * y bloques) en cada nivel de LevelManager y a varias velocidades.
+ *
+ * El piloto automático mantiene la pelota en juego. Si se completa el
+ * nivel se vuelve a cargar el mismo, para medir siempre su distribución.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollisionBenchmark {
+
+    @Param({ "1", "2", "3", "4", "5" })
+    public int level;
+
+    @Param({ "720", "1440", "2880" })   // px/s: normal, doble, cuádruple
+    public float ballSpeed;
+
+    private final Autopilot pilot = new Autopilot();
+    private final Input input = new Input();
+    private GameWorld world;
+    private int levelSerial;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = Worlds.create();
+        restart();
+    }
+
+    private void restart() {
+        Worlds.startPlaying(world, level, ballSpeed, input);
+        levelSerial = world.getLevelSerial();
+    }
+
+    @Benchmark
+    public int step() {
+        if (world.getLevelSerial() != levelSerial) {
+            restart();                                     // nivel completado o partida perdida
+        } else if (world.getState() == GameState.WAITING) {
+            Worlds.relaunch(world, ballSpeed, input);      // pelota perdida
+        }
+        pilot.fill(world, input);
+        world.step(input);
+        return world.getScore();
+    }
+}
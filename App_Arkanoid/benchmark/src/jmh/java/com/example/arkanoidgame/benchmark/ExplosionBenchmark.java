@@ -0,0 +1,50 @@
+package com.example.arkanoidgame.benchmark;
+
+import com.example.arkanoidgame.core.ExplosionPool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExplosionBenchmark — Altas y bajas continuas en el pool de explosiones
+ * (lo que antes hacía SpriteSheet.update()): cada operación lanza
+ * 'burst' explosiones y avanza un paso. Con burst alto el pool se llena
+ * y se reciclan las más antiguas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExplosionBenchmark {
+
+    @Param({ "1", "4", "16" })
+    public int burst;
+
+    @Param({ "32", "128" })
+    public int capacity;
+
+    private ExplosionPool pool;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        pool = new ExplosionPool(capacity);
+        next = 0;
+    }
+
+    @Benchmark
+    public int churn() {
+        for (int i = 0; i < burst; i++, next++) {
+            pool.start((next * 37) % Worlds.WIDTH, (next * 13) % (Worlds.HEIGHT / 3));
+        }
+        pool.update(Worlds.STEP);
+        return pool.size();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.arkanoidgame.benchmark;
+
+import com.example.arkanoidgame.core.GameWorld;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LevelInitBenchmark — Carga de un nivel: volcado del layout en
+ * BlockField, colocación de los bloques, construcción de BlockGrid y
+ * entidades nuevas. Con -prof gc se ven además las reservas por carga.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LevelInitBenchmark {
+
+    @Param({ "1", "2", "3", "4", "5" })
+    public int level;
+
+    private GameWorld world;
+
+    @Setup
+    public void setUp() {
+        world = Worlds.create();
+    }
+
+    @Benchmark
+    public int load() {
+        world.startLevel(level);
+        return world.getBlocks().size();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.arkanoidgame.benchmark;
+
+import com.example.arkanoidgame.core.PcmMixer;
+import com.example.arkanoidgame.core.SoundBank;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MixerBenchmark — Lo que hace el hilo de audio en cada bloque: mezclar
+ * 'voices' voces sonando en un bloque de 256 frames. Las muestras son
+ * ruido de un segundo a 48 kHz, así que las voces no terminan a mitad
+ * de la medida; cuando una acaba se vuelve a lanzar.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MixerBenchmark {
+
+    private static final int RATE = 48_000;
+    private static final int BLOCK = 256;
+
+    @Param({ "1", "6", "15" })
+    public int voices;
+
+    private PcmMixer mixer;
+    private final short[] out = new short[BLOCK];
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(1);
+        short[][] samples = new short[5][RATE];
+        for (short[] s : samples) {
+            for (int i = 0; i < s.length; i++) s[i] = (short) (rnd.nextInt(16_000) - 8_000);
+        }
+        mixer = new PcmMixer(new SoundBank(RATE, 0L, samples), voices, BLOCK);
+    }
+
+    @Benchmark
+    public short mixBlock() {
+        for (int v = mixer.activeVoices(); v < voices; v++) mixer.start(v % 5, 0.8f);
+        mixer.mix(out, 0, BLOCK);
+        return out[BLOCK - 1];
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.arkanoidgame.benchmark;
+
+import com.example.arkanoidgame.core.Autopilot;
+import com.example.arkanoidgame.core.GameWorld;
+import com.example.arkanoidgame.core.Input;
+import com.example.arkanoidgame.core.LevelManager;
+import com.example.arkanoidgame.core.LevelPack;
+import com.example.arkanoidgame.core.Replay;
+import com.example.arkanoidgame.core.ReplayPlayer;
+import com.example.arkanoidgame.core.ReplayRecorder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReplayBenchmark — Repite una partida entera sin pantalla: carga de
+ * trabajo real y fija para la simulación. Cada repetición comprueba
+ * además sus sumas de control, así que un cambio que altere la física
+ * hace fallar el benchmark en lugar de medir otra partida.
+ *
+ * Sin replayFile se graba una partida con el piloto automático; con él se
+ * repite una exportada desde el juego (files/replay.arkr), con el paquete
+ * de niveles levelPack si no se grabó con los de serie.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReplayBenchmark {
+
+    private static final int RECORDED_STEPS = 30_000; // ~8 minutos de juego a 60 Hz
+
+    @Param({ "" })
+    public String replayFile;
+
+    @Param({ "" })
+    public String levelPack;
+
+    private Replay replay;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if (replayFile.isEmpty()) {
+            replay = record();
+        } else {
+            try (InputStream in = new BufferedInputStream(new FileInputStream(replayFile))) {
+                replay = Replay.read(in);
+            }
+        }
+    }
+
+    private static Replay record() {
+        GameWorld world = Worlds.create();
+        ReplayRecorder recorder = new ReplayRecorder(world, 0L);
+        Autopilot pilot = new Autopilot();
+        Input input = new Input();
+        for (int i = 0; i < RECORDED_STEPS; i++) {
+            pilot.fill(world, input);
+            recorder.record(input);
+            world.step(input);
+            recorder.stepped();
+        }
+        return recorder.finish();
+    }
+
+    private LevelManager levels() throws IOException {
+        return levelPack.isEmpty() ? new LevelManager() : new LevelManager(LevelPack.map(new File(levelPack)));
+    }
+
+    @Benchmark
+    public int replay() throws IOException {
+        ReplayPlayer.Result result = new ReplayPlayer(replay, levels()).run();
+        if (!result.matched()) {
+            throw new IllegalStateException("la repetición diverge en el paso " + result.firstMismatchFrame);
+        }
+        return result.frames;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.arkanoidgame.benchmark;
+
+import com.example.arkanoidgame.core.Autopilot;
+import com.example.arkanoidgame.core.BlockField;
+import com.example.arkanoidgame.core.ExplosionPool;
+import com.example.arkanoidgame.core.FrameSnapshot;
+import com.example.arkanoidgame.core.GameEvents;
+import com.example.arkanoidgame.core.GameState;
+import com.example.arkanoidgame.core.GameWorld;
+import com.example.arkanoidgame.core.Input;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SimulationStepBenchmark — Todo lo que hace el hilo de simulación en un
+ * frame: paso del mundo (con sus eventos), explosiones y captura de la
+ * instantánea para el render. Partida continua con el piloto automático,
+ * incluidos cambios de nivel y reinicios.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SimulationStepBenchmark implements GameEvents {
+
+    @Param({ "1", "3", "5" })
+    public int level;
+
+    @Param({ "720", "1440" })
+    public float ballSpeed;
+
+    private final Autopilot pilot = new Autopilot();
+    private final Input input = new Input();
+    private final ExplosionPool explosions = new ExplosionPool();
+    private final FrameSnapshot snapshot = new FrameSnapshot(ExplosionPool.DEFAULT_CAPACITY);
+    private GameWorld world;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = Worlds.create();
+        world.setEvents(this);
+        explosions.clear();
+        Worlds.startPlaying(world, level, ballSpeed, input);
+    }
+
+    @Override
+    public void onBlockDestroyed(int block) {
+        BlockField blocks = world.getBlocks();
+        explosions.start(blocks.centerX(block), blocks.centerY(block));
+    }
+
+    @Benchmark
+    public long frame() {
+        if (world.getState() == GameState.WAITING) Worlds.relaunch(world, ballSpeed, input);
+        pilot.fill(world, input);
+        world.step(input);
+        explosions.update(Worlds.STEP);
+        snapshot.capture(world, explosions, 0L);
+        return snapshot.frame;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.arkanoidgame.benchmark;
+
+import com.example.arkanoidgame.core.Ball;
+import com.example.arkanoidgame.core.GameState;
+import com.example.arkanoidgame.core.GameWorld;
+import com.example.arkanoidgame.core.Input;
+
+/**
+ * Worlds — Preparación común de los benchmarks: un mundo del tamaño de
+ * una pantalla típica, en un nivel dado y con la pelota a una velocidad dada.
+ */
+final class Worlds {
+
+    static final int   WIDTH  = 1080;
+    static final int   HEIGHT = 1920;
+    static final float STEP   = 1f / 60;
+
+    private Worlds() {}
+
+    static GameWorld create() {
+        return new GameWorld(WIDTH, HEIGHT, STEP);
+    }
+
+    /** Carga el nivel, fija la velocidad de la pelota y la lanza */
+    static void startPlaying(GameWorld world, int level, float ballSpeed, Input input) {
+        world.startLevel(level);
+        relaunch(world, ballSpeed, input);
+    }
+
+    /** Tras perder la pelota: recupera la velocidad y vuelve a lanzar */
+    static void relaunch(GameWorld world, float ballSpeed, Input input) {
+        Ball ball = world.getBall();
+        ball.increaseSpeed(ballSpeed - ball.getSpeed());
+        if (world.getState() == GameState.WAITING) {
+            input.clear();
+            input.tap = true;
+            world.step(input);
+            input.clear();
+        }
+    }
+}